@@ -54,19 +54,20 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<M
     
     @Override
     public void encode(final ChannelHandlerContext context, final MySQLPacket message, final ByteBuf out) {
-        MySQLPacketPayload payload = new MySQLPacketPayload(context.alloc().buffer());
+        int headerIndex = out.writerIndex();
+        out.writeMediumLE(0);
+        out.writeByte(message.getSequenceId());
+        int payloadIndex = out.writerIndex();
+        MySQLPacketPayload payload = new MySQLPacketPayload(out);
         try {
             message.write(payload);
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
-            payload.getByteBuf().resetWriterIndex();
+            out.writerIndex(payloadIndex);
             new MySQLErrPacket(1, CommonErrorCode.UNKNOWN_EXCEPTION, ex.getMessage()).write(payload);
         } finally {
-            out.writeMediumLE(payload.getByteBuf().readableBytes());
-            out.writeByte(message.getSequenceId());
-            out.writeBytes(payload.getByteBuf());
-            payload.close();
+            out.setMediumLE(headerIndex, out.writerIndex() - payloadIndex);
         }
     }
     
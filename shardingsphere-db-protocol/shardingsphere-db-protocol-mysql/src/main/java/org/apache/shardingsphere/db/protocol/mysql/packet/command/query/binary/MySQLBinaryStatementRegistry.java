@@ -32,11 +32,7 @@ public final class MySQLBinaryStatementRegistry {
     
     private static final MySQLBinaryStatementRegistry INSTANCE = new MySQLBinaryStatementRegistry();
     
-    private final ConcurrentMap<String, Integer> statementIdAssigner = new ConcurrentHashMap<>(65535, 1);
-    
-    private final ConcurrentMap<Integer, MySQLBinaryStatement> binaryStatements = new ConcurrentHashMap<>(65535, 1);
-    
-    private final AtomicInteger sequence = new AtomicInteger();
+    private final ConcurrentMap<Integer, MySQLConnectionBinaryStatementRegistry> connectionBinaryStatements = new ConcurrentHashMap<>();
     
     /**
      * Get prepared statement registry instance.
@@ -50,40 +46,66 @@ public final class MySQLBinaryStatementRegistry {
     /**
      * Register.
      *
+     * @param connectionId connection ID
+     */
+    public void register(final int connectionId) {
+        connectionBinaryStatements.put(connectionId, new MySQLConnectionBinaryStatementRegistry());
+    }
+    
+    /**
+     * Register.
+     *
+     * @param connectionId connection ID
      * @param sql SQL
      * @param parameterCount parameter count
      * @return statement ID
      */
-    public synchronized int register(final String sql, final int parameterCount) {
-        Integer result = statementIdAssigner.get(sql);
-        if (null != result) {
-            return result;
-        }
-        result = sequence.incrementAndGet();
-        statementIdAssigner.putIfAbsent(sql, result);
-        binaryStatements.putIfAbsent(result, new MySQLBinaryStatement(sql, parameterCount));
-        return result;
+    public int register(final int connectionId, final String sql, final int parameterCount) {
+        return connectionBinaryStatements.get(connectionId).register(sql, parameterCount);
     }
     
     /**
      * Get binary statement.
      *
+     * @param connectionId connection ID
      * @param statementId statement ID
      * @return binary prepared statement
      */
-    public MySQLBinaryStatement get(final int statementId) {
-        return binaryStatements.get(statementId);
+    public MySQLBinaryStatement get(final int connectionId, final int statementId) {
+        return connectionBinaryStatements.get(connectionId).binaryStatements.get(statementId);
     }
     
     /**
      * Unregister.
      *
+     * @param connectionId connection ID
+     */
+    public void unregister(final int connectionId) {
+        connectionBinaryStatements.remove(connectionId);
+    }
+    
+    /**
+     * Unregister.
+     *
+     * @param connectionId connection ID
      * @param statementId statement ID
      */
-    public synchronized void unregister(final int statementId) {
-        if (binaryStatements.containsKey(statementId)) {
-            statementIdAssigner.remove(binaryStatements.get(statementId).getSql());
-            binaryStatements.remove(statementId);
+    public void unregister(final int connectionId, final int statementId) {
+        if (connectionBinaryStatements.containsKey(connectionId)) {
+            connectionBinaryStatements.get(connectionId).binaryStatements.remove(statementId);
+        }
+    }
+    
+    private static final class MySQLConnectionBinaryStatementRegistry {
+        
+        private final ConcurrentMap<Integer, MySQLBinaryStatement> binaryStatements = new ConcurrentHashMap<>();
+        
+        private final AtomicInteger sequence = new AtomicInteger();
+        
+        private int register(final String sql, final int parameterCount) {
+            int result = sequence.incrementAndGet();
+            binaryStatements.put(result, new MySQLBinaryStatement(sql, parameterCount));
+            return result;
         }
     }
 }
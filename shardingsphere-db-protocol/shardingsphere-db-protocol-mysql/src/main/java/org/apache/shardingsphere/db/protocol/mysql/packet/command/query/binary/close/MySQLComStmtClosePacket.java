@@ -42,8 +42,10 @@ public final class MySQLComStmtClosePacket extends MySQLCommandPacket {
     
     /**
      * Remove cached statement.
+     *
+     * @param connectionId connection ID
      */
-    public void removeCachedStatement() {
-        MySQLBinaryStatementRegistry.getInstance().unregister(statementId);
+    public void removeCachedStatement(final int connectionId) {
+        MySQLBinaryStatementRegistry.getInstance().unregister(connectionId, statementId);
     }
 }
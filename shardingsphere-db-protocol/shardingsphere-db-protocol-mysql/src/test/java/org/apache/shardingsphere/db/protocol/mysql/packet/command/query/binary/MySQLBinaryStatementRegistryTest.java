@@ -31,33 +31,54 @@ public final class MySQLBinaryStatementRegistryTest {
     private final String sql = "SELECT * FROM tbl WHERE id=?";
     
     @Before
+    public void setUp() {
+        BinaryStatementRegistryUtil.reset();
+        MySQLBinaryStatementRegistry.getInstance().register(1);
+    }
+    
     @After
-    public void reset() {
+    public void tearDown() {
         BinaryStatementRegistryUtil.reset();
     }
     
     @Test
-    public void assertRegisterIfAbsent() {
-        assertThat(MySQLBinaryStatementRegistry.getInstance().register(sql, 1), is(1));
-        MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().get(1);
+    public void assertRegister() {
+        assertThat(MySQLBinaryStatementRegistry.getInstance().register(1, sql, 1), is(1));
+        MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().get(1, 1);
         assertThat(actual.getSql(), is(sql));
         assertThat(actual.getParameterCount(), is(1));
     }
     
     @Test
-    public void assertRegisterIfPresent() {
-        assertThat(MySQLBinaryStatementRegistry.getInstance().register(sql, 1), is(1));
-        assertThat(MySQLBinaryStatementRegistry.getInstance().register(sql, 1), is(1));
-        MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().get(1);
-        assertThat(actual.getSql(), is(sql));
-        assertThat(actual.getParameterCount(), is(1));
+    public void assertRegisterSameSQLTwice() {
+        assertThat(MySQLBinaryStatementRegistry.getInstance().register(1, sql, 1), is(1));
+        assertThat(MySQLBinaryStatementRegistry.getInstance().register(1, sql, 1), is(2));
+        assertThat(MySQLBinaryStatementRegistry.getInstance().get(1, 1).getSql(), is(sql));
+        assertThat(MySQLBinaryStatementRegistry.getInstance().get(1, 2).getSql(), is(sql));
+    }
+    
+    @Test
+    public void assertRegisterWithDifferentConnections() {
+        MySQLBinaryStatementRegistry.getInstance().register(2);
+        assertThat(MySQLBinaryStatementRegistry.getInstance().register(1, sql, 1), is(1));
+        assertThat(MySQLBinaryStatementRegistry.getInstance().register(2, "SELECT 1", 0), is(1));
+        assertThat(MySQLBinaryStatementRegistry.getInstance().get(1, 1).getSql(), is(sql));
+        assertThat(MySQLBinaryStatementRegistry.getInstance().get(2, 1).getSql(), is("SELECT 1"));
+    }
+    
+    @Test
+    public void assertUnregisterStatement() {
+        MySQLBinaryStatementRegistry.getInstance().register(1, sql, 1);
+        MySQLBinaryStatementRegistry.getInstance().unregister(1, 1);
+        assertNull(MySQLBinaryStatementRegistry.getInstance().get(1, 1));
     }
     
     @Test
-    public void assertUnregisterIfPresent() {
-        MySQLBinaryStatementRegistry.getInstance().register(sql, 1);
+    public void assertUnregisterConnection() {
+        MySQLBinaryStatementRegistry.getInstance().register(1, sql, 1);
         MySQLBinaryStatementRegistry.getInstance().unregister(1);
-        MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().get(1);
-        assertNull(actual);
+        MySQLBinaryStatementRegistry.getInstance().unregister(1, 1);
+        MySQLBinaryStatementRegistry.getInstance().register(1);
+        assertNull(MySQLBinaryStatementRegistry.getInstance().get(1, 1));
     }
 }
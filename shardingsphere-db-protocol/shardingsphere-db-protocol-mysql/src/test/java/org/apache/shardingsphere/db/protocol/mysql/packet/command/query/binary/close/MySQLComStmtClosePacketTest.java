@@ -51,6 +51,6 @@ public final class MySQLComStmtClosePacketTest {
     public void assertRemoveCachedStatement() {
         when(payload.readInt4()).thenReturn(1);
         MySQLComStmtClosePacket actual = new MySQLComStmtClosePacket(payload);
-        actual.removeCachedStatement();
+        actual.removeCachedStatement(1);
     }
 }
@@ -24,7 +24,6 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.M
 
 import java.lang.reflect.Field;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class BinaryStatementRegistryUtil {
@@ -34,14 +33,8 @@ public final class BinaryStatementRegistryUtil {
      */
     @SneakyThrows(ReflectiveOperationException.class)
     public static void reset() {
-        Field statementIdAssignerField = MySQLBinaryStatementRegistry.class.getDeclaredField("statementIdAssigner");
-        statementIdAssignerField.setAccessible(true);
-        ((Map) statementIdAssignerField.get(MySQLBinaryStatementRegistry.getInstance())).clear();
-        Field binaryStatementsField = MySQLBinaryStatementRegistry.class.getDeclaredField("binaryStatements");
-        binaryStatementsField.setAccessible(true);
-        ((Map) binaryStatementsField.get(MySQLBinaryStatementRegistry.getInstance())).clear();
-        Field sequenceField = MySQLBinaryStatementRegistry.class.getDeclaredField("sequence");
-        sequenceField.setAccessible(true);
-        ((AtomicInteger) sequenceField.get(MySQLBinaryStatementRegistry.getInstance())).set(0);
+        Field connectionBinaryStatementsField = MySQLBinaryStatementRegistry.class.getDeclaredField("connectionBinaryStatements");
+        connectionBinaryStatementsField.setAccessible(true);
+        ((Map) connectionBinaryStatementsField.get(MySQLBinaryStatementRegistry.getInstance())).clear();
     }
 }
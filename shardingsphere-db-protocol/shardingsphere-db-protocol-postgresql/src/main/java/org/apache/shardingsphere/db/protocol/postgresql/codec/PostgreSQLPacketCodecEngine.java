@@ -64,24 +64,28 @@ public final class PostgreSQLPacketCodecEngine implements DatabasePacketCodecEng
     
     @Override
     public void encode(final ChannelHandlerContext context, final PostgreSQLPacket message, final ByteBuf out) {
-        PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(context.alloc().buffer());
+        boolean isIdentifierPacket = message instanceof PostgreSQLIdentifierPacket;
+        int lengthIndex = out.writerIndex() + MESSAGE_TYPE_LENGTH;
+        if (isIdentifierPacket) {
+            out.writeByte(((PostgreSQLIdentifierPacket) message).getIdentifier().getValue());
+            out.writeInt(0);
+        }
+        int payloadIndex = out.writerIndex();
+        PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(out);
         try {
             message.write(payload);
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
-            payload.getByteBuf().resetWriterIndex();
+            out.writerIndex(payloadIndex);
             // TODO consider what severity to use
             PostgreSQLErrorResponsePacket errorResponsePacket = PostgreSQLErrorResponsePacket.newBuilder(PostgreSQLMessageSeverityLevel.ERROR, PostgreSQLErrorCode.SYSTEM_ERROR, ex.getMessage())
                     .build();
             errorResponsePacket.write(payload);
         } finally {
-            if (message instanceof PostgreSQLIdentifierPacket) {
-                out.writeByte(((PostgreSQLIdentifierPacket) message).getIdentifier().getValue());
-                out.writeInt(payload.getByteBuf().readableBytes() + PAYLOAD_LENGTH);
+            if (isIdentifierPacket) {
+                out.setInt(lengthIndex, out.writerIndex() - payloadIndex + PAYLOAD_LENGTH);
             }
-            out.writeBytes(payload.getByteBuf());
-            payload.close();
         }
     }
     
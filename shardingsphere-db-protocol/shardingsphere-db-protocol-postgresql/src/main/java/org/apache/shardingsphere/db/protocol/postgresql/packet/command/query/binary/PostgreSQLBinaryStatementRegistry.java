@@ -104,6 +104,6 @@ public final class PostgreSQLBinaryStatementRegistry {
     @Getter
     private final class PostgreSQLConnectionBinaryStatementRegistry {
         
-        private final ConcurrentMap<String, PostgreSQLBinaryStatement> binaryStatements = new ConcurrentHashMap<>(65535, 1);
+        private final ConcurrentMap<String, PostgreSQLBinaryStatement> binaryStatements = new ConcurrentHashMap<>();
     }
 }
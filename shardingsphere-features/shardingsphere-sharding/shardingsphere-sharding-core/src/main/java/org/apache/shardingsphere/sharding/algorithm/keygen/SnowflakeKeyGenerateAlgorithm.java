@@ -23,8 +23,12 @@ import lombok.Setter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Snowflake key generate algorithm.
@@ -36,6 +40,9 @@ import java.util.Properties;
  *     10 bits worker process id.
  *     12 bits auto increment offset in one mills
  * </pre>
+ * 
+ * <p>With {@code lock-free} enabled, milliseconds and sequence are kept in one atomic state word updated by CAS,
+ * and a batch of keys reserves its sequences with a single CAS. The first sequence of each millisecond vibrates by milliseconds instead of by calls.</p>
  */
 public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm {
     
@@ -47,6 +54,8 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private static final String MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS_KEY = "max-tolerate-time-difference-milliseconds";
     
+    private static final String LOCK_FREE_KEY = "lock-free";
+    
     private static final long SEQUENCE_BITS = 12L;
     
     private static final long WORKER_ID_BITS = 10L;
@@ -84,6 +93,10 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private long lastMilliseconds;
     
+    private boolean lockFree;
+    
+    private final AtomicLong lastTimestampAndSequence = new AtomicLong(-1L);
+    
     static {
         Calendar calendar = Calendar.getInstance();
         calendar.set(2016, Calendar.NOVEMBER, 1);
@@ -99,6 +112,7 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
         workerId = getWorkerId();
         maxVibrationOffset = getMaxVibrationOffset();
         maxTolerateTimeDifferenceMilliseconds = getMaxTolerateTimeDifferenceMilliseconds();
+        lockFree = Boolean.parseBoolean(props.getOrDefault(LOCK_FREE_KEY, Boolean.FALSE.toString()).toString());
     }
     
     private long getWorkerId() {
@@ -118,7 +132,49 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     }
     
     @Override
-    public synchronized Comparable<?> generateKey() {
+    public Comparable<?> generateKey() {
+        return lockFree ? generateKeysWithoutLock(1).get(0) : generateKeyWithLock();
+    }
+    
+    @Override
+    public Collection<Comparable<?>> generateKeys(final int count) {
+        return lockFree ? generateKeysWithoutLock(count) : generateKeysWithLock(count);
+    }
+    
+    private synchronized Collection<Comparable<?>> generateKeysWithLock(final int count) {
+        Collection<Comparable<?>> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(generateKeyWithLock());
+        }
+        return result;
+    }
+    
+    private List<Comparable<?>> generateKeysWithoutLock(final int count) {
+        List<Comparable<?>> result = new ArrayList<>(count);
+        while (result.size() < count) {
+            long last = lastTimestampAndSequence.get();
+            long lastTimestamp = last >> SEQUENCE_BITS;
+            long currentTimestamp = timeService.getCurrentMillis() - EPOCH;
+            if (currentTimestamp < lastTimestamp) {
+                Preconditions.checkState(lastTimestamp - currentTimestamp < maxTolerateTimeDifferenceMilliseconds,
+                        "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds", lastTimestamp + EPOCH, currentTimestamp + EPOCH);
+                currentTimestamp = lastTimestamp;
+            }
+            long firstSequence = currentTimestamp == lastTimestamp ? (last & SEQUENCE_MASK) + 1L : currentTimestamp % (maxVibrationOffset + 1);
+            if (firstSequence > SEQUENCE_MASK) {
+                continue;
+            }
+            long lastSequence = Math.min(SEQUENCE_MASK, firstSequence + count - result.size() - 1L);
+            if (lastTimestampAndSequence.compareAndSet(last, currentTimestamp << SEQUENCE_BITS | lastSequence)) {
+                for (long each = firstSequence; each <= lastSequence; each++) {
+                    result.add((currentTimestamp << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | each);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private synchronized Comparable<?> generateKeyWithLock() {
         long currentMilliseconds = timeService.getCurrentMillis();
         if (waitTolerateTimeDifferenceIfNeed(currentMilliseconds)) {
             currentMilliseconds = timeService.getCurrentMillis();
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Index of sharding target names by numeric suffix.
+ * 
+ * <p>A target name matches a suffix value if it ends with the decimal string of the value, which is how modulo and range algorithms pick targets.
+ * Lookup arrays are built once for each collection of available target names and looked up by index afterwards.
+ * Collections of available target names are cached by identity in a bounded least recently used cache.</p>
+ */
+@RequiredArgsConstructor
+public final class ShardingTargetSuffixIndex {
+    
+    private static final long MAX_CACHED_TARGET_NAMES = 256L;
+    
+    private static final int MAX_SUFFIX_DIGITS = 18;
+    
+    private final int suffixCount;
+    
+    private final Cache<Collection<String>, TargetNames> cachedTargetNames = CacheBuilder.newBuilder().weakKeys().maximumSize(MAX_CACHED_TARGET_NAMES).build();
+    
+    /**
+     * Find first target name which matches suffix value.
+     * 
+     * @param availableTargetNames available target names
+     * @param suffix suffix value
+     * @return first matched target name, null if absent
+     */
+    public String findFirst(final Collection<String> availableTargetNames, final long suffix) {
+        if (suffix < 0L || suffix >= suffixCount) {
+            String suffixText = String.valueOf(suffix);
+            return availableTargetNames.stream().filter(each -> each.endsWith(suffixText)).findFirst().orElse(null);
+        }
+        String[] result = getTargetNames(availableTargetNames).targetNames[(int) suffix];
+        return 0 == result.length ? null : result[0];
+    }
+    
+    /**
+     * Find all target names which match suffix value.
+     * 
+     * @param availableTargetNames available target names
+     * @param suffix suffix value
+     * @return matched target names
+     */
+    public Collection<String> findAll(final Collection<String> availableTargetNames, final long suffix) {
+        if (suffix < 0L || suffix >= suffixCount) {
+            String suffixText = String.valueOf(suffix);
+            Collection<String> result = new LinkedList<>();
+            for (String each : availableTargetNames) {
+                if (each.endsWith(suffixText)) {
+                    result.add(each);
+                }
+            }
+            return result;
+        }
+        String[] result = getTargetNames(availableTargetNames).targetNames[(int) suffix];
+        return 1 == result.length ? Collections.singletonList(result[0]) : Arrays.asList(result);
+    }
+    
+    private TargetNames getTargetNames(final Collection<String> availableTargetNames) {
+        TargetNames result = cachedTargetNames.getIfPresent(availableTargetNames);
+        if (null != result && result.size == availableTargetNames.size()) {
+            return result;
+        }
+        result = new TargetNames(availableTargetNames.size(), index(availableTargetNames));
+        cachedTargetNames.put(availableTargetNames, result);
+        return result;
+    }
+    
+    private String[][] index(final Collection<String> availableTargetNames) {
+        List<List<String>> matchedTargetNames = new ArrayList<>(suffixCount);
+        for (int i = 0; i < suffixCount; i++) {
+            matchedTargetNames.add(new ArrayList<>(1));
+        }
+        for (String each : availableTargetNames) {
+            long value = 0L;
+            long weight = 1L;
+            for (int i = each.length() - 1; i >= 0 && each.length() - i <= MAX_SUFFIX_DIGITS && isDigit(each.charAt(i)); i--) {
+                value += (each.charAt(i) - '0') * weight;
+                weight *= 10L;
+                if (value >= suffixCount) {
+                    break;
+                }
+                if ('0' != each.charAt(i) || i == each.length() - 1) {
+                    matchedTargetNames.get((int) value).add(each);
+                }
+            }
+        }
+        String[][] result = new String[suffixCount][];
+        for (int i = 0; i < suffixCount; i++) {
+            result[i] = matchedTargetNames.get(i).toArray(new String[0]);
+        }
+        return result;
+    }
+    
+    private static boolean isDigit(final char value) {
+        return value >= '0' && value <= '9';
+    }
+    
+    @RequiredArgsConstructor
+    private static final class TargetNames {
+        
+        private final int size;
+        
+        private final String[][] targetNames;
+    }
+}
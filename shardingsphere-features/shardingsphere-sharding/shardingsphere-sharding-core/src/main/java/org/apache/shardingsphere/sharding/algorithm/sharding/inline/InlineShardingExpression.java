@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Inline sharding expression.
+ * 
+ * <p>Expression is compiled once and can be evaluated by multiple threads.
+ * Expressions only composed of literals, {@code ${column}} and {@code ${column % n}} are evaluated without Groovy for integral sharding values,
+ * others are evaluated by a Groovy closure which is parsed only once.</p>
+ */
+public final class InlineShardingExpression {
+    
+    private static final Pattern SIMPLE_PLACEHOLDER_PATTERN = Pattern.compile("\\s*([A-Za-z_][A-Za-z0-9_]*)\\s*(?:%\\s*([1-9][0-9]{0,17})\\s*)?");
+    
+    private final String algorithmExpression;
+    
+    private final List<Segment> segments;
+    
+    private volatile Closure<?> closure;
+    
+    public InlineShardingExpression(final String algorithmExpression) {
+        this.algorithmExpression = algorithmExpression;
+        segments = compile(algorithmExpression);
+    }
+    
+    private static List<Segment> compile(final String algorithmExpression) {
+        List<Segment> result = new ArrayList<>();
+        int index = 0;
+        while (index < algorithmExpression.length()) {
+            int start = algorithmExpression.indexOf("${", index);
+            String literal = algorithmExpression.substring(index, -1 == start ? algorithmExpression.length() : start);
+            if (!isPlainLiteral(literal)) {
+                return null;
+            }
+            if (!literal.isEmpty()) {
+                result.add(new Segment(literal, null, 0L));
+            }
+            if (-1 == start) {
+                break;
+            }
+            int stop = algorithmExpression.indexOf('}', start);
+            if (-1 == stop) {
+                return null;
+            }
+            Matcher matcher = SIMPLE_PLACEHOLDER_PATTERN.matcher(algorithmExpression.substring(start + 2, stop));
+            if (!matcher.matches() || "it".equals(matcher.group(1))) {
+                return null;
+            }
+            result.add(new Segment(null, matcher.group(1), null == matcher.group(2) ? 0L : Long.parseLong(matcher.group(2))));
+            index = stop + 1;
+        }
+        return result;
+    }
+    
+    private static boolean isPlainLiteral(final String literal) {
+        return -1 == literal.indexOf('$') && -1 == literal.indexOf('"') && -1 == literal.indexOf('\\') && -1 == literal.indexOf('{') && -1 == literal.indexOf('}');
+    }
+    
+    /**
+     * Evaluate expression with single sharding value.
+     * 
+     * @param columnName column name
+     * @param shardingValue sharding value
+     * @return evaluated result
+     */
+    public String evaluate(final String columnName, final Comparable<?> shardingValue) {
+        return evaluate(Collections.singletonMap(columnName, shardingValue));
+    }
+    
+    /**
+     * Evaluate expression with sharding values.
+     * 
+     * @param shardingValues sharding values, key is column name
+     * @return evaluated result
+     */
+    public String evaluate(final Map<String, ? extends Comparable<?>> shardingValues) {
+        if (null != segments) {
+            String result = evaluateSegments(shardingValues);
+            if (null != result) {
+                return result;
+            }
+        }
+        return evaluateClosure(shardingValues);
+    }
+    
+    private String evaluateSegments(final Map<String, ? extends Comparable<?>> shardingValues) {
+        StringBuilder result = new StringBuilder(algorithmExpression.length() + 8);
+        for (Segment each : segments) {
+            if (null == each.columnName) {
+                result.append(each.literal);
+                continue;
+            }
+            Object value = shardingValues.get(each.columnName);
+            if (!(value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte)) {
+                return null;
+            }
+            if (0L == each.modulus) {
+                result.append(value);
+            } else if (value instanceof Long) {
+                result.append((Long) value % each.modulus);
+            } else if (each.modulus <= Integer.MAX_VALUE) {
+                result.append(((Number) value).intValue() % (int) each.modulus);
+            } else {
+                return null;
+            }
+        }
+        return result.toString();
+    }
+    
+    private String evaluateClosure(final Map<String, ? extends Comparable<?>> shardingValues) {
+        Closure<?> result = getClosure().rehydrate(new Expando(), null, null);
+        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+        for (Entry<String, ? extends Comparable<?>> entry : shardingValues.entrySet()) {
+            result.setProperty(entry.getKey(), entry.getValue());
+        }
+        return result.call().toString();
+    }
+    
+    private Closure<?> getClosure() {
+        if (null == closure) {
+            closure = new InlineExpressionParser(algorithmExpression).evaluateClosure();
+        }
+        return closure;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Segment {
+        
+        private final String literal;
+        
+        private final String columnName;
+        
+        private final long modulus;
+    }
+}
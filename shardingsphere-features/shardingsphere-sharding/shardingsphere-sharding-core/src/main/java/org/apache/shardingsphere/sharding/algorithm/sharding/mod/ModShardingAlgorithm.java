@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingTargetSuffixIndex;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
@@ -43,9 +44,12 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
     
     private int shardingCount;
     
+    private ShardingTargetSuffixIndex targetSuffixIndex;
+    
     @Override
     public void init() {
         shardingCount = getShardingCount();
+        targetSuffixIndex = new ShardingTargetSuffixIndex(shardingCount);
     }
     
     private int getShardingCount() {
@@ -55,12 +59,7 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        for (String each : availableTargetNames) {
-            if (each.endsWith(String.valueOf(getLongValue(shardingValue.getValue()) % shardingCount))) {
-                return each;
-            }
-        }
-        return null;
+        return targetSuffixIndex.findFirst(availableTargetNames, getLongValue(shardingValue.getValue()) % shardingCount);
     }
     
     @Override
@@ -76,11 +75,7 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
     private Collection<String> getAvailableTargetNames(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
         Collection<String> result = new LinkedHashSet<>(availableTargetNames.size());
         for (long i = getLongValue(shardingValue.getValueRange().lowerEndpoint()); i <= getLongValue(shardingValue.getValueRange().upperEndpoint()); i++) {
-            for (String each : availableTargetNames) {
-                if (each.endsWith(String.valueOf(i % shardingCount))) {
-                    result.add(each);
-                }
-            }
+            result.addAll(targetSuffixIndex.findAll(availableTargetNames, i % shardingCount));
         }
         return result;
     }
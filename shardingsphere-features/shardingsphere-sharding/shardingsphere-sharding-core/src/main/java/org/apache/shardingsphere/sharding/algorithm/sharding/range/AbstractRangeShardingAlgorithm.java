@@ -20,16 +20,21 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.range;
 import com.google.common.collect.Range;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingTargetSuffixIndex;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.stream.Collectors;
 
 /**
  * Abstract range sharding algorithm.
@@ -38,6 +43,12 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
     
     private volatile Map<Integer, Range<Long>> partitionRange;
     
+    private volatile int[] sortedPartitions;
+    
+    private volatile long[] sortedLowerEndpoints;
+    
+    private volatile ShardingTargetSuffixIndex targetSuffixIndex;
+    
     @Getter
     @Setter
     private Properties props = new Properties();
@@ -45,13 +56,27 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
     @Override
     public final void init() {
         partitionRange = calculatePartitionRange(props);
+        List<Entry<Integer, Range<Long>>> sortedEntries = partitionRange.entrySet().stream().sorted(
+                Comparator.comparingLong((Entry<Integer, Range<Long>> entry) -> getLowerEndpoint(entry.getValue())).thenComparingLong(entry -> getUpperEndpoint(entry.getValue())))
+                .collect(Collectors.toList());
+        sortedPartitions = sortedEntries.stream().mapToInt(Entry::getKey).toArray();
+        sortedLowerEndpoints = sortedEntries.stream().mapToLong(entry -> getLowerEndpoint(entry.getValue())).toArray();
+        targetSuffixIndex = new ShardingTargetSuffixIndex(partitionRange.keySet().stream().mapToInt(Integer::intValue).max().orElse(-1) + 1);
+    }
+    
+    private long getLowerEndpoint(final Range<Long> range) {
+        return range.hasLowerBound() ? range.lowerEndpoint() : Long.MIN_VALUE;
+    }
+    
+    private long getUpperEndpoint(final Range<Long> range) {
+        return range.hasUpperBound() ? range.upperEndpoint() : Long.MAX_VALUE;
     }
     
     protected abstract Map<Integer, Range<Long>> calculatePartitionRange(Properties props);
     
     @Override
     public final String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Long> shardingValue) {
-        return availableTargetNames.stream().filter(each -> each.endsWith(String.valueOf(getPartition(shardingValue.getValue())))).findFirst().orElse(null);
+        return targetSuffixIndex.findFirst(availableTargetNames, getPartition(shardingValue.getValue()));
     }
     
     @Override
@@ -60,11 +85,7 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
         int firstPartition = getFirstPartition(shardingValue.getValueRange());
         int lastPartition = getLastPartition(shardingValue.getValueRange());
         for (int partition = firstPartition; partition <= lastPartition; partition++) {
-            for (String each : availableTargetNames) {
-                if (each.endsWith(String.valueOf(partition))) {
-                    result.add(each);
-                }
-            }
+            result.addAll(targetSuffixIndex.findAll(availableTargetNames, partition));
         }
         return result;
     }
@@ -78,6 +99,17 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
     }
     
     private Integer getPartition(final Long value) {
+        int index = Arrays.binarySearch(sortedLowerEndpoints, value);
+        if (index < 0) {
+            index = -index - 2;
+        } else {
+            while (index + 1 < sortedLowerEndpoints.length && sortedLowerEndpoints[index + 1] == value) {
+                index++;
+            }
+        }
+        if (index >= 0 && partitionRange.get(sortedPartitions[index]).contains(value)) {
+            return sortedPartitions[index];
+        }
         for (Entry<Integer, Range<Long>> entry : partitionRange.entrySet()) {
             if (entry.getValue().contains(value)) {
                 return entry.getKey();
@@ -0,0 +1,281 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Maps;
+import com.google.common.hash.Hashing;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryRowMergedResult;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.SpillFile;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Merged result for group by which spills to local disk when memory limit exceeded.
+ * 
+ * <p>Groups are aggregated in memory until the estimated size reaches the memory limit, rows of groups that arrive later are hash partitioned into spill files.
+ * Every partition is aggregated alone under the same memory limit, and re-partitioned with another hash seed if it still exceeds the limit.
+ * The sorted runs of all partitions are merged back in order.
+ * Estimated size includes values held by distinct aggregations. Spill files are deleted after they are read completely, or when merged result is closed.</p>
+ */
+public final class GroupBySpillMergedResult extends MemoryRowMergedResult {
+    
+    private static final int PARTITION_COUNT = 16;
+    
+    private static final long GROUP_OVERHEAD_BYTES = 128L;
+    
+    private static final long DISTINCT_VALUE_OVERHEAD_BYTES = 32L;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final long memoryLimit;
+    
+    private final boolean approximateDistinctCount;
+    
+    private final int columnCount;
+    
+    private final GroupByRowComparator comparator;
+    
+    private final Collection<SpillFile> spillFiles = new LinkedList<>();
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                    final ShardingSphereSchema schema, final long memoryLimit, final boolean approximateDistinctCount) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.memoryLimit = memoryLimit;
+        this.approximateDistinctCount = approximateDistinctCount;
+        QueryResult firstQueryResult = queryResults.isEmpty() ? null : queryResults.get(0);
+        columnCount = null == firstQueryResult ? 0 : firstQueryResult.getMetaData().getColumnCount();
+        List<Boolean> valueCaseSensitive = null == firstQueryResult ? Collections.emptyList() : GroupByMemoryMergedResult.getValueCaseSensitive(firstQueryResult, selectStatementContext, schema);
+        comparator = new GroupByRowComparator(selectStatementContext, valueCaseSensitive);
+        try {
+            setMemoryResultSetRows(init(queryResults));
+        } catch (final IOException ex) {
+            close();
+            throw new SQLException(ex);
+        }
+    }
+    
+    private Iterator<MemoryQueryResultRow> init(final List<QueryResult> queryResults) throws SQLException, IOException {
+        PartitionAggregator aggregator = new PartitionAggregator(0);
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                aggregator.add(new MemoryQueryResultRow(each));
+            }
+        }
+        if (!aggregator.isSpilled()) {
+            return aggregator.isEmpty()
+                    ? Collections.singletonList(new MemoryQueryResultRow(GroupByMemoryMergedResult.generateReturnData(selectStatementContext))).iterator()
+                    : aggregator.getSortedRows().iterator();
+        }
+        List<Iterator<MemoryQueryResultRow>> sortedRuns = new LinkedList<>();
+        Deque<SpilledPartition> spilledPartitions = new LinkedList<>();
+        writeSortedRun(aggregator, sortedRuns, spilledPartitions);
+        while (!spilledPartitions.isEmpty()) {
+            SpilledPartition partition = spilledPartitions.pop();
+            aggregator = new PartitionAggregator(partition.getLevel());
+            Iterator<MemoryQueryResultRow> rows = partition.getSpillFile().read();
+            while (rows.hasNext()) {
+                aggregator.add(rows.next());
+            }
+            writeSortedRun(aggregator, sortedRuns, spilledPartitions);
+        }
+        return Iterators.mergeSorted(sortedRuns, comparator);
+    }
+    
+    private void writeSortedRun(final PartitionAggregator aggregator, final List<Iterator<MemoryQueryResultRow>> sortedRuns, final Deque<SpilledPartition> spilledPartitions) throws IOException {
+        SpillFile sortedRun = createSpillFile();
+        for (MemoryQueryResultRow each : aggregator.getSortedRows()) {
+            sortedRun.write(each);
+        }
+        sortedRuns.add(sortedRun.read());
+        for (SpillFile each : aggregator.getPartitions()) {
+            if (null != each) {
+                spilledPartitions.push(new SpilledPartition(each, aggregator.getLevel() + 1));
+            }
+        }
+    }
+    
+    private SpillFile createSpillFile() throws IOException {
+        SpillFile result = new SpillFile(columnCount);
+        spillFiles.add(result);
+        return result;
+    }
+    
+    private long estimateSize(final MemoryQueryResultRow row) {
+        long result = GROUP_OVERHEAD_BYTES;
+        for (int i = 1; i <= columnCount; i++) {
+            result += estimateValueSize(row.getCell(i));
+        }
+        return result;
+    }
+    
+    private long estimateDistinctValuesSize(final MemoryQueryResultRow row) {
+        long result = 0L;
+        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+            if (!(each instanceof AggregationDistinctProjection) || approximateDistinctCount && AggregationType.COUNT == each.getType()) {
+                continue;
+            }
+            if (each.getDerivedAggregationProjections().isEmpty()) {
+                result += DISTINCT_VALUE_OVERHEAD_BYTES + estimateValueSize(row.getCell(each.getIndex()));
+            } else {
+                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
+                    result += DISTINCT_VALUE_OVERHEAD_BYTES + estimateValueSize(row.getCell(derived.getIndex()));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private long estimateValueSize(final Object value) {
+        if (value instanceof String) {
+            return 40L + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return 16L + ((byte[]) value).length;
+        }
+        return 24L;
+    }
+    
+    private void initForFirstGroupByValue(final GroupByValue groupByValue, final MemoryQueryResultRow row,
+                                          final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) {
+        dataMap.put(groupByValue, row);
+        aggregationMap.put(groupByValue, Maps.toMap(selectStatementContext.getProjectionsContext().getAggregationProjections(), 
+            input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection, approximateDistinctCount)));
+    }
+    
+    private void aggregate(final GroupByValue groupByValue, final MemoryQueryResultRow row, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) {
+        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+            List<Comparable<?>> values = new ArrayList<>(2);
+            if (each.getDerivedAggregationProjections().isEmpty()) {
+                values.add(getAggregationValue(row, each));
+            } else {
+                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
+                    values.add(getAggregationValue(row, derived));
+                }
+            }
+            aggregationMap.get(groupByValue).get(each).merge(values);
+        }
+    }
+    
+    private Comparable<?> getAggregationValue(final MemoryQueryResultRow row, final AggregationProjection aggregationProjection) {
+        Object result = row.getCell(aggregationProjection.getIndex());
+        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
+        return (Comparable<?>) result;
+    }
+    
+    @Override
+    public void close() {
+        for (SpillFile each : spillFiles) {
+            each.delete();
+        }
+        spillFiles.clear();
+    }
+    
+    @RequiredArgsConstructor
+    private final class PartitionAggregator {
+        
+        @Getter
+        private final int level;
+        
+        @Getter
+        private final SpillFile[] partitions = new SpillFile[PARTITION_COUNT];
+        
+        private final Collection<OrderByItem> groupByItems = selectStatementContext.getGroupByContext().getItems();
+        
+        private final Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
+        
+        private final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024);
+        
+        private long estimatedSize;
+        
+        @Getter
+        private boolean spilled;
+        
+        void add(final MemoryQueryResultRow row) throws IOException {
+            GroupByValue groupByValue = new GroupByValue(row, groupByItems);
+            if (!dataMap.containsKey(groupByValue)) {
+                if (estimatedSize >= memoryLimit) {
+                    spill(groupByValue, row);
+                    return;
+                }
+                estimatedSize += estimateSize(row);
+                initForFirstGroupByValue(groupByValue, row, dataMap, aggregationMap);
+            }
+            estimatedSize += estimateDistinctValuesSize(row);
+            aggregate(groupByValue, row, aggregationMap);
+        }
+        
+        private void spill(final GroupByValue groupByValue, final MemoryQueryResultRow row) throws IOException {
+            int index = Math.floorMod(Hashing.murmur3_32(level).hashInt(groupByValue.hashCode()).asInt(), PARTITION_COUNT);
+            if (null == partitions[index]) {
+                partitions[index] = createSpillFile();
+            }
+            partitions[index].write(row);
+            spilled = true;
+        }
+        
+        boolean isEmpty() {
+            return dataMap.isEmpty();
+        }
+        
+        List<MemoryQueryResultRow> getSortedRows() {
+            List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.size());
+            for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+                for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+                    entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+                }
+                result.add(entry.getValue());
+            }
+            result.sort(comparator);
+            return result;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class SpilledPartition {
+        
+        private final SpillFile spillFile;
+        
+        private final int level;
+    }
+}
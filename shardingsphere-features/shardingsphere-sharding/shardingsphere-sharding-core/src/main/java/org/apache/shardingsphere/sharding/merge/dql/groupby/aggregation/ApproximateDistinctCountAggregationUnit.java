@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Approximate distinct count aggregation unit based on HyperLogLog.
+ * 
+ * <p>Distinct values are counted exactly until the count reaches the sparse threshold, then converted into HyperLogLog registers with bounded memory.</p>
+ */
+public final class ApproximateDistinctCountAggregationUnit implements AggregationUnit {
+    
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+    
+    private static final int PRECISION = 12;
+    
+    private static final int REGISTER_COUNT = 1 << PRECISION;
+    
+    private static final int SPARSE_THRESHOLD = REGISTER_COUNT / 8;
+    
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+    
+    private Collection<Comparable<?>> values = new HashSet<>();
+    
+    private byte[] registers;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        if (null == registers) {
+            this.values.add(values.get(0));
+            if (this.values.size() > SPARSE_THRESHOLD) {
+                convertToRegisters();
+            }
+            return;
+        }
+        addToRegisters(values.get(0));
+    }
+    
+    private void convertToRegisters() {
+        registers = new byte[REGISTER_COUNT];
+        for (Comparable<?> each : values) {
+            addToRegisters(each);
+        }
+        values = null;
+    }
+    
+    private void addToRegisters(final Comparable<?> value) {
+        long hash = hash(value);
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+    
+    private long hash(final Comparable<?> value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return HASH_FUNCTION.hashLong(((Number) value).longValue()).asLong();
+        }
+        return HASH_FUNCTION.hashUnencodedChars(value.toString()).asLong();
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        return null == registers ? (long) values.size() : estimate();
+    }
+    
+    private long estimate() {
+        double sum = 0;
+        int zeroRegisterCount = 0;
+        for (byte each : registers) {
+            sum += 1.0 / (1L << each);
+            if (0 == each) {
+                zeroRegisterCount++;
+            }
+        }
+        double result = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+        if (result <= 2.5 * REGISTER_COUNT && zeroRegisterCount > 0) {
+            result = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeroRegisterCount);
+        }
+        return Math.round(result);
+    }
+}
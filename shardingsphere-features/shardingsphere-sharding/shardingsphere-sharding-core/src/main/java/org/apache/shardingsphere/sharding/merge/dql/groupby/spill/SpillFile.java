@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Spill file, which holds rows in local temporary file.
+ * 
+ * <p>Rows are written first and then read once, the file is deleted after all rows are read.
+ * Owner of spill file should delete it explicitly if rows are not read completely.</p>
+ */
+public final class SpillFile {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final int columnCount;
+    
+    @Getter
+    private final Path path;
+    
+    private final DataOutputStream output;
+    
+    private DataInputStream input;
+    
+    private int rowCount;
+    
+    public SpillFile(final int columnCount) throws IOException {
+        this.columnCount = columnCount;
+        path = Files.createTempFile("shardingsphere-spill-", ".tmp");
+        output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE));
+    }
+    
+    /**
+     * Write row.
+     * 
+     * @param row row to be written
+     * @throws IOException IO exception
+     */
+    public void write(final MemoryQueryResultRow row) throws IOException {
+        for (int i = 1; i <= columnCount; i++) {
+            SpillValueCodec.write(output, row.getCell(i));
+        }
+        rowCount++;
+    }
+    
+    /**
+     * Finish writing and read rows.
+     * 
+     * @return iterator of written rows
+     * @throws IOException IO exception
+     */
+    public Iterator<MemoryQueryResultRow> read() throws IOException {
+        output.close();
+        input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE));
+        return new SpillFileIterator();
+    }
+    
+    /**
+     * Close streams and delete spill file.
+     */
+    public void delete() {
+        closeQuietly(output);
+        if (null != input) {
+            closeQuietly(input);
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (final IOException ignored) {
+        }
+    }
+    
+    private void closeQuietly(final Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (final IOException ignored) {
+        }
+    }
+    
+    private final class SpillFileIterator implements Iterator<MemoryQueryResultRow> {
+        
+        private int readRowCount;
+        
+        SpillFileIterator() {
+            deleteIfFinished();
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return readRowCount < rowCount;
+        }
+        
+        @Override
+        public MemoryQueryResultRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object[] data = new Object[columnCount];
+            try {
+                for (int i = 0; i < columnCount; i++) {
+                    data[i] = SpillValueCodec.read(input);
+                }
+            } catch (final IOException ex) {
+                throw new ShardingSphereException(ex);
+            }
+            readRowCount++;
+            deleteIfFinished();
+            return new MemoryQueryResultRow(data);
+        }
+        
+        private void deleteIfFinished() {
+            if (!hasNext()) {
+                delete();
+            }
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.OrderByItemSegment;
@@ -45,21 +46,30 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     @Getter
     private final QueryResult queryResult;
     
-    private final Collection<OrderByItem> orderByItems;
+    private final OrderByItem[] orderByItems;
     
     private final List<Boolean> orderValuesCaseSensitive;
     
+    private final long[] longOrderValues;
+    
+    private final double[] doubleOrderValues;
+    
+    private final SortKeyType[] sortKeyTypes;
+    
     private List<Comparable<?>> orderValues;
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
                         final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         this.queryResult = queryResult;
-        this.orderByItems = orderByItems;
+        this.orderByItems = orderByItems.toArray(new OrderByItem[0]);
         orderValuesCaseSensitive = getOrderValuesCaseSensitive(selectStatementContext, schema);
+        longOrderValues = new long[this.orderByItems.length];
+        doubleOrderValues = new double[this.orderByItems.length];
+        sortKeyTypes = new SortKeyType[this.orderByItems.length];
     }
     
     private List<Boolean> getOrderValuesCaseSensitive(final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
-        List<Boolean> result = new ArrayList<>(orderByItems.size());
+        List<Boolean> result = new ArrayList<>(orderByItems.length);
         for (OrderByItem eachOrderByItem : orderByItems) {
             result.add(getOrderValuesCaseSensitiveFromTables(selectStatementContext, schema, eachOrderByItem));
         }
@@ -104,26 +114,56 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     }
     
     private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItem each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
+        List<Comparable<?>> result = new ArrayList<>(orderByItems.length);
+        for (int i = 0; i < orderByItems.length; i++) {
+            Object value = queryResult.getValue(orderByItems[i].getIndex(), Object.class);
             Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
-            result.add((Comparable<?>) value);
+            result.add(extractSortKey(i, (Comparable<?>) value));
         }
         return result;
     }
     
+    private Comparable<?> extractSortKey(final int index, final Comparable<?> value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            sortKeyTypes[index] = SortKeyType.LONG;
+            longOrderValues[index] = ((Number) value).longValue();
+            return value;
+        }
+        if (value instanceof Double || value instanceof Float) {
+            sortKeyTypes[index] = SortKeyType.DOUBLE;
+            doubleOrderValues[index] = ((Number) value).doubleValue();
+            return value;
+        }
+        sortKeyTypes[index] = SortKeyType.COMPARABLE;
+        return value;
+    }
+    
     @Override
     public int compareTo(final OrderByValue o) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtil.compareTo(orderValues.get(i), o.orderValues.get(i), each.getSegment().getOrderDirection(),
-                each.getSegment().getNullOrderDirection(), orderValuesCaseSensitive.get(i));
+        for (int i = 0; i < orderByItems.length; i++) {
+            int result = compareTo(o, i);
             if (0 != result) {
                 return result;
             }
-            i++;
         }
         return 0;
     }
+    
+    private int compareTo(final OrderByValue o, final int index) {
+        OrderDirection orderDirection = orderByItems[index].getSegment().getOrderDirection();
+        if (SortKeyType.LONG == sortKeyTypes[index] && SortKeyType.LONG == o.sortKeyTypes[index]) {
+            int result = Long.compare(longOrderValues[index], o.longOrderValues[index]);
+            return OrderDirection.ASC == orderDirection ? result : -result;
+        }
+        if (SortKeyType.DOUBLE == sortKeyTypes[index] && SortKeyType.DOUBLE == o.sortKeyTypes[index]) {
+            int result = Double.compare(doubleOrderValues[index], o.doubleOrderValues[index]);
+            return OrderDirection.ASC == orderDirection ? result : -result;
+        }
+        return CompareUtil.compareTo(orderValues.get(index), o.orderValues.get(index), orderDirection, orderByItems[index].getSegment().getNullOrderDirection(), orderValuesCaseSensitive.get(index));
+    }
+    
+    private enum SortKeyType {
+        
+        LONG, DOUBLE, COMPARABLE
+    }
 }
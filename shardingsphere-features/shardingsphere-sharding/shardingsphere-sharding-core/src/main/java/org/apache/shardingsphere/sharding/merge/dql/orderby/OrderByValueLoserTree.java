@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loser tree of order by values for k-way merge.
+ * 
+ * <p>Each internal node keeps the loser of its sub tree, so advancing the winner only replays one leaf to root path with log(k) comparisons.
+ * Equal values are returned in order of query results, which keeps the merged order deterministic.</p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private final OrderByValue[] leaves;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] tree;
+    
+    private int remaining;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        leaves = orderByValues.toArray(new OrderByValue[0]);
+        exhausted = new boolean[leaves.length];
+        tree = new int[Math.max(leaves.length, 1)];
+        remaining = leaves.length;
+        if (0 != remaining) {
+            tree[0] = build(1);
+        }
+    }
+    
+    private int build(final int node) {
+        if (node >= leaves.length) {
+            return node - leaves.length;
+        }
+        int left = build(node * 2);
+        int right = build(node * 2 + 1);
+        if (isLess(right, left)) {
+            tree[node] = left;
+            return right;
+        }
+        tree[node] = right;
+        return left;
+    }
+    
+    private boolean isLess(final int left, final int right) {
+        if (exhausted[left]) {
+            return false;
+        }
+        if (exhausted[right]) {
+            return true;
+        }
+        int result = leaves[left].compareTo(leaves[right]);
+        return result < 0 || 0 == result && left < right;
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     * 
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == remaining;
+    }
+    
+    /**
+     * Get current minimum order by value.
+     * 
+     * @return current minimum order by value
+     */
+    public OrderByValue peek() {
+        return leaves[tree[0]];
+    }
+    
+    /**
+     * Move current minimum order by value to next row and find new minimum one.
+     * 
+     * @throws SQLException SQL exception
+     */
+    public void next() throws SQLException {
+        int winner = tree[0];
+        advance(winner);
+        replay(winner);
+    }
+    
+    /**
+     * Skip rows in merged order.
+     * 
+     * <p>The second minimum value bounds the current minimum one, so a run of rows from the same query result is skipped
+     * with one comparison per row, and the tree is only replayed when another query result takes over.</p>
+     * 
+     * @param count count of rows to skip
+     * @return count of skipped rows
+     * @throws SQLException SQL exception
+     */
+    public long skip(final long count) throws SQLException {
+        long result = 0L;
+        while (result < count && !isEmpty()) {
+            int winner = tree[0];
+            int runnerUp = getRunnerUp(winner);
+            do {
+                result++;
+            } while (advance(winner) && result < count && (-1 == runnerUp || isLess(winner, runnerUp)));
+            replay(winner);
+        }
+        return result;
+    }
+    
+    private int getRunnerUp(final int winner) {
+        int result = -1;
+        for (int node = (winner + leaves.length) / 2; node > 0; node /= 2) {
+            if (-1 == result || isLess(tree[node], result)) {
+                result = tree[node];
+            }
+        }
+        return result;
+    }
+    
+    private boolean advance(final int leaf) throws SQLException {
+        if (leaves[leaf].next()) {
+            return true;
+        }
+        exhausted[leaf] = true;
+        remaining--;
+        return false;
+    }
+    
+    private void replay(final int leaf) {
+        int winner = leaf;
+        for (int node = (leaf + leaves.length) / 2; node > 0; node /= 2) {
+            if (isLess(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.stream.StreamMergedResult;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Stream merged result for order by with limit pagination.
+ * 
+ * <p>Every query result is sorted and returns at most offset plus row count rows, so the first row count rows after offset are picked by k-way merge.
+ * Rows before offset are skipped inside the loser tree without switching current query result, and no query result is read after row count rows are returned.</p>
+ */
+public final class TopNOrderByStreamMergedResult extends StreamMergedResult {
+    
+    private final OrderByValueLoserTree orderByValuesQueue;
+    
+    private final long rowCount;
+    
+    private long rowNumber;
+    
+    public TopNOrderByStreamMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                         final ShardingSphereSchema schema, final PaginationContext paginationContext) throws SQLException {
+        orderByValuesQueue = new OrderByValueLoserTree(getOrderByValues(queryResults, selectStatementContext, schema));
+        rowCount = paginationContext.getActualRowCount().orElse(Long.MAX_VALUE);
+        orderByValuesQueue.skip(paginationContext.getActualOffset());
+        setCurrentQueryResult(orderByValuesQueue.isEmpty() ? queryResults.get(0) : orderByValuesQueue.peek().getQueryResult());
+    }
+    
+    private List<OrderByValue> getOrderByValues(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        Collection<OrderByItem> orderByItems = selectStatementContext.getOrderByContext().getItems();
+        List<OrderByValue> result = new ArrayList<>(queryResults.size());
+        for (QueryResult each : queryResults) {
+            OrderByValue orderByValue = new OrderByValue(each, orderByItems, selectStatementContext, schema);
+            if (orderByValue.next()) {
+                result.add(orderByValue);
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (orderByValuesQueue.isEmpty() || rowNumber >= rowCount) {
+            return false;
+        }
+        if (0L != rowNumber++) {
+            orderByValuesQueue.next();
+            if (orderByValuesQueue.isEmpty()) {
+                return false;
+            }
+        }
+        setCurrentQueryResult(orderByValuesQueue.peek().getQueryResult());
+        return true;
+    }
+}
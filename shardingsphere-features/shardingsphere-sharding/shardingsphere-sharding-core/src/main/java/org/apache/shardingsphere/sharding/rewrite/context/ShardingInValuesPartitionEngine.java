@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.context;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.type.WhereAvailable;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.hint.HintManager;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.ShardingInValuesToken;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.standard.StandardShardingStrategy;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.InExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ListExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.util.ExpressionBuilder;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Sharding IN values partition engine.
+ * 
+ * <p>Splits the values of {@code column IN (...)} predicates on sharding columns by route unit,
+ * so that each route unit receives only the values which can be stored in its data nodes.</p>
+ */
+@RequiredArgsConstructor
+public final class ShardingInValuesPartitionEngine {
+    
+    private final ShardingRule shardingRule;
+    
+    private final ShardingSphereSchema schema;
+    
+    private final ConfigurationProperties props;
+    
+    /**
+     * Partition IN values by route unit.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param sql SQL
+     * @param parameters SQL parameters
+     * @param routeContext route context
+     * @return IN values tokens
+     */
+    public Collection<ShardingInValuesToken> partition(final SQLStatementContext<?> sqlStatementContext, final String sql, final List<Object> parameters, final RouteContext routeContext) {
+        if (!(sqlStatementContext instanceof WhereAvailable) || routeContext.getRouteUnits().size() < 2 || HintManager.isInstantiated()) {
+            return Collections.emptyList();
+        }
+        Optional<WhereSegment> whereSegment = ((WhereAvailable) sqlStatementContext).getWhere();
+        if (!whereSegment.isPresent()) {
+            return Collections.emptyList();
+        }
+        Collection<ShardingInValuesToken> result = new LinkedList<>();
+        Collection<Integer> visitedStartIndexes = new HashSet<>();
+        for (AndPredicate each : new ExpressionBuilder(whereSegment.get().getExpr()).extractAndPredicates().getAndPredicates()) {
+            for (ExpressionSegment predicate : each.getPredicates()) {
+                if (predicate instanceof InExpression && visitedStartIndexes.add(predicate.getStartIndex())) {
+                    createInValuesToken(sqlStatementContext, (InExpression) predicate, sql, parameters, routeContext).ifPresent(result::add);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Optional<ShardingInValuesToken> createInValuesToken(final SQLStatementContext<?> sqlStatementContext, final InExpression inExpression, 
+                                                                final String sql, final List<Object> parameters, final RouteContext routeContext) {
+        if (inExpression.isNot() || !(inExpression.getLeft() instanceof ColumnSegment) || !(inExpression.getRight() instanceof ListExpression)) {
+            return Optional.empty();
+        }
+        ColumnSegment columnSegment = (ColumnSegment) inExpression.getLeft();
+        String columnName = columnSegment.getIdentifier().getValue();
+        Optional<String> tableName = sqlStatementContext.getTablesContext().findTableName(columnSegment, schema);
+        if (!tableName.isPresent() || !shardingRule.isShardingColumn(columnName, tableName.get())) {
+            return Optional.empty();
+        }
+        Optional<TableRule> tableRule = shardingRule.findTableRule(tableName.get());
+        if (!tableRule.isPresent()) {
+            return Optional.empty();
+        }
+        ShardingStrategy databaseShardingStrategy = shardingRule.getDatabaseShardingStrategy(tableRule.get());
+        ShardingStrategy tableShardingStrategy = shardingRule.getTableShardingStrategy(tableRule.get());
+        if (!isPartitionable(databaseShardingStrategy, columnName) || !isPartitionable(tableShardingStrategy, columnName)) {
+            return Optional.empty();
+        }
+        List<ExpressionSegment> items = ((ListExpression) inExpression.getRight()).getItems();
+        List<Comparable<?>> values = new ArrayList<>(items.size());
+        List<String> valueTexts = new ArrayList<>(items.size());
+        List<Integer> parameterMarkerIndexes = new ArrayList<>(items.size());
+        for (ExpressionSegment each : items) {
+            Object value;
+            if (each instanceof ParameterMarkerExpressionSegment) {
+                int parameterMarkerIndex = ((ParameterMarkerExpressionSegment) each).getParameterMarkerIndex();
+                value = parameterMarkerIndex < parameters.size() ? parameters.get(parameterMarkerIndex) : null;
+                parameterMarkerIndexes.add(parameterMarkerIndex);
+            } else if (each instanceof LiteralExpressionSegment) {
+                value = ((LiteralExpressionSegment) each).getLiterals();
+                parameterMarkerIndexes.add(-1);
+            } else {
+                return Optional.empty();
+            }
+            if (!(value instanceof Comparable)) {
+                return Optional.empty();
+            }
+            values.add((Comparable<?>) value);
+            valueTexts.add(sql.substring(each.getStartIndex(), each.getStopIndex() + 1));
+        }
+        ShardingInValuesToken result = new ShardingInValuesToken(items.get(0).getStartIndex(), items.get(items.size() - 1).getStopIndex(), valueTexts, parameterMarkerIndexes);
+        ValueRouter valueRouter = new ValueRouter(tableRule.get(), databaseShardingStrategy, tableShardingStrategy, columnName, tableName.get(), values);
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            Optional<RouteMapper> tableMapper = findTableMapper(each, tableName.get());
+            if (tableMapper.isPresent()) {
+                valueRouter.findRoutedValueIndexes(each.getDataSourceMapper().getLogicName(), tableMapper.get().getActualName())
+                        .ifPresent(optional -> result.getRouteUnitValueIndexes().put(each, optional));
+            }
+        }
+        return result.getRouteUnitValueIndexes().isEmpty() ? Optional.empty() : Optional.of(result);
+    }
+    
+    private boolean isPartitionable(final ShardingStrategy shardingStrategy, final String columnName) {
+        return shardingStrategy instanceof StandardShardingStrategy || !shardingStrategy.getShardingColumns().contains(columnName);
+    }
+    
+    private Optional<RouteMapper> findTableMapper(final RouteUnit routeUnit, final String logicTableName) {
+        return routeUnit.getTableMappers().stream().filter(each -> each.getLogicName().equalsIgnoreCase(logicTableName)).findFirst();
+    }
+    
+    @RequiredArgsConstructor
+    private final class ValueRouter {
+        
+        private final TableRule tableRule;
+        
+        private final ShardingStrategy databaseShardingStrategy;
+        
+        private final ShardingStrategy tableShardingStrategy;
+        
+        private final String columnName;
+        
+        private final String tableName;
+        
+        private final List<Comparable<?>> values;
+        
+        private final Map<Integer, Collection<String>> routedDataSources = new HashMap<>();
+        
+        private final Map<String, Map<Integer, Collection<String>>> routedTables = new HashMap<>();
+        
+        private Optional<BitSet> findRoutedValueIndexes(final String dataSourceName, final String actualTableName) {
+            BitSet result = new BitSet(values.size());
+            for (int i = 0; i < values.size(); i++) {
+                if (isRouted(i, dataSourceName, actualTableName)) {
+                    result.set(i);
+                }
+            }
+            return result.isEmpty() || result.cardinality() == values.size() ? Optional.empty() : Optional.of(result);
+        }
+        
+        private boolean isRouted(final int valueIndex, final String dataSourceName, final String actualTableName) {
+            if (databaseShardingStrategy.getShardingColumns().contains(columnName)
+                    && !routedDataSources.computeIfAbsent(valueIndex, key -> doSharding(databaseShardingStrategy, tableRule.getActualDatasourceNames(), key)).contains(dataSourceName)) {
+                return false;
+            }
+            return !tableShardingStrategy.getShardingColumns().contains(columnName) || routedTables.computeIfAbsent(dataSourceName, key -> new HashMap<>())
+                    .computeIfAbsent(valueIndex, key -> doSharding(tableShardingStrategy, tableRule.getActualTableNames(dataSourceName), key)).contains(actualTableName);
+        }
+        
+        private Collection<String> doSharding(final ShardingStrategy shardingStrategy, final Collection<String> availableTargetNames, final int valueIndex) {
+            Collection<ShardingConditionValue> shardingConditionValues = Collections.singletonList(
+                    new ListShardingConditionValue<>(columnName, tableName, Collections.singletonList(values.get(valueIndex))));
+            return shardingStrategy.doSharding(availableTargetNames, shardingConditionValues, props);
+        }
+    }
+}
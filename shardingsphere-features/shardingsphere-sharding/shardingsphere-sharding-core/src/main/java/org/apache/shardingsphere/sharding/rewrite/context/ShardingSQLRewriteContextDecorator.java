@@ -21,13 +21,20 @@ import lombok.Setter;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
+import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.rewriter.ParameterRewriter;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sharding.constant.ShardingOrder;
 import org.apache.shardingsphere.sharding.rewrite.parameter.ShardingParameterRewriterBuilder;
+import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.ShardingInValuesTokenGenerator;
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.ShardingInValuesToken;
 import org.apache.shardingsphere.sharding.rewrite.token.pojo.ShardingTokenGenerateBuilder;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 
+import java.util.Collection;
+import java.util.Collections;
+
 /**
  * SQL rewrite context decorator for sharding.
  */
@@ -46,6 +53,25 @@ public final class ShardingSQLRewriteContextDecorator implements SQLRewriteConte
             }
         }
         sqlRewriteContext.addSQLTokenGenerators(new ShardingTokenGenerateBuilder(shardingRule, routeContext).getSQLTokenGenerators());
+        if (!routeContext.isSingleRouting()) {
+            partitionInValues(shardingRule, props, sqlRewriteContext, routeContext);
+        }
+    }
+    
+    private void partitionInValues(final ShardingRule shardingRule, final ConfigurationProperties props, final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
+        Collection<ShardingInValuesToken> inValuesTokens = new ShardingInValuesPartitionEngine(shardingRule, sqlRewriteContext.getSchema(), props).partition(
+                sqlRewriteContext.getSqlStatementContext(), sqlRewriteContext.getSql(), sqlRewriteContext.getParameters(), routeContext);
+        if (inValuesTokens.isEmpty()) {
+            return;
+        }
+        if (sqlRewriteContext.getParameterBuilder() instanceof StandardParameterBuilder) {
+            for (ShardingInValuesToken each : inValuesTokens) {
+                for (RouteUnit routeUnit : each.getRouteUnitValueIndexes().keySet()) {
+                    ((StandardParameterBuilder) sqlRewriteContext.getParameterBuilder()).addRouteUnitRemovedParameters(routeUnit, each.getRemovedParameterMarkerIndexes(routeUnit));
+                }
+            }
+        }
+        sqlRewriteContext.addSQLTokenGenerators(Collections.singletonList(new ShardingInValuesTokenGenerator(inValuesTokens)));
     }
     
     @Override
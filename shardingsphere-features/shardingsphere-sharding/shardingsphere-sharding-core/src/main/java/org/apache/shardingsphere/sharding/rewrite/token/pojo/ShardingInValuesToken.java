@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.token.pojo;
+
+import com.google.common.base.Joiner;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.RouteUnitAware;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sharding IN values token, which keeps only the values routed to each route unit.
+ */
+public final class ShardingInValuesToken extends SQLToken implements Substitutable, RouteUnitAware {
+    
+    @Getter
+    private final int stopIndex;
+    
+    private final List<String> values;
+    
+    private final List<Integer> parameterMarkerIndexes;
+    
+    @Getter
+    private final Map<RouteUnit, BitSet> routeUnitValueIndexes = new LinkedHashMap<>();
+    
+    public ShardingInValuesToken(final int startIndex, final int stopIndex, final List<String> values, final List<Integer> parameterMarkerIndexes) {
+        super(startIndex);
+        this.stopIndex = stopIndex;
+        this.values = values;
+        this.parameterMarkerIndexes = parameterMarkerIndexes;
+    }
+    
+    /**
+     * Get parameter marker indexes not routed to route unit.
+     *
+     * @param routeUnit route unit
+     * @return parameter marker indexes to be removed for route unit
+     */
+    public Collection<Integer> getRemovedParameterMarkerIndexes(final RouteUnit routeUnit) {
+        Collection<Integer> result = new ArrayList<>();
+        BitSet valueIndexes = routeUnitValueIndexes.get(routeUnit);
+        if (null == valueIndexes) {
+            return result;
+        }
+        for (int i = 0; i < parameterMarkerIndexes.size(); i++) {
+            int parameterMarkerIndex = parameterMarkerIndexes.get(i);
+            if (parameterMarkerIndex >= 0 && !valueIndexes.get(i)) {
+                result.add(parameterMarkerIndex);
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public String toString(final RouteUnit routeUnit) {
+        BitSet valueIndexes = null == routeUnit ? null : routeUnitValueIndexes.get(routeUnit);
+        if (null == valueIndexes) {
+            return toString();
+        }
+        Collection<String> result = new ArrayList<>(valueIndexes.cardinality());
+        for (int i = valueIndexes.nextSetBit(0); i >= 0; i = valueIndexes.nextSetBit(i + 1)) {
+            result.add(values.get(i));
+        }
+        return Joiner.on(", ").join(result);
+    }
+    
+    @Override
+    public String toString() {
+        return Joiner.on(", ").join(values);
+    }
+}
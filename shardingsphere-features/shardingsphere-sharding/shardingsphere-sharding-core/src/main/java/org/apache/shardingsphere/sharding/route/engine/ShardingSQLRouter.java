@@ -22,6 +22,14 @@ import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.route.SQLRouter;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.sharding.algorithm.sharding.complex.ComplexInlineShardingAlgorithm;
+import org.apache.shardingsphere.sharding.algorithm.sharding.datetime.AutoIntervalShardingAlgorithm;
+import org.apache.shardingsphere.sharding.algorithm.sharding.datetime.IntervalShardingAlgorithm;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.InlineShardingAlgorithm;
+import org.apache.shardingsphere.sharding.algorithm.sharding.mod.HashModShardingAlgorithm;
+import org.apache.shardingsphere.sharding.algorithm.sharding.mod.ModShardingAlgorithm;
+import org.apache.shardingsphere.sharding.algorithm.sharding.range.BoundaryBasedRangeShardingAlgorithm;
+import org.apache.shardingsphere.sharding.algorithm.sharding.range.VolumeBasedRangeShardingAlgorithm;
 import org.apache.shardingsphere.sharding.constant.ShardingOrder;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
@@ -34,6 +42,8 @@ import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DMLStatement;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -43,6 +53,10 @@ import java.util.Optional;
  */
 public final class ShardingSQLRouter implements SQLRouter<ShardingRule> {
     
+    private static final Collection<Class<?>> DETERMINISTIC_SHARDING_ALGORITHM_CLASSES = Arrays.asList(InlineShardingAlgorithm.class, ComplexInlineShardingAlgorithm.class, 
+            ModShardingAlgorithm.class, HashModShardingAlgorithm.class, AutoIntervalShardingAlgorithm.class, IntervalShardingAlgorithm.class, 
+            BoundaryBasedRangeShardingAlgorithm.class, VolumeBasedRangeShardingAlgorithm.class);
+    
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
     public RouteContext createRouteContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ShardingRule rule, final ConfigurationProperties props) {
@@ -77,6 +91,11 @@ public final class ShardingSQLRouter implements SQLRouter<ShardingRule> {
         // TODO
     }
     
+    @Override
+    public boolean isRouteContextCacheable(final ShardingRule rule) {
+        return rule.getShardingAlgorithms().values().stream().allMatch(each -> DETERMINISTIC_SHARDING_ALGORITHM_CLASSES.contains(each.getClass()));
+    }
+    
     @Override
     public int getOrder() {
         return ShardingOrder.ORDER;
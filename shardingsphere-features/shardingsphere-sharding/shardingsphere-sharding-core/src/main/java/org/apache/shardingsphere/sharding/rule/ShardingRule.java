@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.rule;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmFactory;
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
@@ -41,6 +42,9 @@ import org.apache.shardingsphere.sharding.api.config.strategy.sharding.NoneShard
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
 import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 
@@ -54,6 +58,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -79,6 +84,9 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
     
     private final Collection<BindingTableRule> bindingTableRules;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, BindingTableRule> logicTableBindingTableRules;
+    
     private final Collection<String> broadcastTables;
     
     private final ShardingStrategyConfiguration defaultDatabaseShardingStrategyConfig;
@@ -103,6 +111,8 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
         defaultKeyGenerateAlgorithm = null == config.getDefaultKeyGenerateStrategy()
                 ? TypedSPIRegistry.getRegisteredService(KeyGenerateAlgorithm.class) : keyGenerators.get(config.getDefaultKeyGenerateStrategy().getKeyGeneratorName());
         defaultShardingColumn = config.getDefaultShardingColumn();
+        logicTableBindingTableRules = createLogicTableBindingTableRules(bindingTableRules);
+        tableRules.values().forEach(this::initShardingStrategies);
     }
     
     public ShardingRule(final AlgorithmProvidedShardingRuleConfiguration config, final Map<String, DataSource> dataSourceMap) {
@@ -119,6 +129,8 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
         defaultKeyGenerateAlgorithm = null == config.getDefaultKeyGenerateStrategy()
                 ? TypedSPIRegistry.getRegisteredService(KeyGenerateAlgorithm.class) : keyGenerators.get(config.getDefaultKeyGenerateStrategy().getKeyGeneratorName());
         defaultShardingColumn = config.getDefaultShardingColumn();
+        logicTableBindingTableRules = createLogicTableBindingTableRules(bindingTableRules);
+        tableRules.values().forEach(this::initShardingStrategies);
     }
     
     private Collection<String> getDataSourceNames(final Collection<ShardingTableRuleConfiguration> tableRuleConfigs, 
@@ -184,6 +196,24 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
         return result;
     }
     
+    private Map<String, BindingTableRule> createLogicTableBindingTableRules(final Collection<BindingTableRule> bindingTableRules) {
+        Map<String, BindingTableRule> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (BindingTableRule each : bindingTableRules) {
+            each.getAllLogicTables().forEach(logicTable -> result.putIfAbsent(logicTable, each));
+        }
+        return result;
+    }
+    
+    private void initShardingStrategies(final TableRule tableRule) {
+        tableRule.setDatabaseShardingStrategy(createShardingStrategy(getDatabaseShardingStrategyConfiguration(tableRule)));
+        tableRule.setTableShardingStrategy(createShardingStrategy(getTableShardingStrategyConfiguration(tableRule)));
+    }
+    
+    private ShardingStrategy createShardingStrategy(final ShardingStrategyConfiguration shardingStrategyConfig) {
+        return null == shardingStrategyConfig ? new NoneShardingStrategy()
+                : ShardingStrategyFactory.newInstance(shardingStrategyConfig, shardingAlgorithms.get(shardingStrategyConfig.getShardingAlgorithmName()), defaultShardingColumn);
+    }
+    
     @Override
     public Collection<String> getAllTables() {
         Collection<String> result = new HashSet<>(getTables());
@@ -212,6 +242,26 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
         return null == tableRule.getTableShardingStrategyConfig() ? defaultTableShardingStrategyConfig : tableRule.getTableShardingStrategyConfig();
     }
     
+    /**
+     * Get database sharding strategy.
+     *
+     * @param tableRule table rule
+     * @return database sharding strategy
+     */
+    public ShardingStrategy getDatabaseShardingStrategy(final TableRule tableRule) {
+        return null == tableRule.getDatabaseShardingStrategy() ? createShardingStrategy(getDatabaseShardingStrategyConfiguration(tableRule)) : tableRule.getDatabaseShardingStrategy();
+    }
+    
+    /**
+     * Get table sharding strategy.
+     *
+     * @param tableRule table rule
+     * @return table sharding strategy
+     */
+    public ShardingStrategy getTableShardingStrategy(final TableRule tableRule) {
+        return null == tableRule.getTableShardingStrategy() ? createShardingStrategy(getTableShardingStrategyConfiguration(tableRule)) : tableRule.getTableShardingStrategy();
+    }
+    
     /**
      * Find table rule.
      *
@@ -279,7 +329,7 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
      * @return binding table rule
      */
     public Optional<BindingTableRule> findBindingTableRule(final String logicTableName) {
-        return bindingTableRules.stream().filter(each -> each.hasLogicTable(logicTableName)).findFirst();
+        return Optional.ofNullable(logicTableBindingTableRules.get(logicTableName));
     }
     
     /**
@@ -407,12 +457,26 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
      * @return generated key
      */
     public Comparable<?> generateKey(final String logicTableName) {
+        return getKeyGenerateAlgorithm(logicTableName).generateKey();
+    }
+    
+    /**
+     * Generate keys.
+     *
+     * @param logicTableName logic table name
+     * @param count count of keys to be generated
+     * @return generated keys
+     */
+    public Collection<Comparable<?>> generateKeys(final String logicTableName, final int count) {
+        return getKeyGenerateAlgorithm(logicTableName).generateKeys(count);
+    }
+    
+    private KeyGenerateAlgorithm getKeyGenerateAlgorithm(final String logicTableName) {
         Optional<TableRule> tableRule = findTableRule(logicTableName);
         if (!tableRule.isPresent()) {
             throw new ShardingSphereConfigurationException("Cannot find strategy for generate keys.");
         }
-        KeyGenerateAlgorithm keyGenerator = null != tableRule.get().getKeyGeneratorName() ? keyGenerators.get(tableRule.get().getKeyGeneratorName()) : defaultKeyGenerateAlgorithm;
-        return keyGenerator.generateKey();
+        return null != tableRule.get().getKeyGeneratorName() ? keyGenerators.get(tableRule.get().getKeyGeneratorName()) : defaultKeyGenerateAlgorithm;
     }
     
     /**
@@ -32,10 +32,12 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class SnowflakeKeyGenerateAlgorithmTest {
     
@@ -161,6 +163,83 @@ public final class SnowflakeKeyGenerateAlgorithmTest {
         assertThat(actual, is(expected));
     }
     
+    @Test
+    public void assertGenerateKeyWithLockFreeAndSingleThread() {
+        SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = createLockFreeKeyGenerateAlgorithm();
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        List<Comparable<?>> expected = Arrays.asList(0L, 4194305L, 4194306L, 8388608L, 8388609L, 12582913L, 12582914L, 16777216L, 16777217L, 20971521L);
+        List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
+        for (int i = 0; i < DEFAULT_KEY_AMOUNT; i++) {
+            actual.add(keyGenerateAlgorithm.generateKey());
+        }
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    public void assertGenerateKeysWithLockFree() {
+        SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = createLockFreeKeyGenerateAlgorithm();
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(3));
+        assertThat(new ArrayList<>(keyGenerateAlgorithm.generateKeys(3)), is(Arrays.<Comparable<?>>asList(0L, 1L, 2L)));
+        List<Comparable<?>> actual = new ArrayList<>(keyGenerateAlgorithm.generateKeys(4094));
+        assertThat(actual.size(), is(4094));
+        assertThat(actual.get(0), is(3L));
+        assertThat(actual.get(4092), is(4095L));
+        assertThat(actual.get(4093), is(4194305L));
+    }
+    
+    @Test
+    public void assertGenerateKeyWithLockFreeAndMultipleThreads() throws ExecutionException, InterruptedException {
+        int threadNumber = Runtime.getRuntime().availableProcessors() << 1;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+        SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = createLockFreeKeyGenerateAlgorithm();
+        List<Future<List<Long>>> futures = new ArrayList<>(threadNumber);
+        for (int i = 0; i < threadNumber; i++) {
+            futures.add(executor.submit(() -> {
+                List<Long> result = new ArrayList<>(10000);
+                for (int j = 0; j < 10000; j++) {
+                    result.add((Long) keyGenerateAlgorithm.generateKey());
+                }
+                return result;
+            }));
+        }
+        Set<Long> actual = new HashSet<>(threadNumber * 10000, 1);
+        for (Future<List<Long>> each : futures) {
+            List<Long> keys = each.get();
+            for (int i = 1; i < keys.size(); i++) {
+                assertTrue(keys.get(i) > keys.get(i - 1));
+            }
+            actual.addAll(keys);
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(threadNumber * 10000));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertGenerateKeyWithLockFreeAndClockCallBackBeyondTolerateTime() {
+        SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = createLockFreeKeyGenerateAlgorithm();
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        keyGenerateAlgorithm.generateKey();
+        keyGenerateAlgorithm.generateKey();
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService() {
+            
+            @Override
+            public long getCurrentMillis() {
+                return SnowflakeKeyGenerateAlgorithm.EPOCH - 20L;
+            }
+        });
+        keyGenerateAlgorithm.generateKey();
+    }
+    
+    private SnowflakeKeyGenerateAlgorithm createLockFreeKeyGenerateAlgorithm() {
+        SnowflakeKeyGenerateAlgorithm result = new SnowflakeKeyGenerateAlgorithm();
+        Properties props = new Properties();
+        props.setProperty("lock-free", Boolean.TRUE.toString());
+        result.setProps(props);
+        result.init();
+        return result;
+    }
+    
     @SneakyThrows(ReflectiveOperationException.class)
     private void setSequence(final SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm, final Number value) {
         Field sequence = SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("sequence");
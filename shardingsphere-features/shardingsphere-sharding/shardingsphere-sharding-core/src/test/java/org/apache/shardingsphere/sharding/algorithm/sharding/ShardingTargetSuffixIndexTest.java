@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class ShardingTargetSuffixIndexTest {
+    
+    @Test
+    public void assertFindFirst() {
+        ShardingTargetSuffixIndex index = new ShardingTargetSuffixIndex(16);
+        Collection<String> availableTargetNames = Arrays.asList("t_order_11", "t_order_1", "t_order_10", "t_order_0");
+        assertThat(index.findFirst(availableTargetNames, 1L), is("t_order_11"));
+        assertThat(index.findFirst(availableTargetNames, 0L), is("t_order_10"));
+        assertThat(index.findFirst(availableTargetNames, 10L), is("t_order_10"));
+        assertNull(index.findFirst(availableTargetNames, 2L));
+    }
+    
+    @Test
+    public void assertFindFirstOutOfSuffixCount() {
+        ShardingTargetSuffixIndex index = new ShardingTargetSuffixIndex(2);
+        Collection<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_-1", "t_order_5");
+        assertThat(index.findFirst(availableTargetNames, -1L), is("t_order_-1"));
+        assertThat(index.findFirst(availableTargetNames, 5L), is("t_order_5"));
+    }
+    
+    @Test
+    public void assertFindAll() {
+        ShardingTargetSuffixIndex index = new ShardingTargetSuffixIndex(4);
+        Collection<String> availableTargetNames = Arrays.asList("ds_0.t_0", "t_01", "t_1", "t_21", "t_2");
+        assertThat(index.findAll(availableTargetNames, 1L), is(Arrays.asList("t_01", "t_1", "t_21")));
+        assertThat(index.findAll(availableTargetNames, 0L), is(Arrays.asList("ds_0.t_0")));
+        assertThat(index.findAll(availableTargetNames, 3L).isEmpty(), is(true));
+    }
+    
+    @Test
+    public void assertSameAsEndsWith() {
+        List<String> availableTargetNames = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            availableTargetNames.add("t_order_" + i);
+            availableTargetNames.add("t_order_0" + i);
+        }
+        availableTargetNames.add("t_order");
+        availableTargetNames.add("t_order_100000000000000000000");
+        ShardingTargetSuffixIndex index = new ShardingTargetSuffixIndex(100);
+        for (long i = 0; i < 100; i++) {
+            String suffix = String.valueOf(i);
+            Collection<String> expected = new LinkedList<>();
+            for (String each : availableTargetNames) {
+                if (each.endsWith(suffix)) {
+                    expected.add(each);
+                }
+            }
+            assertThat(new ArrayList<>(index.findAll(availableTargetNames, i)), is(new ArrayList<>(expected)));
+            assertThat(index.findFirst(availableTargetNames, i), is(expected.iterator().next()));
+        }
+    }
+    
+    @Test
+    public void assertRebuildAfterTargetNamesChanged() {
+        ShardingTargetSuffixIndex index = new ShardingTargetSuffixIndex(4);
+        List<String> availableTargetNames = new ArrayList<>(Arrays.asList("t_0", "t_1"));
+        assertNull(index.findFirst(availableTargetNames, 2L));
+        availableTargetNames.add("t_2");
+        assertThat(index.findFirst(availableTargetNames, 2L), is("t_2"));
+    }
+    
+    @Test
+    public void assertFindFirstWithMoreTargetNamesThanCached() {
+        ShardingTargetSuffixIndex index = new ShardingTargetSuffixIndex(4);
+        List<Collection<String>> allAvailableTargetNames = new ArrayList<>(1000);
+        for (int i = 0; i < 1000; i++) {
+            allAvailableTargetNames.add(Arrays.asList("t_" + i % 4, "ds_" + i));
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertThat(index.findFirst(allAvailableTargetNames.get(i), i % 4), is("t_" + i % 4));
+        }
+        assertThat(index.findFirst(allAvailableTargetNames.get(0), 0L), is("t_0"));
+    }
+}
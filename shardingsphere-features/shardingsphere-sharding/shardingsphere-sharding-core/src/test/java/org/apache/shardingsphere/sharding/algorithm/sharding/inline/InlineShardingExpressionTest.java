@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class InlineShardingExpressionTest {
+    
+    @Test
+    public void assertEvaluateWithModulus() {
+        InlineShardingExpression actual = new InlineShardingExpression("t_order_${order_id % 16}");
+        assertThat(actual.evaluate("order_id", 37), is("t_order_5"));
+        assertThat(actual.evaluate("order_id", 37L), is("t_order_5"));
+        assertThat(actual.evaluate("order_id", (short) 37), is("t_order_5"));
+    }
+    
+    @Test
+    public void assertEvaluateWithColumnOnly() {
+        assertThat(new InlineShardingExpression("ds_${value}").evaluate("value", 3), is("ds_3"));
+        assertThat(new InlineShardingExpression("${value}").evaluate("value", "ds_1"), is("ds_1"));
+    }
+    
+    @Test
+    public void assertEvaluateWithMultipleColumns() {
+        Map<String, Comparable<?>> shardingValues = new HashMap<>(2, 1);
+        shardingValues.put("user_id", 3);
+        shardingValues.put("order_id", 10L);
+        assertThat(new InlineShardingExpression("t_order_${user_id % 2}_${ order_id % 4 }").evaluate(shardingValues), is("t_order_1_2"));
+    }
+    
+    @Test
+    public void assertEvaluateSameAsGroovy() {
+        String[] expressions = {"t_order_${order_id % 4}", "t_order_${order_id}", "ds_${order_id % 3}_x"};
+        Comparable<?>[] values = {0, 7, -7, 2147483647, -2147483648, 9223372036854775807L, -9L, (byte) 5};
+        for (String each : expressions) {
+            InlineShardingExpression expression = new InlineShardingExpression(each);
+            for (Comparable<?> value : values) {
+                assertThat(expression.evaluate("order_id", value), is(evaluateByGroovy(each, value)));
+            }
+        }
+    }
+    
+    @Test
+    public void assertEvaluateWithGroovyExpression() {
+        assertThat(new InlineShardingExpression("t_order_${(order_id % 4).intdiv(2)}").evaluate("order_id", 7), is("t_order_1"));
+        assertThat(new InlineShardingExpression("t_order_${order_id.substring(0, 1)}").evaluate("order_id", "abc"), is("t_order_a"));
+    }
+    
+    @Test
+    public void assertEvaluateWithNonIntegralValue() {
+        assertThat(new InlineShardingExpression("t_order_${order_id}").evaluate("order_id", "abc"), is("t_order_abc"));
+        assertThat(new InlineShardingExpression("t_order_${order_id % 4}").evaluate("order_id", new BigInteger("7")), is("t_order_3"));
+    }
+    
+    private String evaluateByGroovy(final String expression, final Comparable<?> value) {
+        Closure<?> closure = new InlineExpressionParser(expression).evaluateClosure().rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        closure.setProperty("order_id", value);
+        return closure.call().toString();
+    }
+}
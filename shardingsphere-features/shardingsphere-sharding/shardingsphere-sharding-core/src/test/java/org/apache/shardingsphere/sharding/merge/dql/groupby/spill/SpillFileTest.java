@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Iterator;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SpillFileTest {
+    
+    @Test
+    public void assertWriteAndRead() throws IOException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        UUID uuid = UUID.randomUUID();
+        Object[] values = {null, true, (byte) 1, (short) 2, 3, 4L, 5.5F, 6.6D, new BigDecimal("7.70"), BigInteger.TEN, "foo_中文", new byte[]{1, 2},
+            new Date(1000L), new Time(2000L), timestamp, new java.util.Date(3000L), LocalDate.of(2021, 1, 1), LocalTime.of(1, 2, 3, 4), LocalDateTime.of(2021, 1, 1, 1, 2, 3, 4), uuid};
+        SpillFile spillFile = new SpillFile(values.length);
+        spillFile.write(new MemoryQueryResultRow(values.clone()));
+        spillFile.write(new MemoryQueryResultRow(new Object[values.length]));
+        Iterator<MemoryQueryResultRow> actual = spillFile.read();
+        assertTrue(actual.hasNext());
+        MemoryQueryResultRow row = actual.next();
+        for (int i = 0; i < values.length; i++) {
+            assertThat(row.getCell(i + 1), is(values[i]));
+        }
+        assertThat(((Timestamp) row.getCell(15)).getNanos(), is(123456789));
+        assertTrue(actual.hasNext());
+        assertNull(actual.next().getCell(1));
+        assertFalse(actual.hasNext());
+    }
+    
+    @Test
+    public void assertReadEmpty() throws IOException {
+        SpillFile spillFile = new SpillFile(1);
+        assertFalse(spillFile.read().hasNext());
+        assertFalse(Files.exists(spillFile.getPath()));
+    }
+    
+    @Test
+    public void assertDeleteBeforeReadCompletely() throws IOException {
+        SpillFile spillFile = new SpillFile(1);
+        spillFile.write(new MemoryQueryResultRow(new Object[]{1}));
+        spillFile.write(new MemoryQueryResultRow(new Object[]{2}));
+        Iterator<MemoryQueryResultRow> actual = spillFile.read();
+        assertThat(actual.next().getCell(1), is(1));
+        assertTrue(Files.exists(spillFile.getPath()));
+        spillFile.delete();
+        assertFalse(Files.exists(spillFile.getPath()));
+    }
+}
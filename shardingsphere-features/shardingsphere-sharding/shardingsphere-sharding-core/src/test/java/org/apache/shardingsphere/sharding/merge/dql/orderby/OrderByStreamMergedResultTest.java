@@ -187,9 +187,33 @@ public final class OrderByStreamMergedResultTest {
         assertTrue(actual.next());
         assertThat(actual.getValue(2, Object.class).toString(), is("A"));
         assertTrue(actual.next());
-        assertThat(actual.getValue(2, Object.class).toString(), is("B"));
-        assertTrue(actual.next());
         assertThat(actual.getValue(2, Object.class).toString(), is("b"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, Object.class).toString(), is("B"));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextForEqualOrderValuesInQueryResultsOrder() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(mock(QueryResult.class), mock(QueryResult.class), mock(QueryResult.class), mock(QueryResult.class), mock(QueryResult.class));
+        for (int i = 0; i < queryResults.size(); i++) {
+            QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+            when(queryResults.get(i).getMetaData()).thenReturn(metaData);
+            when(metaData.getColumnName(1)).thenReturn("col1");
+            when(metaData.getColumnName(2)).thenReturn("col2");
+            when(queryResults.get(i).next()).thenReturn(true, true, false);
+            when(queryResults.get(i).getValue(1, Object.class)).thenReturn(1);
+            when(queryResults.get(i).getValue(2, Object.class)).thenReturn("a");
+            when(queryResults.get(i).getValue(3, Object.class)).thenReturn(i);
+        }
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"));
+        MergedResult actual = resultMerger.merge(queryResults, selectStatementContext, buildSchema());
+        for (int i = 0; i < queryResults.size(); i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(3, Object.class), is(i));
+            assertTrue(actual.next());
+            assertThat(actual.getValue(3, Object.class), is(i));
+        }
         assertFalse(actual.next());
     }
     
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OrderByValueLoserTreeTest {
+    
+    @Test
+    public void assertMergeInOrder() throws SQLException {
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(Arrays.asList(
+                createOrderByValue(1L, 4L, 9L), createOrderByValue(2L, 3L), createOrderByValue(5L), createOrderByValue(0L, 6L, 7L, 8L), createOrderByValue(10L)));
+        List<Object> actual = new ArrayList<>(11);
+        while (!loserTree.isEmpty()) {
+            actual.add(loserTree.peek().getQueryResult().getValue(1, Object.class));
+            loserTree.next();
+        }
+        assertThat(actual, is(Arrays.<Object>asList(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L)));
+    }
+    
+    @Test
+    public void assertMergeSingleOrderByValue() throws SQLException {
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(Collections.singletonList(createOrderByValue(1L)));
+        assertFalse(loserTree.isEmpty());
+        assertThat(loserTree.peek().getQueryResult().getValue(1, Object.class), is(1L));
+        loserTree.next();
+        assertTrue(loserTree.isEmpty());
+    }
+    
+    @Test
+    public void assertSkip() throws SQLException {
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(Arrays.asList(
+                createOrderByValue(1L, 4L, 9L), createOrderByValue(2L, 3L), createOrderByValue(5L), createOrderByValue(0L, 6L, 7L, 8L), createOrderByValue(10L)));
+        assertThat(loserTree.skip(7L), is(7L));
+        assertThat(loserTree.peek().getQueryResult().getValue(1, Object.class), is(7L));
+        loserTree.next();
+        assertThat(loserTree.peek().getQueryResult().getValue(1, Object.class), is(8L));
+        assertThat(loserTree.skip(10L), is(3L));
+        assertTrue(loserTree.isEmpty());
+    }
+    
+    @Test
+    public void assertSkipWithEqualValues() throws SQLException {
+        OrderByValue first = createOrderByValue(1L, 1L, 2L);
+        OrderByValue second = createOrderByValue(1L, 2L);
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(Arrays.asList(first, second));
+        assertThat(loserTree.skip(3L), is(3L));
+        assertThat(loserTree.peek(), is(first));
+        loserTree.next();
+        assertThat(loserTree.peek(), is(second));
+        loserTree.next();
+        assertTrue(loserTree.isEmpty());
+    }
+    
+    @Test
+    public void assertMergeWithoutOrderByValue() {
+        assertTrue(new OrderByValueLoserTree(Collections.emptyList()).isEmpty());
+    }
+    
+    private OrderByValue createOrderByValue(final Long... values) throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        int[] cursor = {-1};
+        when(queryResult.next()).thenAnswer(invocation -> ++cursor[0] < values.length);
+        when(queryResult.getValue(1, Object.class)).thenAnswer(invocation -> values[cursor[0]]);
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class);
+        when(selectStatementContext.getAllTables()).thenReturn(Collections.emptyList());
+        OrderByValue result = new OrderByValue(queryResult, createOrderByItems(), selectStatementContext, mock(ShardingSphereSchema.class));
+        assertTrue(result.next());
+        return result;
+    }
+    
+    private Collection<OrderByItem> createOrderByItems() {
+        OrderByItem result = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC));
+        result.setIndex(1);
+        return Collections.singletonList(result);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class TopNOrderByStreamMergedResultTest {
+    
+    @Test
+    public void assertNextWithOffsetAndRowCount() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(createQueryResult(1L, 4L, 9L), createQueryResult(2L, 3L), createQueryResult(0L, 5L, 6L));
+        MergedResult actual = new TopNOrderByStreamMergedResult(queryResults, createSelectStatementContext(), mock(ShardingSphereSchema.class), createPaginationContext(3L, 3L));
+        assertThat(getValues(actual), is(Arrays.<Object>asList(3L, 4L, 5L)));
+    }
+    
+    @Test
+    public void assertNextWithoutRowCount() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(createQueryResult(1L, 4L), createQueryResult(2L, 3L));
+        MergedResult actual = new TopNOrderByStreamMergedResult(queryResults, createSelectStatementContext(), mock(ShardingSphereSchema.class), createPaginationContext(1L, null));
+        assertThat(getValues(actual), is(Arrays.<Object>asList(2L, 3L, 4L)));
+    }
+    
+    @Test
+    public void assertNextWithOffsetOutOfRange() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(createQueryResult(1L), createQueryResult(2L));
+        MergedResult actual = new TopNOrderByStreamMergedResult(queryResults, createSelectStatementContext(), mock(ShardingSphereSchema.class), createPaginationContext(5L, 2L));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNotPullRowsAfterRowCount() throws SQLException {
+        QueryResult queryResult = createQueryResult(1L, 2L);
+        List<QueryResult> queryResults = Arrays.asList(queryResult, createQueryResult(3L, 4L));
+        MergedResult actual = new TopNOrderByStreamMergedResult(queryResults, createSelectStatementContext(), mock(ShardingSphereSchema.class), createPaginationContext(0L, 1L));
+        assertThat(getValues(actual), is(Collections.<Object>singletonList(1L)));
+        verify(queryResult, times(1)).next();
+    }
+    
+    private List<Object> getValues(final MergedResult mergedResult) throws SQLException {
+        List<Object> result = new ArrayList<>();
+        while (mergedResult.next()) {
+            result.add(mergedResult.getValue(1, Object.class));
+        }
+        assertFalse(mergedResult.next());
+        return result;
+    }
+    
+    private QueryResult createQueryResult(final Long... values) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        int[] cursor = {-1};
+        when(result.next()).thenAnswer(invocation -> ++cursor[0] < values.length);
+        when(result.getValue(1, Object.class)).thenAnswer(invocation -> values[cursor[0]]);
+        return result;
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        OrderByItem orderByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC));
+        orderByItem.setIndex(1);
+        when(result.getOrderByContext().getItems()).thenReturn(Collections.singletonList(orderByItem));
+        when(result.getAllTables()).thenReturn(Collections.emptyList());
+        return result;
+    }
+    
+    private PaginationContext createPaginationContext(final long offset, final Long rowCount) {
+        PaginationContext result = mock(PaginationContext.class);
+        when(result.getActualOffset()).thenReturn(offset);
+        when(result.getActualRowCount()).thenReturn(Optional.ofNullable(rowCount));
+        return result;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine;
+
+import org.apache.shardingsphere.sharding.algorithm.sharding.classbased.ClassBasedShardingAlgorithm;
+import org.apache.shardingsphere.sharding.algorithm.sharding.hint.HintInlineShardingAlgorithm;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.InlineShardingAlgorithm;
+import org.apache.shardingsphere.sharding.algorithm.sharding.mod.ModShardingAlgorithm;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ShardingSQLRouterTest {
+    
+    @Test
+    public void assertIsRouteContextCacheableWithDeterministicShardingAlgorithms() {
+        assertTrue(new ShardingSQLRouter().isRouteContextCacheable(mockShardingRule(new InlineShardingAlgorithm(), new ModShardingAlgorithm())));
+    }
+    
+    @Test
+    public void assertIsRouteContextCacheableWithoutShardingAlgorithms() {
+        assertTrue(new ShardingSQLRouter().isRouteContextCacheable(mockShardingRule()));
+    }
+    
+    @Test
+    public void assertIsRouteContextCacheableWithClassBasedShardingAlgorithm() {
+        assertFalse(new ShardingSQLRouter().isRouteContextCacheable(mockShardingRule(new InlineShardingAlgorithm(), new ClassBasedShardingAlgorithm())));
+    }
+    
+    @Test
+    public void assertIsRouteContextCacheableWithHintShardingAlgorithm() {
+        assertFalse(new ShardingSQLRouter().isRouteContextCacheable(mockShardingRule(new HintInlineShardingAlgorithm())));
+    }
+    
+    @Test
+    public void assertIsRouteContextCacheableWithCustomShardingAlgorithm() {
+        assertFalse(new ShardingSQLRouter().isRouteContextCacheable(mockShardingRule(mock(ShardingAlgorithm.class))));
+    }
+    
+    private ShardingRule mockShardingRule(final ShardingAlgorithm... shardingAlgorithms) {
+        ShardingRule result = mock(ShardingRule.class);
+        Map<String, ShardingAlgorithm> algorithms = new LinkedHashMap<>(shardingAlgorithms.length, 1);
+        for (int i = 0; i < shardingAlgorithms.length; i++) {
+            algorithms.put("algorithm_" + i, shardingAlgorithms[i]);
+        }
+        when(result.getShardingAlgorithms()).thenReturn(algorithms);
+        return result;
+    }
+}
@@ -29,12 +29,16 @@ import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfi
 import org.apache.shardingsphere.sharding.api.config.strategy.keygen.KeyGenerateStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.NoneShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.standard.StandardShardingStrategy;
 import org.junit.Test;
 
 import javax.sql.DataSource;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Properties;
@@ -42,6 +46,7 @@ import java.util.TreeSet;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
@@ -165,6 +170,64 @@ public final class ShardingRuleTest {
         assertThat(actual.findBindingTableRule("logic_Table").get().getTableRules().size(), is(2));
     }
     
+    @Test
+    public void assertGetBindingTableRuleIgnoreCase() {
+        ShardingRule actual = createMaximumShardingRule();
+        assertTrue(actual.findBindingTableRule("LOGIC_TABLE").isPresent());
+        assertThat(actual.findBindingTableRule("Sub_Logic_Table").get(), sameInstance(actual.findBindingTableRule("logic_table").get()));
+    }
+    
+    @Test
+    public void assertGetShardingStrategyWithDefaultStrategy() {
+        ShardingRule actual = createMaximumShardingRule();
+        TableRule tableRule = actual.getTableRule("logic_table");
+        assertThat(actual.getDatabaseShardingStrategy(tableRule), instanceOf(StandardShardingStrategy.class));
+        assertThat(actual.getDatabaseShardingStrategy(tableRule).getShardingColumns().iterator().next(), is("ds_id"));
+        assertThat(actual.getTableShardingStrategy(tableRule), instanceOf(StandardShardingStrategy.class));
+        assertThat(actual.getTableShardingStrategy(tableRule).getShardingColumns().iterator().next(), is("table_id"));
+    }
+    
+    @Test
+    public void assertGetShardingStrategyWithTableStrategy() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTables().add(createTableRuleConfigWithAllStrategies());
+        shardingRuleConfig.setDefaultDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("default_column", "standard"));
+        shardingRuleConfig.setDefaultTableShardingStrategy(new StandardShardingStrategyConfiguration("default_column", "standard"));
+        shardingRuleConfig.getShardingAlgorithms().put("standard", new ShardingSphereAlgorithmConfiguration("STANDARD_TEST", new Properties()));
+        ShardingRule actual = new ShardingRule(shardingRuleConfig, createDataSourceMap());
+        TableRule tableRule = actual.getTableRule("logic_table");
+        assertThat(actual.getDatabaseShardingStrategy(tableRule), instanceOf(StandardShardingStrategy.class));
+        assertThat(actual.getDatabaseShardingStrategy(tableRule).getShardingColumns().iterator().next(), is("column"));
+        assertThat(actual.getTableShardingStrategy(tableRule), instanceOf(NoneShardingStrategy.class));
+    }
+    
+    @Test
+    public void assertGetShardingStrategyWithoutStrategy() {
+        ShardingRule actual = createMinimumShardingRule();
+        TableRule tableRule = actual.getTableRule("logic_table");
+        assertThat(actual.getDatabaseShardingStrategy(tableRule), instanceOf(NoneShardingStrategy.class));
+        assertThat(actual.getTableShardingStrategy(tableRule), instanceOf(NoneShardingStrategy.class));
+    }
+    
+    @Test
+    public void assertGetShardingStrategyFromCache() {
+        ShardingRule actual = createMaximumShardingRule();
+        TableRule tableRule = actual.getTableRule("logic_table");
+        assertThat(actual.getDatabaseShardingStrategy(tableRule), sameInstance(tableRule.getDatabaseShardingStrategy()));
+        assertThat(actual.getDatabaseShardingStrategy(tableRule), sameInstance(actual.getDatabaseShardingStrategy(tableRule)));
+        assertThat(actual.getTableShardingStrategy(tableRule), sameInstance(tableRule.getTableShardingStrategy()));
+        assertThat(actual.getTableShardingStrategy(tableRule), sameInstance(actual.getTableShardingStrategy(tableRule)));
+    }
+    
+    @Test
+    public void assertGetShardingStrategyForBroadcastTable() {
+        ShardingRule actual = createMaximumShardingRule();
+        TableRule tableRule = actual.getTableRule("broadcast_table");
+        assertNull(tableRule.getDatabaseShardingStrategy());
+        assertThat(actual.getDatabaseShardingStrategy(tableRule).getShardingColumns().iterator().next(), is("ds_id"));
+        assertThat(actual.getTableShardingStrategy(tableRule).getShardingColumns().iterator().next(), is("table_id"));
+    }
+    
     @Test
     public void assertIsAllBroadcastTableWhenLogicTablesIsEmpty() {
         assertFalse(createMaximumShardingRule().isAllBroadcastTables(Collections.emptyList()));
@@ -266,6 +329,13 @@ public final class ShardingRuleTest {
         assertThat(createMaximumShardingRule().generateKey("logic_table"), instanceOf(Integer.class));
     }
     
+    @Test
+    public void assertGenerateKeysWithDefaultKeyGenerator() {
+        Collection<Comparable<?>> actual = createMinimumShardingRule().generateKeys("logic_table", 3);
+        assertThat(actual.size(), is(3));
+        assertThat(new HashSet<>(actual).size(), is(3));
+    }
+    
     @Test
     public void assertGetDataNodeByLogicTable() {
         assertThat(createMaximumShardingRule().getDataNode("logic_table"), is(new DataNode("ds_0.table_0")));
@@ -43,11 +43,31 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     EXECUTOR_SIZE("executor-size", String.valueOf(0), int.class),
     
+    /**
+     * Whether execute SQL with virtual threads instead of worker group, only take effect on JDK which supports virtual thread.
+     */
+    EXECUTOR_VIRTUAL_THREAD_ENABLED("executor-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class),
     
+    /**
+     * Memory limit in bytes for merging group by results of each query, results exceed the limit are spilled to local disk, 0 means no limit.
+     */
+    GROUP_BY_MERGE_MEMORY_LIMIT("group-by-merge-memory-limit", String.valueOf(0), long.class),
+    
+    /**
+     * Whether merge distinct count with HyperLogLog approximately instead of keeping all distinct values in memory.
+     */
+    APPROXIMATE_DISTINCT_COUNT_ENABLED("approximate-distinct-count-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Whether store query results loaded into memory column by column with primitive arrays.
+     */
+    COLUMNAR_MEMORY_QUERY_RESULT_ENABLED("columnar-memory-query-result-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
     /**
      * Whether validate table meta data consistency when application startup or updated.
      */
@@ -134,10 +154,36 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_BACKEND_QUERY_FETCH_SIZE("proxy-backend-query-fetch-size", "-1", int.class),
     
+    /**
+     * Whether merge query results of proxy backend in completion order of execution groups, instead of waiting for all execution groups finished.
+     */
+    PROXY_BACKEND_QUERY_COMPLETION_ORDER_ENABLED("proxy-backend-query-completion-order-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Proxy backend driver type. Include: JDBC and ExperimentalNetty.
+     * ExperimentalNetty speaks MySQL protocol to storage nodes directly for queries outside of transactions.
+     */
+    PROXY_BACKEND_DRIVER_TYPE("proxy-backend-driver-type", "JDBC", String.class),
+    
     /**
      * Whether check duplicate table.
      */
-    CHECK_DUPLICATE_TABLE_ENABLED("check-duplicate-table-enabled", String.valueOf(Boolean.FALSE), boolean.class);
+    CHECK_DUPLICATE_TABLE_ENABLED("check-duplicate-table-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Whether cache parsed SQL statement of non-prepared SQL by the SQL which literals are replaced with placeholders.
+     */
+    SQL_PARAMETERIZED_CACHE_ENABLED("sql-parameterized-cache-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max size of pooled parse tree templates for each parameterized SQL, which bounds the concurrent callers reusing templates of the same SQL.
+     */
+    SQL_PARAMETERIZED_CACHE_MAX_TEMPLATE_SIZE("sql-parameterized-cache-max-template-size", String.valueOf(4), int.class),
+    
+    /**
+     * Whether cache route and rewrite result of parameterized query for the same logic SQL and parameters.
+     */
+    EXECUTION_PLAN_CACHE_ENABLED("execution-plan-cache-enabled", String.valueOf(Boolean.FALSE), boolean.class);
     
     private final String key;
     
@@ -17,12 +17,19 @@
 
 package org.apache.shardingsphere.infra.metadata.rule;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.spi.ordered.OrderedSPI;
+import org.apache.shardingsphere.infra.spi.ordered.OrderedSPIRegistry;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * ShardingSphere rule meta data.
@@ -34,4 +41,25 @@ public final class ShardingSphereRuleMetaData {
     private final Collection<RuleConfiguration> configurations;
     
     private final Collection<ShardingSphereRule> rules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<Class<?>, Map<ShardingSphereRule, ?>> orderedServices = new ConcurrentHashMap<>();
+    
+    /**
+     * Get ordered services of rules.
+     * 
+     * <p>Services are resolved only once for this rule meta data, rule changes will create new rule meta data.</p>
+     *
+     * @param orderedSPIClass class of ordered SPI
+     * @param <T> type of ordered SPI class
+     * @return ordered services of rules
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends OrderedSPI<?>> Map<ShardingSphereRule, T> getOrderedServices(final Class<T> orderedSPIClass) {
+        Map<ShardingSphereRule, ?> result = orderedServices.get(orderedSPIClass);
+        if (null == result) {
+            result = orderedServices.computeIfAbsent(orderedSPIClass, key -> Collections.unmodifiableMap(new LinkedHashMap<>(OrderedSPIRegistry.getRegisteredServices(orderedSPIClass, rules))));
+        }
+        return (Map<ShardingSphereRule, T>) result;
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.rule;
+
+import org.apache.shardingsphere.infra.metadata.schema.builder.spi.RuleBasedTableMetaDataBuilder;
+import org.apache.shardingsphere.infra.metadata.schema.fixture.loader.CommonFixtureTableMetaDataBuilder;
+import org.apache.shardingsphere.infra.metadata.schema.fixture.rule.CommonFixtureRule;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class ShardingSphereRuleMetaDataTest {
+    
+    static {
+        ShardingSphereServiceLoader.register(RuleBasedTableMetaDataBuilder.class);
+    }
+    
+    @SuppressWarnings("rawtypes")
+    @Test
+    public void assertGetOrderedServices() {
+        CommonFixtureRule rule = new CommonFixtureRule();
+        ShardingSphereRuleMetaData ruleMetaData = new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.singleton(rule));
+        Map<ShardingSphereRule, RuleBasedTableMetaDataBuilder> actual = ruleMetaData.getOrderedServices(RuleBasedTableMetaDataBuilder.class);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(rule), instanceOf(CommonFixtureTableMetaDataBuilder.class));
+        assertThat(ruleMetaData.getOrderedServices(RuleBasedTableMetaDataBuilder.class), sameInstance(actual));
+    }
+}
@@ -20,14 +20,20 @@ package org.apache.shardingsphere.infra.context.kernel;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.context.kernel.plan.ExecutionPlan;
+import org.apache.shardingsphere.infra.context.kernel.plan.ExecutionPlanCache;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
 import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
+import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+
+import java.util.Optional;
 
 /**
  * Kernel processor.
@@ -43,20 +49,42 @@ public final class KernelProcessor {
      * @return execution context
      */
     public ExecutionContext generateExecutionContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
-        RouteContext routeContext = route(logicSQL, metaData, props);
-        SQLRewriteResult rewriteResult = rewrite(logicSQL, metaData, props, routeContext);
-        ExecutionContext result = createExecutionContext(logicSQL, metaData, routeContext, rewriteResult);
+        ExecutionPlan executionPlan = isExecutionPlanCacheable(logicSQL, props) ? getCachedExecutionPlan(logicSQL, metaData, props) : createExecutionPlan(logicSQL, metaData, props);
+        ExecutionContext result = createExecutionContext(logicSQL, metaData, executionPlan.getRouteContext(), executionPlan.getRewriteResult());
         logSQL(logicSQL, props, result);
         return result;
     }
     
+    // Only parameterized SQL is cached, SQL with inline literals rarely repeats and would only churn the cache.
+    private boolean isExecutionPlanCacheable(final LogicSQL logicSQL, final ConfigurationProperties props) {
+        return props.<Boolean>getValue(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_ENABLED) && !logicSQL.getParameters().isEmpty()
+                && logicSQL.getSqlStatementContext().getSqlStatement() instanceof SelectStatement && !HintManager.isInstantiated();
+    }
+    
+    private ExecutionPlan getCachedExecutionPlan(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
+        Optional<ExecutionPlan> cachedExecutionPlan = ExecutionPlanCache.get(metaData, logicSQL);
+        if (cachedExecutionPlan.isPresent()) {
+            return cachedExecutionPlan.get();
+        }
+        ExecutionPlan result = createExecutionPlan(logicSQL, metaData, props);
+        if (new SQLRouteEngine(metaData.getRuleMetaData(), props).isRouteContextCacheable(logicSQL)) {
+            ExecutionPlanCache.put(metaData, logicSQL, result);
+        }
+        return result;
+    }
+    
+    private ExecutionPlan createExecutionPlan(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
+        RouteContext routeContext = route(logicSQL, metaData, props);
+        return new ExecutionPlan(routeContext, rewrite(logicSQL, metaData, props, routeContext));
+    }
+    
     private RouteContext route(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
-        return new SQLRouteEngine(metaData.getRuleMetaData().getRules(), props).route(logicSQL, metaData);
+        return new SQLRouteEngine(metaData.getRuleMetaData(), props).route(logicSQL, metaData);
     }
     
     private SQLRewriteResult rewrite(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props, final RouteContext routeContext) {
         return new SQLRewriteEntry(
-                metaData.getSchema(), props, metaData.getRuleMetaData().getRules()).rewrite(logicSQL.getSql(), logicSQL.getParameters(), logicSQL.getSqlStatementContext(), routeContext);
+                metaData.getSchema(), props, metaData.getRuleMetaData()).rewrite(logicSQL.getSql(), logicSQL.getParameters(), logicSQL.getSqlStatementContext(), routeContext);
     }
     
     private ExecutionContext createExecutionContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final RouteContext routeContext, final SQLRewriteResult rewriteResult) {
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel.plan;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.rewrite.engine.result.GenericSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Execution plan.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class ExecutionPlan {
+    
+    private final RouteContext routeContext;
+    
+    private final SQLRewriteResult rewriteResult;
+    
+    /**
+     * Copy execution plan.
+     * 
+     * <p>Route context and rewrite result are mutable and may be changed by the following execution, so cached plans are copied deeply.</p>
+     * 
+     * @return copied execution plan
+     */
+    public ExecutionPlan copy() {
+        Map<RouteUnit, RouteUnit> copiedRouteUnits = new IdentityHashMap<>(routeContext.getRouteUnits().size());
+        RouteContext copiedRouteContext = copyRouteContext(copiedRouteUnits);
+        return new ExecutionPlan(copiedRouteContext, copyRewriteResult(copiedRouteUnits));
+    }
+    
+    private RouteContext copyRouteContext(final Map<RouteUnit, RouteUnit> copiedRouteUnits) {
+        RouteContext result = new RouteContext();
+        for (Collection<DataNode> each : routeContext.getOriginalDataNodes()) {
+            result.getOriginalDataNodes().add(new LinkedList<>(each));
+        }
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            RouteUnit routeUnit = copyRouteUnit(each);
+            copiedRouteUnits.put(each, routeUnit);
+            result.getRouteUnits().add(routeUnit);
+        }
+        result.getRouteStageContexts().putAll(routeContext.getRouteStageContexts());
+        result.setFederated(routeContext.isFederated());
+        return result;
+    }
+    
+    private RouteUnit copyRouteUnit(final RouteUnit routeUnit) {
+        return new RouteUnit(routeUnit.getDataSourceMapper(), new LinkedHashSet<>(routeUnit.getTableMappers()));
+    }
+    
+    private SQLRewriteResult copyRewriteResult(final Map<RouteUnit, RouteUnit> copiedRouteUnits) {
+        if (rewriteResult instanceof GenericSQLRewriteResult) {
+            return new GenericSQLRewriteResult(copySQLRewriteUnit(((GenericSQLRewriteResult) rewriteResult).getSqlRewriteUnit()));
+        }
+        if (rewriteResult instanceof RouteSQLRewriteResult) {
+            Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = ((RouteSQLRewriteResult) rewriteResult).getSqlRewriteUnits();
+            Map<RouteUnit, SQLRewriteUnit> result = new LinkedHashMap<>(sqlRewriteUnits.size(), 1);
+            for (Entry<RouteUnit, SQLRewriteUnit> entry : sqlRewriteUnits.entrySet()) {
+                RouteUnit routeUnit = copiedRouteUnits.get(entry.getKey());
+                result.put(null == routeUnit ? copyRouteUnit(entry.getKey()) : routeUnit, copySQLRewriteUnit(entry.getValue()));
+            }
+            return new RouteSQLRewriteResult(result);
+        }
+        return rewriteResult;
+    }
+    
+    private SQLRewriteUnit copySQLRewriteUnit(final SQLRewriteUnit sqlRewriteUnit) {
+        return new SQLRewriteUnit(sqlRewriteUnit.getSql(), new ArrayList<>(sqlRewriteUnit.getParameters()));
+    }
+}
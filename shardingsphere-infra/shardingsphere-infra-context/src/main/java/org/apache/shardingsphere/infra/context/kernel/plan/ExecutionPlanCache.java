@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel.plan;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+
+import java.util.Optional;
+
+/**
+ * Execution plan cache.
+ * 
+ * <p>Execution plans are cached for each ShardingSphere meta data instance, so rule changes which rebuild meta data will discard cached plans automatically.
+ * Schema changes which refresh meta data in place should invalidate cached plans explicitly.
+ * Cached plans are copies which are never handed out directly, every hit returns a new copy.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ExecutionPlanCache {
+    
+    private static final long MAXIMUM_SIZE = 65535L;
+    
+    private static final Cache<ShardingSphereMetaData, Cache<ExecutionPlanCacheKey, ExecutionPlan>> CACHES = CacheBuilder.newBuilder().weakKeys().build();
+    
+    /**
+     * Get cached execution plan.
+     * 
+     * @param metaData ShardingSphere meta data
+     * @param logicSQL logic SQL
+     * @return cached execution plan
+     */
+    public static Optional<ExecutionPlan> get(final ShardingSphereMetaData metaData, final LogicSQL logicSQL) {
+        Cache<ExecutionPlanCacheKey, ExecutionPlan> cache = CACHES.getIfPresent(metaData);
+        return null == cache ? Optional.empty() : Optional.ofNullable(cache.getIfPresent(new ExecutionPlanCacheKey(logicSQL))).map(ExecutionPlan::copy);
+    }
+    
+    /**
+     * Put execution plan.
+     * 
+     * @param metaData ShardingSphere meta data
+     * @param logicSQL logic SQL
+     * @param executionPlan execution plan
+     */
+    public static void put(final ShardingSphereMetaData metaData, final LogicSQL logicSQL, final ExecutionPlan executionPlan) {
+        CACHES.asMap().computeIfAbsent(metaData, key -> CacheBuilder.newBuilder().softValues().maximumSize(MAXIMUM_SIZE).build()).put(new ExecutionPlanCacheKey(logicSQL), executionPlan.copy());
+    }
+    
+    /**
+     * Invalidate cached execution plans of ShardingSphere meta data.
+     * 
+     * @param metaData ShardingSphere meta data
+     */
+    public static void invalidate(final ShardingSphereMetaData metaData) {
+        CACHES.invalidate(metaData);
+    }
+}
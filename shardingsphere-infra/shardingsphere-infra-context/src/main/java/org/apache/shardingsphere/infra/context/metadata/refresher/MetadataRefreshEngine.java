@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.context.metadata.refresher;
 
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.context.kernel.plan.ExecutionPlanCache;
 import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
 import org.apache.shardingsphere.infra.metadata.MetadataRefresher;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -81,6 +82,7 @@ public final class MetadataRefreshEngine {
                 ((FederateRefresher) each).refresh(federateMetadata, logicDataSourceNames, sqlStatement, materials);
             }
         }
+        ExecutionPlanCache.invalidate(schemaMetadata);
         ShardingSphereEventBus.getInstance().post(new SchemaAlteredEvent(schemaMetadata.getName(), schemaMetadata.getSchema()));
     }
 }
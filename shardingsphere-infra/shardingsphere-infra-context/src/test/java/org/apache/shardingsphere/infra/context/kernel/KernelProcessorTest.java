@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.context.kernel.plan.ExecutionPlanCache;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
@@ -34,7 +35,11 @@ import java.util.Collections;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -54,6 +59,45 @@ public final class KernelProcessorTest {
         assertThat(actual.getExecutionUnits().size(), is(1));
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertGenerateExecutionContextWithExecutionPlanCache() {
+        SQLStatementContext<SQLStatement> sqlStatementContext = mock(SQLStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(mock(SelectStatement.class));
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData("logic_schema",
+                mock(ShardingSphereResource.class, RETURNS_DEEP_STUBS), new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.emptyList()), mock(ShardingSphereSchema.class));
+        Properties props = createProperties();
+        props.setProperty(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_ENABLED.getKey(), Boolean.TRUE.toString());
+        KernelProcessor kernelProcessor = new KernelProcessor();
+        ExecutionContext expected = kernelProcessor.generateExecutionContext(
+                new LogicSQL(sqlStatementContext, "SELECT * FROM tbl WHERE id = ?", Collections.singletonList(1)), metaData, new ConfigurationProperties(props));
+        ExecutionContext actual = kernelProcessor.generateExecutionContext(
+                new LogicSQL(sqlStatementContext, "SELECT * FROM tbl WHERE id = ?", Collections.singletonList(1)), metaData, new ConfigurationProperties(props));
+        assertThat(actual.getRouteContext(), not(sameInstance(expected.getRouteContext())));
+        assertThat(actual.getRouteContext().getRouteUnits(), is(expected.getRouteContext().getRouteUnits()));
+        assertThat(actual.getExecutionUnits(), is(expected.getExecutionUnits()));
+        assertTrue(ExecutionPlanCache.get(metaData, new LogicSQL(sqlStatementContext, "SELECT * FROM tbl WHERE id = ?", Collections.singletonList(1))).isPresent());
+        ExecutionContext actualWithOtherParameter = kernelProcessor.generateExecutionContext(
+                new LogicSQL(sqlStatementContext, "SELECT * FROM tbl WHERE id = ?", Collections.singletonList(2)), metaData, new ConfigurationProperties(props));
+        assertThat(actualWithOtherParameter.getExecutionUnits().iterator().next().getSqlUnit().getParameters(), is(Collections.singletonList(2)));
+        ExecutionPlanCache.invalidate(metaData);
+        assertFalse(ExecutionPlanCache.get(metaData, new LogicSQL(sqlStatementContext, "SELECT * FROM tbl WHERE id = ?", Collections.singletonList(1))).isPresent());
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertGenerateExecutionContextWithoutParametersNotCached() {
+        SQLStatementContext<SQLStatement> sqlStatementContext = mock(SQLStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(mock(SelectStatement.class));
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData("logic_schema",
+                mock(ShardingSphereResource.class, RETURNS_DEEP_STUBS), new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.emptyList()), mock(ShardingSphereSchema.class));
+        Properties props = createProperties();
+        props.setProperty(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_ENABLED.getKey(), Boolean.TRUE.toString());
+        LogicSQL logicSQL = new LogicSQL(sqlStatementContext, "SELECT * FROM tbl WHERE id = 1", Collections.emptyList());
+        new KernelProcessor().generateExecutionContext(logicSQL, metaData, new ConfigurationProperties(props));
+        assertFalse(ExecutionPlanCache.get(metaData, logicSQL).isPresent());
+    }
+    
     private Properties createProperties() {
         Properties result = new Properties();
         result.setProperty(ConfigurationPropertyKey.SQL_SHOW.getKey(), Boolean.TRUE.toString());
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.executor.kernel;
 import com.google.common.util.concurrent.ListenableFuture;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderResults;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
@@ -44,7 +45,11 @@ public final class ExecutorEngine implements AutoCloseable {
     private final ExecutorServiceManager executorServiceManager;
     
     public ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+        this(executorSize, false);
+    }
+    
+    public ExecutorEngine(final int executorSize, final boolean virtualThreadEnabled) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, virtualThreadEnabled);
     }
     
     /**
@@ -82,6 +87,34 @@ public final class ExecutorEngine implements AutoCloseable {
                 : parallelExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
     }
     
+    /**
+     * Execute and fetch results of execution groups in completion order.
+     * 
+     * <p>Results are returned as soon as first execution group finished, results of other execution groups are waited for only when consumed.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param serial whether using multi thread execute or not
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return execute result
+     * @throws SQLException throw if execute failure
+     */
+    public <I, O> List<O> executeInCompletionOrder(final ExecutionGroupContext<I> executionGroupContext,
+                                                   final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback, final boolean serial) throws SQLException {
+        if (executionGroupContext.getInputGroups().isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (serial) {
+            return serialExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
+        }
+        Iterator<ExecutionGroup<I>> executionGroups = executionGroupContext.getInputGroups().iterator();
+        ExecutionGroup<I> firstInputs = executionGroups.next();
+        Collection<ListenableFuture<Collection<O>>> restResultFutures = asyncExecute(executionGroups, callback);
+        return new CompletionOrderResults<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures);
+    }
+    
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
         List<O> result = new LinkedList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
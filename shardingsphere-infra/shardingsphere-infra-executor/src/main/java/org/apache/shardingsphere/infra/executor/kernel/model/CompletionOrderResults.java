@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.model;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+
+import java.sql.SQLException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Execute results in completion order.
+ * 
+ * <p>Results of first execution group are available immediately, results of other execution groups are fetched in the order they complete.
+ * Iterating, streaming or getting by index only waits for the results needed, judging size waits for all execution groups.
+ * SQL exception thrown by execution group is rethrown as it is.
+ * It is not thread safe, and should be consumed by one thread.</p>
+ *
+ * @param <T> type of result
+ */
+public final class CompletionOrderResults<T> extends AbstractList<T> {
+    
+    private final List<T> fetchedResults;
+    
+    private final Iterator<ListenableFuture<Collection<T>>> pendingFutures;
+    
+    private ListenableFuture<Collection<T>> currentFuture;
+    
+    private Runnable completionCallback;
+    
+    public CompletionOrderResults(final Collection<T> firstResults, final Collection<ListenableFuture<Collection<T>>> futures) {
+        fetchedResults = new ArrayList<>(firstResults);
+        pendingFutures = Futures.inCompletionOrder(futures).iterator();
+    }
+    
+    @Override
+    public T get(final int index) {
+        fetch(index + 1);
+        return fetchedResults.get(index);
+    }
+    
+    @Override
+    public int size() {
+        fetch(Integer.MAX_VALUE);
+        return fetchedResults.size();
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return !fetch(1);
+    }
+    
+    @Override
+    public Iterator<T> iterator() {
+        return new CompletionOrderIterator(0);
+    }
+    
+    @Override
+    public ListIterator<T> listIterator() {
+        return new CompletionOrderIterator(0);
+    }
+    
+    @Override
+    public ListIterator<T> listIterator(final int index) {
+        if (index < 0 || !fetch(index)) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        return new CompletionOrderIterator(index);
+    }
+    
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED);
+    }
+    
+    /**
+     * Set callback which is invoked once after all execution groups completed.
+     * 
+     * @param completionCallback completion callback
+     */
+    public void setCompletionCallback(final Runnable completionCallback) {
+        this.completionCallback = completionCallback;
+        if (!hasPendingFuture()) {
+            complete();
+        }
+    }
+    
+    /**
+     * Wait for all execution groups completed, failures of execution groups are ignored.
+     * 
+     * <p>Interruption does not stop waiting, the interrupt flag of current thread is restored after all execution groups completed.</p>
+     */
+    public void awaitCompletion() {
+        while (hasPendingFuture()) {
+            try {
+                fetchedResults.addAll(Uninterruptibles.getUninterruptibly(nextPendingFuture()));
+            } catch (final ExecutionException ignored) {
+            } finally {
+                currentFuture = null;
+            }
+        }
+        complete();
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private boolean fetch(final int expectedSize) {
+        while (fetchedResults.size() < expectedSize && hasPendingFuture()) {
+            try {
+                fetchedResults.addAll(nextPendingFuture().get());
+                currentFuture = null;
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new ShardingSphereException(ex);
+            } catch (final ExecutionException ex) {
+                currentFuture = null;
+                if (ex.getCause() instanceof SQLException) {
+                    throw (SQLException) ex.getCause();
+                }
+                throw new ShardingSphereException(ex);
+            }
+        }
+        if (!hasPendingFuture()) {
+            complete();
+        }
+        return fetchedResults.size() >= expectedSize;
+    }
+    
+    private boolean hasPendingFuture() {
+        return null != currentFuture || pendingFutures.hasNext();
+    }
+    
+    private ListenableFuture<Collection<T>> nextPendingFuture() {
+        if (null == currentFuture) {
+            currentFuture = pendingFutures.next();
+        }
+        return currentFuture;
+    }
+    
+    private void complete() {
+        if (null != completionCallback) {
+            Runnable callback = completionCallback;
+            completionCallback = null;
+            callback.run();
+        }
+    }
+    
+    private final class CompletionOrderIterator implements ListIterator<T> {
+        
+        private int cursor;
+        
+        CompletionOrderIterator(final int cursor) {
+            this.cursor = cursor;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return fetch(cursor + 1);
+        }
+        
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return fetchedResults.get(cursor++);
+        }
+        
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+        
+        @Override
+        public T previous() {
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            return fetchedResults.get(--cursor);
+        }
+        
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+        
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+        
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("remove");
+        }
+        
+        @Override
+        public void set(final T element) {
+            throw new UnsupportedOperationException("set");
+        }
+        
+        @Override
+        public void add(final T element) {
+            throw new UnsupportedOperationException("add");
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
+
+import com.google.common.collect.AbstractIterator;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.columnar.MemoryColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.columnar.MemoryColumnFactory;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.AbstractList;
+import java.util.Iterator;
+
+/**
+ * JDBC query result for memory loading, which stores values column by column in primitive arrays.
+ */
+public final class JDBCColumnarMemoryQueryResult extends AbstractMemoryQueryResult {
+    
+    public JDBCColumnarMemoryQueryResult(final ResultSet resultSet) throws SQLException {
+        super(new JDBCQueryResultMetaData(resultSet.getMetaData()), load(resultSet));
+    }
+    
+    private static Iterator<MemoryQueryResultDataRow> load(final ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        MemoryColumn[] columns = new MemoryColumn[metaData.getColumnCount()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = MemoryColumnFactory.newInstance(metaData, i + 1);
+        }
+        int rowCount = 0;
+        while (resultSet.next()) {
+            for (int i = 0; i < columns.length; i++) {
+                columns[i].load(resultSet, i + 1);
+            }
+            rowCount++;
+        }
+        return new ColumnarRowIterator(columns, rowCount);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ColumnarRowIterator extends AbstractIterator<MemoryQueryResultDataRow> {
+        
+        private final MemoryColumn[] columns;
+        
+        private final int rowCount;
+        
+        private int rowIndex;
+        
+        @Override
+        protected MemoryQueryResultDataRow computeNext() {
+            return rowIndex < rowCount ? new MemoryQueryResultDataRow(new ColumnarRow(columns, rowIndex++)) : endOfData();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ColumnarRow extends AbstractList<Object> {
+        
+        private final MemoryColumn[] columns;
+        
+        private final int rowIndex;
+        
+        @Override
+        public Object get(final int index) {
+            return columns[index].getValue(rowIndex);
+        }
+        
+        @Override
+        public int size() {
+            return columns.length;
+        }
+    }
+}
@@ -58,8 +58,16 @@ public final class JDBCRowsLoader {
         return result;
     }
     
+    /**
+     * Load row value.
+     * 
+     * @param resultSet result set of JDBC
+     * @param columnIndex column index
+     * @return row value
+     * @throws SQLException SQL exception
+     */
     @SuppressWarnings("ReturnOfNull")
-    private static Object loadRowValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
+    public static Object loadRowValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
         ResultSetMetaData metaData = resultSet.getMetaData();
         switch (metaData.getColumnType(columnIndex)) {
             case Types.BOOLEAN:
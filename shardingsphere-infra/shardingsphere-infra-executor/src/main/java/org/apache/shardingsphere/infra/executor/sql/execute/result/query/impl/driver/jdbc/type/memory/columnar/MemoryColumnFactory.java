@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.columnar;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Memory column factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MemoryColumnFactory {
+    
+    /**
+     * Create new instance of memory column.
+     * 
+     * @param metaData result set meta data
+     * @param columnIndex column index
+     * @return new instance of memory column
+     * @throws SQLException SQL exception
+     */
+    public static MemoryColumn newInstance(final ResultSetMetaData metaData, final int columnIndex) throws SQLException {
+        switch (metaData.getColumnType(columnIndex)) {
+            case Types.BOOLEAN:
+                return new BooleanMemoryColumn();
+            case Types.TINYINT:
+            case Types.SMALLINT:
+                return new IntMemoryColumn();
+            case Types.INTEGER:
+                return metaData.isSigned(columnIndex) ? new IntMemoryColumn() : new LongMemoryColumn();
+            case Types.BIGINT:
+                return metaData.isSigned(columnIndex) ? new LongMemoryColumn() : new ObjectMemoryColumn();
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return new DoubleMemoryColumn();
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+                return new StringMemoryColumn();
+            default:
+                return new ObjectMemoryColumn();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.columnar;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Memory column for string values.
+ * 
+ * <p>Strings are encoded as UTF-8 into one byte slab, and each row keeps the end offset of its value.
+ * Value is decoded on access, and only the last decoded value is kept for repeated reads of the same row.</p>
+ */
+public final class StringMemoryColumn implements MemoryColumn {
+    
+    private final BitSet nulls = new BitSet();
+    
+    private byte[] slab = new byte[256];
+    
+    private int slabSize;
+    
+    private int[] endOffsets = new int[16];
+    
+    private int size;
+    
+    private int lastDecodedRowIndex = -1;
+    
+    private String lastDecodedValue;
+    
+    @Override
+    public void load(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        String value = resultSet.getString(columnIndex);
+        if (size == endOffsets.length) {
+            endOffsets = Arrays.copyOf(endOffsets, size << 1);
+        }
+        if (resultSet.wasNull() || null == value) {
+            nulls.set(size);
+        } else {
+            append(value.getBytes(StandardCharsets.UTF_8));
+        }
+        endOffsets[size] = slabSize;
+        size++;
+    }
+    
+    private void append(final byte[] bytes) {
+        if (slabSize + bytes.length > slab.length) {
+            slab = Arrays.copyOf(slab, Math.max(slab.length << 1, slabSize + bytes.length));
+        }
+        System.arraycopy(bytes, 0, slab, slabSize, bytes.length);
+        slabSize += bytes.length;
+    }
+    
+    @Override
+    public Object getValue(final int rowIndex) {
+        if (nulls.get(rowIndex)) {
+            return null;
+        }
+        if (lastDecodedRowIndex != rowIndex) {
+            int startOffset = 0 == rowIndex ? 0 : endOffsets[rowIndex - 1];
+            lastDecodedValue = new String(slab, startOffset, endOffsets[rowIndex] - startOffset, StandardCharsets.UTF_8);
+            lastDecodedRowIndex = rowIndex;
+        }
+        return lastDecodedValue;
+    }
+}
@@ -88,4 +88,20 @@ public final class ExecuteProcessEngine {
             HANDLERS.iterator().next().report(executionID, ExecuteProcessConstants.EXECUTE_STATUS_DONE);
         }
     }
+    
+    /**
+     * Create finish callback.
+     * 
+     * <p>The callback reports execution done even if it is invoked after cleaning or by other thread.</p>
+     *
+     * @param executionID execution ID
+     * @return finish callback
+     */
+    public static Runnable createFinishCallback(final String executionID) {
+        if (HANDLERS.isEmpty() || !ExecutorDataMap.getValue().containsKey(ExecuteProcessConstants.EXECUTE_ID.name())) {
+            return () -> { };
+        }
+        ExecuteProcessReporter reporter = HANDLERS.iterator().next();
+        return () -> reporter.report(executionID, ExecuteProcessConstants.EXECUTE_STATUS_DONE);
+    }
 }
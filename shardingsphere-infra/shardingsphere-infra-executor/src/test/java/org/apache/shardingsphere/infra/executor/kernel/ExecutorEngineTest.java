@@ -89,6 +89,22 @@ public final class ExecutorEngineTest {
         assertThat(actual.size(), is(4));
     }
     
+    @Test
+    public void assertParallelExecuteWithVirtualThreadEnabled() throws SQLException, InterruptedException {
+        try (ExecutorEngine virtualThreadExecutorEngine = new ExecutorEngine(10, true)) {
+            List<String> actual = virtualThreadExecutorEngine.execute(executionGroupContext, firstCallback, callback, false);
+            latch.await();
+            assertThat(actual.size(), is(4));
+        }
+    }
+    
+    @Test
+    public void assertParallelExecuteInCompletionOrder() throws SQLException, InterruptedException {
+        List<String> actual = executorEngine.executeInCompletionOrder(executionGroupContext, firstCallback, callback, false);
+        assertThat(actual.size(), is(4));
+        latch.await();
+    }
+    
     @Test
     public void assertSerialExecute() throws SQLException, InterruptedException {
         List<String> actual = executorEngine.execute(executionGroupContext, firstCallback, callback, true);
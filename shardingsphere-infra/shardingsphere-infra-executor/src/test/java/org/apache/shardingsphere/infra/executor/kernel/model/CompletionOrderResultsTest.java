@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.model;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CompletionOrderResultsTest {
+    
+    @Test
+    public void assertIterateInCompletionOrder() {
+        SettableFuture<Collection<String>> slowFuture = SettableFuture.create();
+        SettableFuture<Collection<String>> fastFuture = SettableFuture.create();
+        CompletionOrderResults<String> actual = new CompletionOrderResults<>(Collections.singletonList("first"), Arrays.<ListenableFuture<Collection<String>>>asList(slowFuture, fastFuture));
+        Iterator<String> iterator = actual.iterator();
+        assertTrue(iterator.hasNext());
+        assertThat(iterator.next(), is("first"));
+        assertThat(actual.get(0), is("first"));
+        fastFuture.set(Collections.singletonList("fast"));
+        assertTrue(iterator.hasNext());
+        assertThat(iterator.next(), is("fast"));
+        slowFuture.set(Arrays.asList("slow_0", "slow_1"));
+        assertThat(iterator.next(), is("slow_0"));
+        assertThat(iterator.next(), is("slow_1"));
+        assertFalse(iterator.hasNext());
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test(timeout = 5000L)
+    public void assertTransformAndStreamWithoutWaitingPendingResults() {
+        SettableFuture<Collection<String>> slowFuture = SettableFuture.create();
+        SettableFuture<Collection<String>> fastFuture = SettableFuture.create();
+        fastFuture.set(Collections.singletonList("fast"));
+        CompletionOrderResults<String> actual = new CompletionOrderResults<>(Collections.singletonList("first"), Arrays.<ListenableFuture<Collection<String>>>asList(slowFuture, fastFuture));
+        List<String> transformed = Lists.transform(actual, String::toUpperCase);
+        Iterator<String> iterator = transformed.iterator();
+        assertThat(iterator.next(), is("FIRST"));
+        assertThat(iterator.next(), is("FAST"));
+        assertThat(transformed.get(1), is("FAST"));
+        assertThat(actual.stream().limit(2L).collect(Collectors.toList()), is(Arrays.asList("first", "fast")));
+        slowFuture.set(Collections.singletonList("slow"));
+        assertThat(iterator.next(), is("SLOW"));
+        assertFalse(iterator.hasNext());
+    }
+    
+    @Test
+    public void assertIsEmpty() {
+        SettableFuture<Collection<String>> future = SettableFuture.create();
+        future.set(Collections.emptyList());
+        assertTrue(new CompletionOrderResults<>(Collections.<String>emptyList(), Collections.<ListenableFuture<Collection<String>>>singletonList(future)).isEmpty());
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertIterateWithFailure() {
+        SettableFuture<Collection<String>> future = SettableFuture.create();
+        future.setException(new RuntimeException("failed"));
+        Iterator<String> iterator = new CompletionOrderResults<>(Collections.singletonList("first"), Collections.<ListenableFuture<Collection<String>>>singletonList(future)).iterator();
+        iterator.next();
+        iterator.hasNext();
+    }
+    
+    @Test
+    public void assertAwaitCompletionWithFailure() {
+        SettableFuture<Collection<String>> failedFuture = SettableFuture.create();
+        failedFuture.setException(new RuntimeException("failed"));
+        SettableFuture<Collection<String>> future = SettableFuture.create();
+        future.set(Collections.singletonList("rest"));
+        CompletionOrderResults<String> actual = new CompletionOrderResults<>(Collections.singletonList("first"), Arrays.<ListenableFuture<Collection<String>>>asList(failedFuture, future));
+        actual.awaitCompletion();
+        assertThat(actual.size(), is(2));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertIterateWithSQLException() {
+        SettableFuture<Collection<String>> future = SettableFuture.create();
+        future.setException(new SQLException("failed"));
+        Iterator<String> iterator = new CompletionOrderResults<>(Collections.singletonList("first"), Collections.<ListenableFuture<Collection<String>>>singletonList(future)).iterator();
+        iterator.next();
+        iterator.hasNext();
+    }
+    
+    @Test
+    public void assertAwaitCompletionWhenInterrupted() {
+        SettableFuture<Collection<String>> future = SettableFuture.create();
+        future.set(Collections.singletonList("rest"));
+        CompletionOrderResults<String> actual = new CompletionOrderResults<>(Collections.singletonList("first"), Collections.<ListenableFuture<Collection<String>>>singletonList(future));
+        Thread.currentThread().interrupt();
+        try {
+            actual.awaitCompletion();
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+        assertThat(actual.size(), is(2));
+    }
+    
+    @Test
+    public void assertCompletionCallback() {
+        SettableFuture<Collection<String>> future = SettableFuture.create();
+        CompletionOrderResults<String> actual = new CompletionOrderResults<>(Collections.singletonList("first"), Collections.<ListenableFuture<Collection<String>>>singletonList(future));
+        AtomicInteger completedCount = new AtomicInteger();
+        actual.setCompletionCallback(completedCount::incrementAndGet);
+        assertThat(actual.get(0), is("first"));
+        assertThat(completedCount.get(), is(0));
+        future.set(Collections.singletonList("rest"));
+        actual.awaitCompletion();
+        assertThat(actual.size(), is(2));
+        assertThat(completedCount.get(), is(1));
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class JDBCColumnarMemoryQueryResultTest {
+    
+    @Test(expected = SQLException.class)
+    public void assertConstructorWithSqlException() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.next()).thenThrow(new SQLException(""));
+        new JDBCColumnarMemoryQueryResult(resultSet);
+    }
+    
+    @Test
+    public void assertGetValue() throws SQLException {
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(mockResultSet());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1));
+        assertThat(actual.getValue(2, Object.class), is(10L));
+        assertThat(actual.getValue(3, Object.class), is(1.5D));
+        assertThat(actual.getValue(4, Object.class), is(true));
+        assertThat(actual.getValue(5, Object.class), is("foo_中文"));
+        assertThat(actual.getValue(6, Object.class), is(new BigDecimal("1.10")));
+        assertTrue(actual.next());
+        for (int i = 1; i <= 6; i++) {
+            assertNull(actual.getValue(i, Object.class));
+        }
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(2));
+        assertThat(actual.getValue(2, Object.class), is(20L));
+        assertThat(actual.getValue(3, Object.class), is(2.5D));
+        assertThat(actual.getValue(4, Object.class), is(false));
+        assertThat(actual.getValue(5, Object.class), is(""));
+        assertThat(actual.getValue(6, Object.class), is(new BigDecimal("2.20")));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetValueWithManyRows() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(2);
+        when(metaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(metaData.isSigned(1)).thenReturn(true);
+        when(metaData.getColumnType(2)).thenReturn(Types.VARCHAR);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        int[] cursor = {0};
+        when(resultSet.next()).thenAnswer(invocation -> ++cursor[0] <= 1000);
+        when(resultSet.getLong(1)).thenAnswer(invocation -> (long) cursor[0]);
+        when(resultSet.getString(2)).thenAnswer(invocation -> "value_" + cursor[0]);
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet);
+        for (int i = 1; i <= 1000; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is((long) i));
+            assertThat(actual.getValue(2, Object.class), is("value_" + i));
+        }
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetStringValueDecodedOnce() throws SQLException {
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(mockResultSet());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(5, Object.class), sameInstance(actual.getValue(5, Object.class)));
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(5, Object.class), is(""));
+    }
+    
+    @Test
+    public void assertGetValueSameAsMemoryQueryResult() throws SQLException {
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(mockResultSet());
+        JDBCMemoryQueryResult expected = new JDBCMemoryQueryResult(mockResultSet());
+        while (expected.next()) {
+            assertTrue(actual.next());
+            for (int i = 1; i <= 6; i++) {
+                assertThat(actual.getValue(i, Object.class), is(expected.getValue(i, Object.class)));
+                assertThat(actual.wasNull(), is(expected.wasNull()));
+            }
+        }
+        assertFalse(actual.next());
+    }
+    
+    private ResultSet mockResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, true, true, false);
+        ResultSetMetaData metaData = mockResultSetMetaData();
+        when(result.getMetaData()).thenReturn(metaData);
+        when(result.getInt(1)).thenReturn(1, 0, 2);
+        when(result.getLong(2)).thenReturn(10L, 0L, 20L);
+        when(result.getDouble(3)).thenReturn(1.5D, 0D, 2.5D);
+        when(result.getBoolean(4)).thenReturn(true, false, false);
+        when(result.getString(5)).thenReturn("foo_中文", null, "");
+        when(result.getBigDecimal(6)).thenReturn(new BigDecimal("1.10"), null, new BigDecimal("2.20"));
+        when(result.wasNull()).thenReturn(false, false, false, false, false, false, true, true, true, true, true, true, false);
+        return result;
+    }
+    
+    private ResultSetMetaData mockResultSetMetaData() throws SQLException {
+        ResultSetMetaData result = mock(ResultSetMetaData.class);
+        when(result.getColumnCount()).thenReturn(6);
+        when(result.getColumnType(1)).thenReturn(Types.INTEGER);
+        when(result.isSigned(1)).thenReturn(true);
+        when(result.getColumnType(2)).thenReturn(Types.BIGINT);
+        when(result.isSigned(2)).thenReturn(true);
+        when(result.getColumnType(3)).thenReturn(Types.DOUBLE);
+        when(result.getColumnType(4)).thenReturn(Types.BOOLEAN);
+        when(result.getColumnType(5)).thenReturn(Types.VARCHAR);
+        when(result.getColumnType(6)).thenReturn(Types.DECIMAL);
+        return result;
+    }
+}
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.infra.merge.engine.merger.ResultMerger;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMergerEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.transparent.TransparentMergedResult;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
@@ -61,11 +62,22 @@ public final class MergeEngine {
     private final Map<ShardingSphereRule, ResultProcessEngine> engines;
     
     public MergeEngine(final String schemaName, final DatabaseType databaseType, final ShardingSphereSchema schema, final ConfigurationProperties props, final Collection<ShardingSphereRule> rules) {
+        this(schemaName, databaseType, schema, props, OrderedSPIRegistry.getRegisteredServices(ResultProcessEngine.class, rules));
+    }
+    
+    public MergeEngine(final String schemaName, final DatabaseType databaseType, final ShardingSphereSchema schema, final ConfigurationProperties props,
+                       final ShardingSphereRuleMetaData ruleMetaData) {
+        this(schemaName, databaseType, schema, props, ruleMetaData.getOrderedServices(ResultProcessEngine.class));
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private MergeEngine(final String schemaName, final DatabaseType databaseType, final ShardingSphereSchema schema, final ConfigurationProperties props,
+                        final Map<ShardingSphereRule, ResultProcessEngine> engines) {
         this.schemaName = schemaName;
         this.databaseType = databaseType;
         this.schema = schema;
         this.props = props;
-        engines = OrderedSPIRegistry.getRegisteredServices(ResultProcessEngine.class, rules);
+        this.engines = engines;
     }
     
     /**
@@ -19,19 +19,10 @@ package org.apache.shardingsphere.infra.merge.result.impl.memory;
 
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
-import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 
-import java.io.InputStream;
-import java.io.Reader;
-import java.sql.Blob;
-import java.sql.Clob;
 import java.sql.SQLException;
-import java.sql.SQLFeatureNotSupportedException;
-import java.sql.SQLXML;
-import java.util.Calendar;
-import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -39,58 +30,15 @@ import java.util.List;
  *
  * @param <T> type of rule
  */
-public abstract class MemoryMergedResult<T extends ShardingSphereRule> implements MergedResult {
-    
-    private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
-    
-    private MemoryQueryResultRow currentResultSetRow;
-    
-    private boolean wasNull;
+public abstract class MemoryMergedResult<T extends ShardingSphereRule> extends MemoryRowMergedResult {
     
     protected MemoryMergedResult(final T rule, final ShardingSphereSchema schema, final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
         List<MemoryQueryResultRow> memoryQueryResultRowList = init(rule, schema, sqlStatementContext, queryResults);
-        memoryResultSetRows = memoryQueryResultRowList.iterator();
+        setMemoryResultSetRows(memoryQueryResultRowList.iterator());
         if (!memoryQueryResultRowList.isEmpty()) {
-            currentResultSetRow = memoryQueryResultRowList.get(0);
+            setCurrentResultSetRow(memoryQueryResultRowList.get(0));
         }
     }
     
     protected abstract List<MemoryQueryResultRow> init(T rule, ShardingSphereSchema schema, SQLStatementContext sqlStatementContext, List<QueryResult> queryResults) throws SQLException;
-    
-    @Override
-    public final boolean next() {
-        if (memoryResultSetRows.hasNext()) {
-            currentResultSetRow = memoryResultSetRows.next();
-            return true;
-        }
-        return false;
-    }
-    
-    @Override
-    public final Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        if (Blob.class == type || Clob.class == type || Reader.class == type || InputStream.class == type || SQLXML.class == type) {
-            throw new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName()));
-        }
-        Object result = currentResultSetRow.getCell(columnIndex);
-        wasNull = null == result;
-        return result;
-    }
-    
-    @Override
-    public final Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        // TODO implement with calendar
-        Object result = currentResultSetRow.getCell(columnIndex);
-        wasNull = null == result;
-        return result;
-    }
-    
-    @Override
-    public final InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
-        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
-    }
-    
-    @Override
-    public final boolean wasNull() {
-        return wasNull;
-    }
 }
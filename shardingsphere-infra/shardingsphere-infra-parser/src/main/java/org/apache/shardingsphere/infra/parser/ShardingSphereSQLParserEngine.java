@@ -33,9 +33,19 @@ public final class ShardingSphereSQLParserEngine {
     
     private final DistSQLStatementParserEngine distSQLStatementParserEngine;
     
+    private final boolean parameterizedCacheEnabled;
+    
+    private final int parameterizedCacheMaxTemplateSize;
+    
     public ShardingSphereSQLParserEngine(final String databaseTypeName) {
+        this(databaseTypeName, false, 0);
+    }
+    
+    public ShardingSphereSQLParserEngine(final String databaseTypeName, final boolean parameterizedCacheEnabled, final int parameterizedCacheMaxTemplateSize) {
         sqlStatementParserEngine = SQLStatementParserEngineFactory.getSQLStatementParserEngine(databaseTypeName);
         distSQLStatementParserEngine = new DistSQLStatementParserEngine();
+        this.parameterizedCacheEnabled = parameterizedCacheEnabled;
+        this.parameterizedCacheMaxTemplateSize = parameterizedCacheMaxTemplateSize;
     }
     
     /*
@@ -64,7 +74,8 @@ public final class ShardingSphereSQLParserEngine {
     
     private SQLStatement parse0(final String sql, final boolean useCache) {
         try {
-            return sqlStatementParserEngine.parse(sql, useCache);
+            return !useCache && parameterizedCacheEnabled
+                    ? sqlStatementParserEngine.parseWithParameterizedCache(sql, parameterizedCacheMaxTemplateSize) : sqlStatementParserEngine.parse(sql, useCache);
         } catch (final SQLParsingException | ParseCancellationException originalEx) {
             try {
                 return distSQLStatementParserEngine.parse(sql);
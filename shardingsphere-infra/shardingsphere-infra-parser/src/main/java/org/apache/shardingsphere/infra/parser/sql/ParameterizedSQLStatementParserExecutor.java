@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import com.google.common.cache.Cache;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.parser.cache.ParseTreeTemplateCacheBuilder;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
+import org.apache.shardingsphere.sql.parser.core.database.template.LexedSQL;
+import org.apache.shardingsphere.sql.parser.core.database.template.ParseTreeTemplate;
+import org.apache.shardingsphere.sql.parser.core.database.template.ParseTreeTemplateExecutor;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Parameterized SQL statement parser executor.
+ * 
+ * <p>SQL is lexed at first, literals are replaced with placeholders to build the cache key of parse tree templates.
+ * Parse tree template is rebound to the tokens of actual SQL and visited to a new SQL statement, so the same SQL with different literals will not be parsed again.</p>
+ */
+public final class ParameterizedSQLStatementParserExecutor {
+    
+    private final ParseTreeTemplateExecutor parseTreeTemplateExecutor;
+    
+    private final SQLVisitorEngine visitorEngine;
+    
+    private final Cache<String, Queue<ParseTreeTemplate>> parseTreeTemplateCache;
+    
+    @Getter
+    private final int maximumTemplateSize;
+    
+    public ParameterizedSQLStatementParserExecutor(final String databaseType, final CacheOption cacheOption, final int maximumTemplateSize) {
+        parseTreeTemplateExecutor = new ParseTreeTemplateExecutor(databaseType);
+        visitorEngine = new SQLVisitorEngine(databaseType, "STATEMENT", new Properties());
+        parseTreeTemplateCache = ParseTreeTemplateCacheBuilder.build(cacheOption);
+        this.maximumTemplateSize = maximumTemplateSize;
+    }
+    
+    /**
+     * Parse to SQL statement.
+     *
+     * @param sql SQL to be parsed
+     * @return SQL statement
+     */
+    public SQLStatement parse(final String sql) {
+        LexedSQL lexedSQL = parseTreeTemplateExecutor.lex(sql);
+        Queue<ParseTreeTemplate> templates = parseTreeTemplateCache.asMap().computeIfAbsent(lexedSQL.getParameterizedSQL(), key -> new ConcurrentLinkedQueue<>());
+        ParseTreeTemplate template = templates.poll();
+        if (null == template || !template.bind(lexedSQL)) {
+            template = parseTreeTemplateExecutor.parse(lexedSQL);
+        }
+        try {
+            return visitorEngine.visit(template.getParseTree());
+        } finally {
+            if (templates.size() < maximumTemplateSize) {
+                templates.offer(template);
+            }
+        }
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.parser.sql;
 
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
 import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheBuilder;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
@@ -31,10 +32,15 @@ public final class SQLStatementParserEngine {
     
     private final LoadingCache<String, SQLStatement> sqlStatementCache;
     
+    private final String databaseType;
+    
+    private volatile ParameterizedSQLStatementParserExecutor parameterizedSQLStatementParserExecutor;
+    
     public SQLStatementParserEngine(final String databaseType) {
         sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType);
         // TODO use props to configure cache option
         sqlStatementCache = SQLStatementCacheBuilder.build(new CacheOption(2000, 65535L, 4), databaseType);
+        this.databaseType = databaseType;
     }
     
     /**
@@ -47,4 +53,40 @@ public final class SQLStatementParserEngine {
     public SQLStatement parse(final String sql, final boolean useCache) {
         return useCache ? sqlStatementCache.getUnchecked(sql) : sqlStatementParserExecutor.parse(sql);
     }
+    
+    /**
+     * Get SQL statement cache stats, which includes hit, miss and eviction count.
+     *
+     * @return SQL statement cache stats
+     */
+    public CacheStats getSQLStatementCacheStats() {
+        return sqlStatementCache.stats();
+    }
+    
+    /**
+     * Parse to SQL statement with parameterized cache.
+     * 
+     * <p>The SQL with same structure but different literals will share the same cached parse tree template.
+     * The parameterized cache is built at the first call, so it costs nothing while the feature is disabled.</p>
+     *
+     * @param sql SQL to be parsed
+     * @param maximumTemplateSize max size of pooled parse tree templates for each parameterized SQL
+     * @return SQL statement
+     */
+    public SQLStatement parseWithParameterizedCache(final String sql, final int maximumTemplateSize) {
+        return getParameterizedSQLStatementParserExecutor(maximumTemplateSize).parse(sql);
+    }
+    
+    private ParameterizedSQLStatementParserExecutor getParameterizedSQLStatementParserExecutor(final int maximumTemplateSize) {
+        ParameterizedSQLStatementParserExecutor result = parameterizedSQLStatementParserExecutor;
+        if (null != result && result.getMaximumTemplateSize() == maximumTemplateSize) {
+            return result;
+        }
+        synchronized (this) {
+            if (null == parameterizedSQLStatementParserExecutor || parameterizedSQLStatementParserExecutor.getMaximumTemplateSize() != maximumTemplateSize) {
+                parameterizedSQLStatementParserExecutor = new ParameterizedSQLStatementParserExecutor(databaseType, new CacheOption(2000, 65535L, 4), maximumTemplateSize);
+            }
+            return parameterizedSQLStatementParserExecutor;
+        }
+    }
 }
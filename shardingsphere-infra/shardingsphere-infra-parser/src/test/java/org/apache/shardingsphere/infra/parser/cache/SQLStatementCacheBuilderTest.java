@@ -19,8 +19,10 @@ package org.apache.shardingsphere.infra.parser.cache;
 
 import com.google.common.cache.LoadingCache;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.junit.Test;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.isA;
 import static org.junit.Assert.assertThat;
 
@@ -30,4 +32,11 @@ public final class SQLStatementCacheBuilderTest {
     public void assertBuild() {
         assertThat(SQLStatementCacheBuilder.build(new CacheOption(128, 1024L, 4), "MySQL"), isA(LoadingCache.class));
     }
+    
+    @Test
+    public void assertBuildWithStats() {
+        LoadingCache<String, SQLStatement> actual = SQLStatementCacheBuilder.build(new CacheOption(128, 1024L, 4), "MySQL");
+        actual.getIfPresent("SELECT 1");
+        assertThat(actual.stats().missCount(), is(1L));
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class ParameterizedSQLStatementParserExecutorTest {
+    
+    private final ParameterizedSQLStatementParserExecutor executor = new ParameterizedSQLStatementParserExecutor("MySQL", new CacheOption(128, 1024L, 4), 4);
+    
+    @Test
+    public void assertParseWithDifferentLiterals() {
+        SelectStatement first = (SelectStatement) executor.parse("SELECT * FROM t_order WHERE order_id = 1");
+        SelectStatement second = (SelectStatement) executor.parse("SELECT * FROM t_order WHERE order_id = 10000");
+        assertThat(second, not(sameInstance(first)));
+        assertLiteral(first, 1, 39, 39);
+        assertLiteral(second, 10000, 39, 43);
+    }
+    
+    @Test
+    public void assertParseWithDifferentLiteralTypes() {
+        SelectStatement first = (SelectStatement) executor.parse("SELECT * FROM t_order WHERE status = 1");
+        SelectStatement second = (SelectStatement) executor.parse("SELECT * FROM t_order WHERE status = 'OK'");
+        assertLiteral(first, 1, 37, 37);
+        assertLiteral(second, "OK", 37, 40);
+    }
+    
+    @Test
+    public void assertParseWithDifferentWhitespaces() {
+        executor.parse("SELECT * FROM t_order WHERE order_id = 1");
+        SelectStatement actual = (SelectStatement) executor.parse("SELECT *  FROM t_order WHERE order_id =  2");
+        assertLiteral(actual, 2, 41, 41);
+    }
+    
+    private void assertLiteral(final SelectStatement selectStatement, final Object expectedLiteral, final int expectedStartIndex, final int expectedStopIndex) {
+        LiteralExpressionSegment actual = (LiteralExpressionSegment) ((BinaryOperationExpression) selectStatement.getWhere().get().getExpr()).getRight();
+        assertThat(actual.getLiterals(), is(expectedLiteral));
+        assertThat(actual.getStartIndex(), is(expectedStartIndex));
+        assertThat(actual.getStopIndex(), is(expectedStopIndex));
+    }
+}
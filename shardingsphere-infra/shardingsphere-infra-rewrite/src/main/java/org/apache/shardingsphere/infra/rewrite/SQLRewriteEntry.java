@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.rewrite;
 
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
@@ -51,9 +52,18 @@ public final class SQLRewriteEntry {
     private final Map<ShardingSphereRule, SQLRewriteContextDecorator> decorators;
     
     public SQLRewriteEntry(final ShardingSphereSchema schema, final ConfigurationProperties props, final Collection<ShardingSphereRule> rules) {
+        this(schema, props, OrderedSPIRegistry.getRegisteredServices(SQLRewriteContextDecorator.class, rules));
+    }
+    
+    public SQLRewriteEntry(final ShardingSphereSchema schema, final ConfigurationProperties props, final ShardingSphereRuleMetaData ruleMetaData) {
+        this(schema, props, ruleMetaData.getOrderedServices(SQLRewriteContextDecorator.class));
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private SQLRewriteEntry(final ShardingSphereSchema schema, final ConfigurationProperties props, final Map<ShardingSphereRule, SQLRewriteContextDecorator> decorators) {
         this.schema = schema;
         this.props = props;
-        decorators = OrderedSPIRegistry.getRegisteredServices(SQLRewriteContextDecorator.class, rules);
+        this.decorators = decorators;
     }
     
     /**
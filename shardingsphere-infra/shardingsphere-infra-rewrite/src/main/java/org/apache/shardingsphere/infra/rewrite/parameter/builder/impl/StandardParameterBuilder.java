@@ -20,11 +20,13 @@ package org.apache.shardingsphere.infra.rewrite.parameter.builder.impl;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -45,6 +47,8 @@ public final class StandardParameterBuilder implements ParameterBuilder {
 
     private final List<Integer> removeIndexAndParameters = new ArrayList<>();
     
+    private final Map<RouteUnit, BitSet> routeUnitRemovedIndexes = new HashMap<>();
+    
     /**
      * Add added parameters.
      * 
@@ -74,12 +78,42 @@ public final class StandardParameterBuilder implements ParameterBuilder {
         removeIndexAndParameters.add(index);
     }
     
+    /**
+     * Add parameters removed only for route unit.
+     *
+     * @param routeUnit route unit
+     * @param indexes original parameter indexes to be removed for route unit
+     */
+    public void addRouteUnitRemovedParameters(final RouteUnit routeUnit, final Collection<Integer> indexes) {
+        BitSet removedIndexes = routeUnitRemovedIndexes.computeIfAbsent(routeUnit, key -> new BitSet());
+        for (int each : indexes) {
+            removedIndexes.set(each);
+        }
+    }
+    
     @Override
     public List<Object> getParameters() {
-        List<Object> result = new LinkedList<>(originalParameters);
+        return getParameters(new BitSet());
+    }
+    
+    /**
+     * Get parameters for route unit.
+     *
+     * @param routeUnit route unit
+     * @return parameters for route unit
+     */
+    public List<Object> getParameters(final RouteUnit routeUnit) {
+        return getParameters(routeUnitRemovedIndexes.getOrDefault(routeUnit, new BitSet()));
+    }
+    
+    private List<Object> getParameters(final BitSet routeUnitRemovedIndexes) {
+        List<Object> result = new ArrayList<>(originalParameters);
         for (Entry<Integer, Object> entry : replacedIndexAndParameters.entrySet()) {
             result.set(entry.getKey(), entry.getValue());
         }
+        for (int i = routeUnitRemovedIndexes.nextSetBit(0); i >= 0; i = routeUnitRemovedIndexes.nextSetBit(i + 1)) {
+            result.set(i, RemovedParameter.INSTANCE);
+        }
         for (Entry<Integer, Collection<Object>> entry : ((TreeMap<Integer, Collection<Object>>) addedIndexAndParameters).descendingMap().entrySet()) {
             if (entry.getKey() > result.size()) {
                 result.addAll(entry.getValue());
@@ -90,6 +124,14 @@ public final class StandardParameterBuilder implements ParameterBuilder {
         for (int index : removeIndexAndParameters) {
             result.remove(index);
         }
+        if (!routeUnitRemovedIndexes.isEmpty()) {
+            result.removeIf(each -> RemovedParameter.INSTANCE == each);
+        }
         return result;
     }
+    
+    private enum RemovedParameter {
+        
+        INSTANCE
+    }
 }
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.infra.rewrite.parameter.builder.impl;
 
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -44,4 +46,14 @@ public final class StandardParameterBuilderTest {
     public void assertGetParameters() {
         assertThat(parameterBuilder.getParameters(), is(Arrays.<Object>asList(1, 1, 5, 7)));
     }
+    
+    @Test
+    public void assertGetParametersForRouteUnit() {
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds", "ds"), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+        parameterBuilder.addRouteUnitRemovedParameters(routeUnit, Arrays.asList(0, 3));
+        assertThat(parameterBuilder.getParameters(routeUnit), is(Arrays.<Object>asList(1, 7)));
+        assertThat(parameterBuilder.getParameters(new RouteUnit(new RouteMapper("ds", "ds"), Collections.singletonList(new RouteMapper("tbl", "tbl_1")))),
+                is(Arrays.<Object>asList(1, 1, 5, 7)));
+        assertThat(parameterBuilder.getParameters(), is(Arrays.<Object>asList(1, 1, 5, 7)));
+    }
 }
@@ -52,4 +52,16 @@ public interface SQLRouter<T extends ShardingSphereRule> extends OrderedSPI<T> {
      * @param props configuration properties
      */
     void decorateRouteContext(RouteContext routeContext, LogicSQL logicSQL, ShardingSphereMetaData metaData, T rule, ConfigurationProperties props);
+    
+    /**
+     * Judge whether route context is cacheable.
+     * 
+     * <p>Route context is cacheable only if it is always same for the same logic SQL, parameters and meta data.</p>
+     * 
+     * @param rule rule
+     * @return route context is cacheable or not
+     */
+    default boolean isRouteContextCacheable(T rule) {
+        return false;
+    }
 }
@@ -73,6 +73,11 @@ public final class SingleTableSQLRouter implements SQLRouter<SingleTableRule> {
         route(logicSQL, rule, routeContext);
     }
     
+    @Override
+    public boolean isRouteContextCacheable(final SingleTableRule rule) {
+        return true;
+    }
+    
     @Override
     public int getOrder() {
         return SingleTableOrder.ORDER;
@@ -17,10 +17,10 @@
 
 package org.apache.shardingsphere.infra.route.engine;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.engine.impl.AllSQLRouteExecutor;
 import org.apache.shardingsphere.infra.route.engine.impl.PartialSQLRouteExecutor;
@@ -29,17 +29,26 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLShowTablesStatement;
 
 import java.util.Collection;
+import java.util.Collections;
 
 /**
  * SQL route engine.
  */
-@RequiredArgsConstructor
 public final class SQLRouteEngine {
     
-    private final Collection<ShardingSphereRule> rules;
+    private final ShardingSphereRuleMetaData ruleMetaData;
     
     private final ConfigurationProperties props;
     
+    public SQLRouteEngine(final Collection<ShardingSphereRule> rules, final ConfigurationProperties props) {
+        this(new ShardingSphereRuleMetaData(Collections.emptyList(), rules), props);
+    }
+    
+    public SQLRouteEngine(final ShardingSphereRuleMetaData ruleMetaData, final ConfigurationProperties props) {
+        this.ruleMetaData = ruleMetaData;
+        this.props = props;
+    }
+    
     /**
      * Route SQL.
      *
@@ -48,8 +57,21 @@ public final class SQLRouteEngine {
      * @return route context
      */
     public RouteContext route(final LogicSQL logicSQL, final ShardingSphereMetaData metaData) {
-        SQLRouteExecutor executor = isNeedAllSchemas(logicSQL.getSqlStatementContext().getSqlStatement()) ? new AllSQLRouteExecutor() : new PartialSQLRouteExecutor(rules, props);
-        return executor.route(logicSQL, metaData);
+        return createSQLRouteExecutor(logicSQL).route(logicSQL, metaData);
+    }
+    
+    /**
+     * Judge whether route context is cacheable.
+     *
+     * @param logicSQL logic SQL
+     * @return route context is cacheable or not
+     */
+    public boolean isRouteContextCacheable(final LogicSQL logicSQL) {
+        return createSQLRouteExecutor(logicSQL).isRouteContextCacheable();
+    }
+    
+    private SQLRouteExecutor createSQLRouteExecutor(final LogicSQL logicSQL) {
+        return isNeedAllSchemas(logicSQL.getSqlStatementContext().getSqlStatement()) ? new AllSQLRouteExecutor() : new PartialSQLRouteExecutor(ruleMetaData, props);
     }
     
     // TODO use dynamic config to judge UnconfiguredSchema
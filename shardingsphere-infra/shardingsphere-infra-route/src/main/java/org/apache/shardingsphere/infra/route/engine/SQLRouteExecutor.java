@@ -34,4 +34,11 @@ public interface SQLRouteExecutor {
      * @return route context
      */
     RouteContext route(LogicSQL logicSQL, ShardingSphereMetaData metaData);
+    
+    /**
+     * Judge whether route context is cacheable.
+     * 
+     * @return route context is cacheable or not
+     */
+    boolean isRouteContextCacheable();
 }
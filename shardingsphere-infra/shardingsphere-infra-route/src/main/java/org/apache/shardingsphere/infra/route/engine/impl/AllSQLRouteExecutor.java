@@ -39,4 +39,9 @@ public final class AllSQLRouteExecutor implements SQLRouteExecutor {
         }
         return result;
     }
+    
+    @Override
+    public boolean isRouteContextCacheable() {
+        return true;
+    }
 }
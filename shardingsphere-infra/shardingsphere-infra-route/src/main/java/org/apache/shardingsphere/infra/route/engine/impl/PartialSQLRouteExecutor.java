@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.route.engine.impl;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.route.SQLRouter;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
@@ -49,8 +50,17 @@ public final class PartialSQLRouteExecutor implements SQLRouteExecutor {
     private final Map<ShardingSphereRule, SQLRouter> routers;
     
     public PartialSQLRouteExecutor(final Collection<ShardingSphereRule> rules, final ConfigurationProperties props) {
+        this(OrderedSPIRegistry.getRegisteredServices(SQLRouter.class, rules), props);
+    }
+    
+    public PartialSQLRouteExecutor(final ShardingSphereRuleMetaData ruleMetaData, final ConfigurationProperties props) {
+        this(ruleMetaData.getOrderedServices(SQLRouter.class), props);
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private PartialSQLRouteExecutor(final Map<ShardingSphereRule, SQLRouter> routers, final ConfigurationProperties props) {
         this.props = props;
-        routers = OrderedSPIRegistry.getRegisteredServices(SQLRouter.class, rules);
+        this.routers = routers;
     }
     
     @Override
@@ -70,4 +80,15 @@ public final class PartialSQLRouteExecutor implements SQLRouteExecutor {
         }
         return result;
     }
+    
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public boolean isRouteContextCacheable() {
+        for (Entry<ShardingSphereRule, SQLRouter> entry : routers.entrySet()) {
+            if (!entry.getValue().isRouteContextCacheable(entry.getKey())) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -202,7 +202,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         cacheStatements(executionGroupContext.getInputGroups());
         return driverJDBCExecutor.executeQuery(executionGroupContext, executionContext.getLogicSQL(),
                 new PreparedStatementExecuteQueryCallback(metaDataContexts.getMetaData(connection.getSchemaName()).getResource().getDatabaseType(), sqlStatement,
-                        SQLExecutorExceptionHandler.isExceptionThrown()));
+                        SQLExecutorExceptionHandler.isExceptionThrown(), isColumnarMemoryQueryResult()));
     }
     
     private List<QueryResult> executeFederatedQuery() throws SQLException {
@@ -210,10 +210,14 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
             return Collections.emptyList();
         }
         PreparedStatementExecuteQueryCallback callback = new PreparedStatementExecuteQueryCallback(metaDataContexts.getMetaData(connection.getSchemaName()).getResource().getDatabaseType(),
-                 sqlStatement, SQLExecutorExceptionHandler.isExceptionThrown());
+                 sqlStatement, SQLExecutorExceptionHandler.isExceptionThrown(), isColumnarMemoryQueryResult());
         return federateExecutor.executeQuery(executionContext, callback, createDriverExecutionPrepareEngine());
     }
     
+    private boolean isColumnarMemoryQueryResult() {
+        return metaDataContexts.getProps().<Boolean>getValue(ConfigurationPropertyKey.COLUMNAR_MEMORY_QUERY_RESULT_ENABLED);
+    }
+    
     private DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> createDriverExecutionPrepareEngine() {
         int maxConnectionsSizePerQuery = metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
         return new DriverExecutionPrepareEngine<>(JDBCDriverType.PREPARED_STATEMENT, maxConnectionsSizePerQuery, connection, 
@@ -372,7 +376,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     private MergedResult mergeQuery(final List<QueryResult> queryResults) throws SQLException {
         ShardingSphereMetaData metaData = metaDataContexts.getMetaData(connection.getSchemaName());
         MergeEngine mergeEngine = new MergeEngine(connection.getSchemaName(), metaData.getResource().getDatabaseType(), metaData.getSchema(),
-                metaDataContexts.getProps(), metaData.getRuleMetaData().getRules());
+                metaDataContexts.getProps(), metaData.getRuleMetaData());
         return mergeEngine.merge(queryResults, executionContext.getSqlStatementContext());
     }
     
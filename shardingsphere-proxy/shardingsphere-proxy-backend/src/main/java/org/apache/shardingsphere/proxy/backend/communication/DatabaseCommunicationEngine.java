@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.proxy.backend.communication;
 
+import com.google.common.collect.Lists;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
@@ -24,6 +25,7 @@ import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementConte
 import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.context.metadata.refresher.MetadataRefreshEngine;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderResults;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
@@ -31,9 +33,12 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.update.Update
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.stream.StreamMergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.transparent.TransparentMergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.netty.mysql.MySQLNettyQueryResult;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
@@ -50,6 +55,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
@@ -76,6 +82,10 @@ public final class DatabaseCommunicationEngine {
     
     private MergedResult mergedResult;
     
+    private boolean rawValueMerged;
+    
+    private Collection<ExecuteResult> executeResults;
+    
     private ProxyLockEngine proxyLockEngine;
     
     private final Collection<Statement> cachedStatements = new CopyOnWriteArrayList<>();
@@ -123,19 +133,42 @@ public final class DatabaseCommunicationEngine {
             return new UpdateResponseHeader(executionContext.getSqlStatementContext().getSqlStatement());
         }
         proxySQLExecutor.checkExecutePrerequisites(executionContext);
-        Collection<ExecuteResult> executeResults = proxyLockEngine.execute(executionContext);
+        executeResults = proxyLockEngine.execute(executionContext);
         ExecuteResult executeResultSample = executeResults.iterator().next();
         return executeResultSample instanceof QueryResult
-                ? processExecuteQuery(executionContext, executeResults.stream().map(each -> (QueryResult) each).collect(Collectors.toList()), (QueryResult) executeResultSample)
+                ? processExecuteQuery(executionContext, getQueryResults(executeResults), (QueryResult) executeResultSample)
                 : processExecuteUpdate(executionContext, executeResults.stream().map(each -> (UpdateResult) each).collect(Collectors.toList()));
     }
     
+    private List<QueryResult> getQueryResults(final Collection<ExecuteResult> executeResults) {
+        return executeResults instanceof CompletionOrderResults
+                ? Lists.transform((CompletionOrderResults<ExecuteResult>) executeResults, each -> (QueryResult) each)
+                : executeResults.stream().map(each -> (QueryResult) each).collect(Collectors.toList());
+    }
+    
     private QueryResponseHeader processExecuteQuery(final ExecutionContext executionContext, final List<QueryResult> queryResults, final QueryResult queryResultSample) throws SQLException {
         queryHeaders = createQueryHeaders(executionContext, queryResultSample);
         mergedResult = mergeQuery(executionContext.getSqlStatementContext(), queryResults);
+        rawValueMerged = isRawValueMerged(executionContext.getSqlStatementContext(), queryResults, queryResultSample);
         return new QueryResponseHeader(queryHeaders);
     }
     
+    private boolean isRawValueMerged(final SQLStatementContext<?> sqlStatementContext, final List<QueryResult> queryResults, final QueryResult queryResultSample) {
+        // Query results in completion order are JDBC results, checking the sample first never waits for pending execution groups.
+        if (!(queryResultSample instanceof MySQLNettyQueryResult) || !queryResults.stream().allMatch(each -> each instanceof MySQLNettyQueryResult)) {
+            return false;
+        }
+        if (mergedResult instanceof TransparentMergedResult) {
+            return true;
+        }
+        return mergedResult instanceof StreamMergedResult && (1 == queryResults.size() || !isMergedByGroup(sqlStatementContext));
+    }
+    
+    private boolean isMergedByGroup(final SQLStatementContext<?> sqlStatementContext) {
+        return !(sqlStatementContext instanceof SelectStatementContext) || !((SelectStatementContext) sqlStatementContext).getGroupByContext().getItems().isEmpty()
+                || !((SelectStatementContext) sqlStatementContext).getProjectionsContext().getAggregationProjections().isEmpty();
+    }
+    
     private List<QueryHeader> createQueryHeaders(final ExecutionContext executionContext, final QueryResult queryResultSample) throws SQLException {
         int columnCount = getColumnCount(executionContext, queryResultSample);
         List<QueryHeader> result = new ArrayList<>(columnCount);
@@ -165,7 +198,7 @@ public final class DatabaseCommunicationEngine {
     private MergedResult mergeQuery(final SQLStatementContext<?> sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
         MergeEngine mergeEngine = new MergeEngine(DefaultSchema.LOGIC_NAME, 
                 ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData(metaData.getName()).getResource().getDatabaseType(),
-                metaData.getSchema(), ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps(), metaData.getRuleMetaData().getRules());
+                metaData.getSchema(), ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps(), metaData.getRuleMetaData());
         return mergeEngine.merge(queryResults, sqlStatementContext);
     }
     
@@ -206,8 +239,9 @@ public final class DatabaseCommunicationEngine {
     public QueryResponseRow getQueryResponseRow() throws SQLException {
         List<QueryResponseCell> cells = new ArrayList<>(queryHeaders.size());
         boolean isBinary = isBinary();
+        Class<?> valueType = !isBinary && rawValueMerged ? byte[].class : Object.class;
         for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
-            Object data = mergedResult.getValue(columnIndex, Object.class);
+            Object data = mergedResult.getValue(columnIndex, valueType);
             if (isBinary) {
                 cells.add(new BinaryQueryResponseCell(queryHeaders.get(columnIndex - 1).getColumnType(), data));
             } else {
@@ -217,6 +251,21 @@ public final class DatabaseCommunicationEngine {
         return new QueryResponseRow(cells);
     }
     
+    /**
+     * Get row data of text protocol, which skips building query response cells.
+     *
+     * @return row data
+     * @throws SQLException SQL exception
+     */
+    public List<Object> getRowData() throws SQLException {
+        List<Object> result = new ArrayList<>(queryHeaders.size());
+        Class<?> valueType = rawValueMerged ? byte[].class : Object.class;
+        for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
+            result.add(mergedResult.getValue(columnIndex, valueType));
+        }
+        return result;
+    }
+    
     private boolean isBinary() {
         return JDBCDriverType.PREPARED_STATEMENT.equals(driverType);
     }
@@ -227,7 +276,11 @@ public final class DatabaseCommunicationEngine {
      * @throws SQLException SQL exception
      */
     public void close() throws SQLException {
+        if (executeResults instanceof CompletionOrderResults) {
+            ((CompletionOrderResults<ExecuteResult>) executeResults).awaitCompletion();
+        }
         Collection<SQLException> result = new LinkedList<>();
+        result.addAll(closeMergedResult());
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         if (result.isEmpty()) {
@@ -238,6 +291,20 @@ public final class DatabaseCommunicationEngine {
         throw ex;
     }
     
+    private Collection<SQLException> closeMergedResult() {
+        if (null == mergedResult) {
+            return Collections.emptyList();
+        }
+        try {
+            mergedResult.close();
+        } catch (final SQLException ex) {
+            return Collections.singletonList(ex);
+        } finally {
+            mergedResult = null;
+        }
+        return Collections.emptyList();
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
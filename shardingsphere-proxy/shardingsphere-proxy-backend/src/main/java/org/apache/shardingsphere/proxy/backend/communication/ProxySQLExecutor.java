@@ -20,6 +20,7 @@ package org.apache.shardingsphere.proxy.backend.communication;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
@@ -34,6 +35,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult
 import org.apache.shardingsphere.infra.executor.sql.federate.execute.FederateExecutor;
 import org.apache.shardingsphere.infra.executor.sql.federate.execute.FederateJDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.infra.executor.sql.prepare.raw.RawExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
@@ -43,11 +45,13 @@ import org.apache.shardingsphere.proxy.backend.communication.jdbc.executor.Proxy
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.executor.callback.ProxyJDBCExecutorCallback;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.executor.callback.ProxyJDBCExecutorCallbackFactory;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.transaction.TransactionStatus;
+import org.apache.shardingsphere.proxy.backend.communication.netty.executor.ProxyNettyExecutor;
 import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.exception.TableModifyInTransactionException;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.DDLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.PostgreSQLStatement;
 import org.apache.shardingsphere.transaction.core.TransactionType;
@@ -64,6 +68,8 @@ import java.util.stream.Collectors;
  */
 public final class ProxySQLExecutor {
     
+    private static final String EXPERIMENTAL_NETTY_DRIVER_TYPE = "ExperimentalNetty";
+    
     private final String type;
     
     private final BackendConnection backendConnection;
@@ -76,6 +82,8 @@ public final class ProxySQLExecutor {
     
     private final FederateExecutor federateExecutor;
     
+    private final ProxyNettyExecutor nettyExecutor;
+    
     public ProxySQLExecutor(final String type, final BackendConnection backendConnection, final DatabaseCommunicationEngine databaseCommunicationEngine) {
         this.type = type;
         this.backendConnection = backendConnection;
@@ -88,6 +96,7 @@ public final class ProxySQLExecutor {
         // TODO Consider FederateRawExecutor
         federateExecutor = new FederateJDBCExecutor(backendConnection.getSchemaName(), metaDataContexts.getOptimizeContextFactory(),
                 metaDataContexts.getProps(), new JDBCExecutor(executorEngine, isSerialExecute));
+        nettyExecutor = new ProxyNettyExecutor(backendConnection.getSchemaName());
     }
     
     /**
@@ -134,6 +143,9 @@ public final class ProxySQLExecutor {
         if (executionContext.getRouteContext().isFederated()) {
             return federateExecute(executionContext, isReturnGeneratedKeys, SQLExecutorExceptionHandler.isExceptionThrown());
         }
+        if (isUseNettyToExecute(executionContext)) {
+            return nettyExecutor.execute(executionContext.getExecutionUnits(), maxConnectionsSizePerQuery);
+        }
         return useDriverToExecute(executionContext, rules, maxConnectionsSizePerQuery, isReturnGeneratedKeys, SQLExecutorExceptionHandler.isExceptionThrown());
     }
     
@@ -169,6 +181,15 @@ public final class ProxySQLExecutor {
                 metaData.getMetaData(backendConnection.getSchemaName()).getRuleMetaData().getRules());
     }
     
+    private boolean isUseNettyToExecute(final ExecutionContext executionContext) {
+        MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
+        return EXPERIMENTAL_NETTY_DRIVER_TYPE.equals(metaDataContexts.getProps().<String>getValue(ConfigurationPropertyKey.PROXY_BACKEND_DRIVER_TYPE)) 
+                && JDBCDriverType.STATEMENT.equals(type) && executionContext.getSqlStatementContext().getSqlStatement() instanceof SelectStatement
+                && metaDataContexts.getMetaData(backendConnection.getSchemaName()).getResource().getDatabaseType() instanceof MySQLDatabaseType
+                && !backendConnection.getTransactionStatus().isInTransaction() && backendConnection.getConnectionPostProcessors().isEmpty()
+                && nettyExecutor.isExecutable(executionContext.getExecutionUnits());
+    }
+    
     private Collection<ExecuteResult> useDriverToExecute(final ExecutionContext executionContext, final Collection<ShardingSphereRule> rules, 
                                                          final int maxConnectionsSizePerQuery, final boolean isReturnGeneratedKeys, final boolean isExceptionThrown) throws SQLException {
         DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = new DriverExecutionPrepareEngine<>(
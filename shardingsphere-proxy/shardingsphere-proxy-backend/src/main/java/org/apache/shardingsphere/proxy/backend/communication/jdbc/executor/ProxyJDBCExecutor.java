@@ -21,8 +21,10 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderResults;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
@@ -30,8 +32,10 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult
 import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
 import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngine;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.executor.callback.ProxyJDBCExecutorCallback;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.executor.callback.ProxyJDBCExecutorCallbackFactory;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 
 import java.sql.SQLException;
 import java.util.Collection;
@@ -68,13 +72,24 @@ public final class ProxyJDBCExecutor {
             DatabaseType databaseType = metaDataContexts.getMetaData(backendConnection.getSchemaName()).getResource().getDatabaseType();
             ExecuteProcessEngine.initialize(logicSQL, executionGroupContext, metaDataContexts.getProps());
             SQLStatementContext<?> context = logicSQL.getSqlStatementContext();
-            Collection<ExecuteResult> result = jdbcExecutor.execute(executionGroupContext,
-                    ProxyJDBCExecutorCallbackFactory.newInstance(type, databaseType, context.getSqlStatement(), databaseCommunicationEngine, isReturnGeneratedKeys, isExceptionThrown, true),
-                    ProxyJDBCExecutorCallbackFactory.newInstance(type, databaseType, context.getSqlStatement(), databaseCommunicationEngine, isReturnGeneratedKeys, isExceptionThrown, false));
-            ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
+            ProxyJDBCExecutorCallback firstCallback = 
+                    ProxyJDBCExecutorCallbackFactory.newInstance(type, databaseType, context.getSqlStatement(), databaseCommunicationEngine, isReturnGeneratedKeys, isExceptionThrown, true);
+            ProxyJDBCExecutorCallback callback = 
+                    ProxyJDBCExecutorCallbackFactory.newInstance(type, databaseType, context.getSqlStatement(), databaseCommunicationEngine, isReturnGeneratedKeys, isExceptionThrown, false);
+            Collection<ExecuteResult> result = isExecuteInCompletionOrder(metaDataContexts, context)
+                    ? jdbcExecutor.executeInCompletionOrder(executionGroupContext, firstCallback, callback) : jdbcExecutor.execute(executionGroupContext, firstCallback, callback);
+            if (result instanceof CompletionOrderResults) {
+                ((CompletionOrderResults<ExecuteResult>) result).setCompletionCallback(ExecuteProcessEngine.createFinishCallback(executionGroupContext.getExecutionID()));
+            } else {
+                ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
+            }
             return result;
         } finally {
             ExecuteProcessEngine.clean();
         }
     }
+    
+    private boolean isExecuteInCompletionOrder(final MetaDataContexts metaDataContexts, final SQLStatementContext<?> sqlStatementContext) {
+        return metaDataContexts.getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_COMPLETION_ORDER_ENABLED) && sqlStatementContext.getSqlStatement() instanceof SelectStatement;
+    }
 }
@@ -0,0 +1,245 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty;
+
+import com.google.common.base.Splitter;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.datasource.DataSourceConfiguration;
+import org.apache.shardingsphere.proxy.backend.communication.BackendDataSource;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ConnectionUrlParser;
+import org.apache.shardingsphere.proxy.backend.communication.netty.mysql.MySQLNettyCollation;
+import org.apache.shardingsphere.proxy.backend.communication.netty.mysql.MySQLNettyConnectionConfiguration;
+import org.apache.shardingsphere.proxy.backend.communication.netty.mysql.MySQLNettyConnectionPool;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Backend data source of Netty.
+ * 
+ * <p>Data sources whose JDBC URL requires features not supported by Netty backend, such as SSL or multiple queries, are left to JDBC.
+ * Connection pools are kept by schema name and data source name, and are closed when the data source is changed or the schema is dropped.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class NettyBackendDataSource implements BackendDataSource {
+    
+    private static final NettyBackendDataSource INSTANCE = new NettyBackendDataSource();
+    
+    private static final int DEFAULT_MAX_POOL_SIZE = 10;
+    
+    private static final long DEFAULT_CONNECTION_TIMEOUT_MILLIS = 30000L;
+    
+    private static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 600000L;
+    
+    private static final long DEFAULT_RESPONSE_TIMEOUT_MILLIS = 600000L;
+    
+    private static final long EVICTION_INTERVAL_MILLIS = 30000L;
+    
+    private final Map<String, Map<String, ConnectionPoolHolder>> connectionPools = new ConcurrentHashMap<>();
+    
+    private volatile EventLoopGroup eventLoopGroup;
+    
+    /**
+     * Get instance of Netty backend data source.
+     *
+     * @return instance of Netty backend data source
+     */
+    public static NettyBackendDataSource getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get connection pool.
+     *
+     * @param schemaName schema name
+     * @param dataSourceName data source name
+     * @return connection pool, empty if data source can not be connected with Netty
+     */
+    public Optional<MySQLNettyConnectionPool> getConnectionPool(final String schemaName, final String dataSourceName) {
+        DataSource dataSource = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData(schemaName).getResource().getDataSources().get(dataSourceName);
+        if (null == dataSource) {
+            closeConnectionPool(schemaName, dataSourceName);
+            return Optional.empty();
+        }
+        return connectionPools.computeIfAbsent(schemaName, key -> new ConcurrentHashMap<>()).compute(dataSourceName, (key, value) -> {
+            if (null != value && value.getDataSource() == dataSource) {
+                return value;
+            }
+            if (null != value) {
+                value.close();
+            }
+            return new ConnectionPoolHolder(dataSource, createConnectionPool(dataSource));
+        }).getConnectionPool();
+    }
+    
+    /**
+     * Renew connection pools of schema with changed data sources.
+     * 
+     * <p>Connection pools of data sources which are removed or replaced are closed.</p>
+     *
+     * @param schemaName schema name
+     * @param dataSources data sources of schema after change
+     */
+    public void renewConnectionPools(final String schemaName, final Map<String, DataSource> dataSources) {
+        Map<String, ConnectionPoolHolder> schemaConnectionPools = connectionPools.get(schemaName);
+        if (null == schemaConnectionPools) {
+            return;
+        }
+        for (Entry<String, ConnectionPoolHolder> entry : schemaConnectionPools.entrySet()) {
+            if (entry.getValue().getDataSource() != dataSources.get(entry.getKey()) && schemaConnectionPools.remove(entry.getKey(), entry.getValue())) {
+                entry.getValue().close();
+            }
+        }
+    }
+    
+    /**
+     * Close connection pools of schema.
+     *
+     * @param schemaName schema name
+     */
+    public void closeConnectionPools(final String schemaName) {
+        Map<String, ConnectionPoolHolder> schemaConnectionPools = connectionPools.remove(schemaName);
+        if (null != schemaConnectionPools) {
+            schemaConnectionPools.values().forEach(ConnectionPoolHolder::close);
+        }
+    }
+    
+    private void closeConnectionPool(final String schemaName, final String dataSourceName) {
+        Map<String, ConnectionPoolHolder> schemaConnectionPools = connectionPools.get(schemaName);
+        ConnectionPoolHolder connectionPoolHolder = null == schemaConnectionPools ? null : schemaConnectionPools.remove(dataSourceName);
+        if (null != connectionPoolHolder) {
+            connectionPoolHolder.close();
+        }
+    }
+    
+    private Optional<MySQLNettyConnectionPool> createConnectionPool(final DataSource dataSource) {
+        Map<String, Object> props = DataSourceConfiguration.getDataSourceConfiguration(dataSource).getProps();
+        Object jdbcUrl = props.containsKey("jdbcUrl") ? props.get("jdbcUrl") : props.get("url");
+        if (!(jdbcUrl instanceof String)) {
+            return Optional.empty();
+        }
+        long connectionTimeoutMillis = getLongValue(props.get("connectionTimeout"), DEFAULT_CONNECTION_TIMEOUT_MILLIS);
+        Optional<MySQLNettyConnectionConfiguration> connectionConfig = createConnectionConfiguration((String) jdbcUrl, props, connectionTimeoutMillis);
+        if (!connectionConfig.isPresent()) {
+            return Optional.empty();
+        }
+        int maxPoolSize = (int) getLongValue(props.containsKey("maximumPoolSize") ? props.get("maximumPoolSize") : props.get("maxPoolSize"), DEFAULT_MAX_POOL_SIZE);
+        long idleTimeoutMillis = getLongValue(props.get("idleTimeout"), DEFAULT_IDLE_TIMEOUT_MILLIS);
+        return Optional.of(new MySQLNettyConnectionPool(getEventLoopGroup(), connectionConfig.get(), maxPoolSize, connectionTimeoutMillis, idleTimeoutMillis));
+    }
+    
+    private Optional<MySQLNettyConnectionConfiguration> createConnectionConfiguration(final String jdbcUrl, final Map<String, Object> props, final long connectionTimeoutMillis) {
+        ConnectionUrlParser connectionUrlParser = new ConnectionUrlParser(jdbcUrl);
+        String authority = connectionUrlParser.getAuthority();
+        if (!"jdbc:mysql:".equals(connectionUrlParser.getScheme()) || null == authority || authority.isEmpty() || authority.contains(",")) {
+            return Optional.empty();
+        }
+        Map<String, String> urlProps = getURLProperties(connectionUrlParser.getQuery());
+        if (!isSupported(urlProps)) {
+            return Optional.empty();
+        }
+        Optional<MySQLNettyCollation> collation = getCollation(urlProps);
+        if (!collation.isPresent()) {
+            return Optional.empty();
+        }
+        int portIndex = authority.lastIndexOf(':');
+        String host = portIndex < 0 ? authority : authority.substring(0, portIndex);
+        int port = portIndex < 0 ? 3306 : Integer.parseInt(authority.substring(portIndex + 1));
+        Object username = props.containsKey("username") ? props.get("username") : props.get("user");
+        Object password = props.get("password");
+        long socketTimeoutMillis = getLongValue(urlProps.get("socketTimeout"), 0L);
+        return Optional.of(new MySQLNettyConnectionConfiguration(host, port, null == username ? "" : username.toString(), null == password ? "" : password.toString(),
+                connectionUrlParser.getPath(), collation.get(), urlProps.get("sessionVariables"), Boolean.parseBoolean(urlProps.get("allowPublicKeyRetrieval")),
+                (int) getLongValue(urlProps.get("connectTimeout"), connectionTimeoutMillis), socketTimeoutMillis > 0L ? socketTimeoutMillis : DEFAULT_RESPONSE_TIMEOUT_MILLIS));
+    }
+    
+    private Map<String, String> getURLProperties(final String query) {
+        Map<String, String> result = new HashMap<>();
+        if (null == query || query.isEmpty()) {
+            return result;
+        }
+        for (String each : Splitter.on('&').omitEmptyStrings().split(query)) {
+            int separatorIndex = each.indexOf('=');
+            if (separatorIndex > 0) {
+                result.put(each.substring(0, separatorIndex), each.substring(separatorIndex + 1));
+            }
+        }
+        return result;
+    }
+    
+    private boolean isSupported(final Map<String, String> urlProps) {
+        String sslMode = urlProps.get("sslMode");
+        boolean sslRequired = null == sslMode ? Boolean.parseBoolean(urlProps.get("useSSL")) || Boolean.parseBoolean(urlProps.get("requireSSL")) : !"DISABLED".equalsIgnoreCase(sslMode);
+        return !sslRequired && !Boolean.parseBoolean(urlProps.get("allowMultiQueries")) && !Boolean.parseBoolean(urlProps.get("useCompression"));
+    }
+    
+    private Optional<MySQLNettyCollation> getCollation(final Map<String, String> urlProps) {
+        if (urlProps.containsKey("connectionCollation")) {
+            return MySQLNettyCollation.findByCollationName(urlProps.get("connectionCollation"));
+        }
+        if (urlProps.containsKey("characterEncoding")) {
+            return MySQLNettyCollation.findByCharacterEncoding(urlProps.get("characterEncoding"));
+        }
+        return Optional.of(MySQLNettyCollation.UTF8MB4_GENERAL_CI);
+    }
+    
+    private long getLongValue(final Object value, final long defaultValue) {
+        return null == value || value.toString().isEmpty() ? defaultValue : Long.parseLong(value.toString());
+    }
+    
+    private EventLoopGroup getEventLoopGroup() {
+        if (null == eventLoopGroup) {
+            synchronized (this) {
+                if (null == eventLoopGroup) {
+                    eventLoopGroup = new NioEventLoopGroup(0, new DefaultThreadFactory("ShardingSphere-Netty-Backend", true));
+                    eventLoopGroup.scheduleWithFixedDelay(this::evictIdleConnections, EVICTION_INTERVAL_MILLIS, EVICTION_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+        return eventLoopGroup;
+    }
+    
+    private void evictIdleConnections() {
+        connectionPools.values().forEach(each -> each.values().forEach(holder -> holder.getConnectionPool().ifPresent(MySQLNettyConnectionPool::evictIdleConnections)));
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class ConnectionPoolHolder {
+        
+        private final DataSource dataSource;
+        
+        private final Optional<MySQLNettyConnectionPool> connectionPool;
+        
+        private void close() {
+            connectionPool.ifPresent(MySQLNettyConnectionPool::close);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.executor;
+
+import com.google.common.collect.Lists;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
+import org.apache.shardingsphere.proxy.backend.communication.netty.NettyBackendDataSource;
+import org.apache.shardingsphere.proxy.backend.communication.netty.mysql.MySQLNettyBackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.netty.mysql.MySQLNettyConnectionPool;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Proxy executor based on Netty.
+ * 
+ * <p>All SQL of a data source are pipelined on one connection, and all data sources are requested before any response is awaited.</p>
+ */
+@RequiredArgsConstructor
+public final class ProxyNettyExecutor {
+    
+    private final String schemaName;
+    
+    /**
+     * Judge whether execution units can be executed with Netty.
+     *
+     * @param executionUnits execution units
+     * @return can be executed or not
+     */
+    public boolean isExecutable(final Collection<ExecutionUnit> executionUnits) {
+        NettyBackendDataSource dataSource = NettyBackendDataSource.getInstance();
+        return executionUnits.stream().allMatch(each -> each.getSqlUnit().getParameters().isEmpty() && dataSource.getConnectionPool(schemaName, each.getDataSourceName()).isPresent());
+    }
+    
+    /**
+     * Execute.
+     * 
+     * <p>SQL units of a data source are pipelined on at most {@code maxConnectionsSizePerQuery} connections.</p>
+     *
+     * @param executionUnits execution units
+     * @param maxConnectionsSizePerQuery max connections size per query
+     * @return execute results
+     * @throws SQLException SQL exception
+     */
+    public Collection<ExecuteResult> execute(final Collection<ExecutionUnit> executionUnits, final int maxConnectionsSizePerQuery) throws SQLException {
+        Map<String, List<ExecutionUnit>> dataSourceExecutionUnits = new LinkedHashMap<>();
+        for (ExecutionUnit each : executionUnits) {
+            dataSourceExecutionUnits.computeIfAbsent(each.getDataSourceName(), unused -> new ArrayList<>()).add(each);
+        }
+        Map<MySQLNettyConnectionPool, List<MySQLNettyBackendConnection>> connections = new LinkedHashMap<>(dataSourceExecutionUnits.size(), 1);
+        List<PendingResponse> pendingResponses = new ArrayList<>(executionUnits.size());
+        try {
+            for (Entry<String, List<ExecutionUnit>> entry : dataSourceExecutionUnits.entrySet()) {
+                MySQLNettyConnectionPool connectionPool = getConnectionPool(entry.getKey());
+                List<MySQLNettyBackendConnection> dataSourceConnections = connectionPool.getConnections(Math.min(entry.getValue().size(), maxConnectionsSizePerQuery));
+                connections.put(connectionPool, dataSourceConnections);
+                sendQueries(entry.getValue(), dataSourceConnections, pendingResponses);
+            }
+            return awaitResults(pendingResponses);
+        } finally {
+            for (Entry<MySQLNettyConnectionPool, List<MySQLNettyBackendConnection>> entry : connections.entrySet()) {
+                entry.getValue().forEach(entry.getKey()::releaseConnection);
+            }
+        }
+    }
+    
+    private MySQLNettyConnectionPool getConnectionPool(final String dataSourceName) throws SQLException {
+        Optional<MySQLNettyConnectionPool> result = NettyBackendDataSource.getInstance().getConnectionPool(schemaName, dataSourceName);
+        if (!result.isPresent()) {
+            throw new SQLException(String.format("Can not connect to data source `%s` with Netty.", dataSourceName));
+        }
+        return result.get();
+    }
+    
+    private void sendQueries(final List<ExecutionUnit> executionUnits, final List<MySQLNettyBackendConnection> connections, final List<PendingResponse> pendingResponses) {
+        int partitionSize = (executionUnits.size() + connections.size() - 1) / connections.size();
+        Iterator<MySQLNettyBackendConnection> connectionIterator = connections.iterator();
+        for (List<ExecutionUnit> each : Lists.partition(executionUnits, partitionSize)) {
+            MySQLNettyBackendConnection connection = connectionIterator.next();
+            for (ExecutionUnit executionUnit : each) {
+                pendingResponses.add(new PendingResponse(connection, connection.query(executionUnit.getSqlUnit().getSql())));
+            }
+            connection.flush();
+        }
+    }
+    
+    private Collection<ExecuteResult> awaitResults(final List<PendingResponse> pendingResponses) throws SQLException {
+        Collection<ExecuteResult> result = new ArrayList<>(pendingResponses.size());
+        SQLException firstException = null;
+        for (PendingResponse each : pendingResponses) {
+            try {
+                Object response = each.connection.await(each.response);
+                result.add(response instanceof MySQLOKPacket
+                        ? new UpdateResult((int) ((MySQLOKPacket) response).getAffectedRows(), ((MySQLOKPacket) response).getLastInsertId()) : (ExecuteResult) response);
+            } catch (final SQLException ex) {
+                if (null == firstException) {
+                    firstException = ex;
+                }
+            }
+        }
+        if (null != firstException) {
+            throw firstException;
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class PendingResponse {
+        
+        private final MySQLNettyBackendConnection connection;
+        
+        private final CompletableFuture<Object> response;
+    }
+}
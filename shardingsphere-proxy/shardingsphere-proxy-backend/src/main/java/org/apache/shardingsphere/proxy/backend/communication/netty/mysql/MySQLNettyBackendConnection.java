@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.concurrent.DefaultPromise;
+import io.netty.util.concurrent.Promise;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.admin.ping.MySQLComPingPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+
+import java.sql.SQLException;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * MySQL backend connection based on Netty.
+ * 
+ * <p>Queries are pipelined: they are written without waiting for previous responses, and responses are completed in request order.</p>
+ */
+@Slf4j
+public final class MySQLNettyBackendConnection {
+    
+    private final Channel channel;
+    
+    private final int connectTimeoutMillis;
+    
+    private final long responseTimeoutMillis;
+    
+    private final Queue<CompletableFuture<Object>> pendingResponses = new ConcurrentLinkedQueue<>();
+    
+    private MySQLNettyBackendConnection(final EventLoopGroup eventLoopGroup, final MySQLNettyConnectionConfiguration connectionConfig, final Promise<Object> negotiateCallback) {
+        connectTimeoutMillis = connectionConfig.getConnectTimeoutMillis();
+        responseTimeoutMillis = connectionConfig.getResponseTimeoutMillis();
+        channel = new Bootstrap()
+                .group(eventLoopGroup)
+                .channel(NioSocketChannel.class)
+                .option(ChannelOption.TCP_NODELAY, true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectionConfig.getConnectTimeoutMillis())
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    
+                    @Override
+                    protected void initChannel(final SocketChannel socketChannel) {
+                        socketChannel.pipeline().addLast(new PacketCodec(new MySQLPacketCodecEngine()));
+                        socketChannel.pipeline().addLast(new MySQLNettyPacketAggregator());
+                        socketChannel.pipeline().addLast(new MySQLNettyNegotiatePacketDecoder());
+                        socketChannel.pipeline().addLast(new MySQLNettyResponseDecoder(connectionConfig.getCollation().getCharset()));
+                        socketChannel.pipeline().addLast(new MySQLNettyNegotiateHandler(connectionConfig, negotiateCallback));
+                        socketChannel.pipeline().addLast(new MySQLNettyResponseHandler(negotiateCallback));
+                    }
+                }).connect(connectionConfig.getHost(), connectionConfig.getPort()).addListener((ChannelFutureListener) future -> {
+                    if (!future.isSuccess()) {
+                        negotiateCallback.tryFailure(future.cause());
+                    }
+                }).channel();
+    }
+    
+    /**
+     * Open connection.
+     *
+     * @param eventLoopGroup event loop group
+     * @param connectionConfig connection configuration
+     * @return opened connection
+     * @throws SQLException SQL exception
+     */
+    public static MySQLNettyBackendConnection open(final EventLoopGroup eventLoopGroup, final MySQLNettyConnectionConfiguration connectionConfig) throws SQLException {
+        Promise<Object> negotiateCallback = new DefaultPromise<>(eventLoopGroup.next());
+        MySQLNettyBackendConnection result = new MySQLNettyBackendConnection(eventLoopGroup, connectionConfig, negotiateCallback);
+        try {
+            negotiateCallback.get(connectionConfig.getConnectTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            result.close();
+            throw new SQLException(ex);
+        } catch (final ExecutionException | TimeoutException ex) {
+            result.close();
+            throw new SQLException(String.format("Can not connect to MySQL `%s:%s`", connectionConfig.getHost(), connectionConfig.getPort()), ex instanceof ExecutionException ? ex.getCause() : ex);
+        }
+        if (null != connectionConfig.getSessionVariables() && !connectionConfig.getSessionVariables().isEmpty()) {
+            try {
+                CompletableFuture<Object> response = result.query(String.format("SET %s", connectionConfig.getSessionVariables()));
+                result.flush();
+                result.await(response);
+            } catch (final SQLException ex) {
+                result.close();
+                throw ex;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Send query without flushing.
+     *
+     * @param sql SQL to be executed
+     * @return future of response, which is MySQL OK packet or MySQL Netty query result
+     */
+    public CompletableFuture<Object> query(final String sql) {
+        return send(new MySQLComQueryPacket(sql));
+    }
+    
+    private synchronized CompletableFuture<Object> send(final MySQLCommandPacket commandPacket) {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        if (!channel.isActive()) {
+            result.completeExceptionally(new SQLException("MySQL backend connection is closed."));
+            return result;
+        }
+        pendingResponses.add(result);
+        channel.write(commandPacket);
+        return result;
+    }
+    
+    /**
+     * Flush queries sent.
+     */
+    public void flush() {
+        channel.flush();
+    }
+    
+    /**
+     * Await response, the connection is closed if response is not received in time.
+     *
+     * @param response future of response
+     * @return response
+     * @throws SQLException SQL exception
+     */
+    public Object await(final CompletableFuture<Object> response) throws SQLException {
+        return await(response, responseTimeoutMillis);
+    }
+    
+    private Object await(final CompletableFuture<Object> response, final long timeoutMillis) throws SQLException {
+        Object result;
+        try {
+            result = response.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        } catch (final ExecutionException ex) {
+            throw ex.getCause() instanceof SQLException ? (SQLException) ex.getCause() : new SQLException(ex.getCause());
+        } catch (final TimeoutException ex) {
+            close();
+            throw new SQLException(String.format("No response from MySQL backend in %s ms.", timeoutMillis), ex);
+        }
+        if (result instanceof MySQLErrPacket) {
+            MySQLErrPacket errPacket = (MySQLErrPacket) result;
+            throw new SQLException(errPacket.getErrorMessage(), errPacket.getSqlState(), errPacket.getErrorCode());
+        }
+        return result;
+    }
+    
+    /**
+     * Ping MySQL to validate connection, which waits response no longer than connect timeout.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void ping() throws SQLException {
+        CompletableFuture<Object> response = send(new MySQLComPingPacket());
+        flush();
+        await(response, connectTimeoutMillis);
+    }
+    
+    /**
+     * Judge whether connection is reusable.
+     *
+     * @return connection is reusable or not
+     */
+    public boolean isReusable() {
+        return channel.isActive() && pendingResponses.isEmpty();
+    }
+    
+    /**
+     * Close connection.
+     */
+    public void close() {
+        channel.close();
+    }
+    
+    private final class MySQLNettyResponseHandler extends ChannelInboundHandlerAdapter {
+        
+        private final Promise<Object> negotiateCallback;
+        
+        private MySQLNettyResponseHandler(final Promise<Object> negotiateCallback) {
+            this.negotiateCallback = negotiateCallback;
+        }
+        
+        @Override
+        public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+            CompletableFuture<Object> response = pendingResponses.poll();
+            if (null == response) {
+                return;
+            }
+            if (msg instanceof SQLException) {
+                response.completeExceptionally((SQLException) msg);
+            } else {
+                response.complete(msg);
+            }
+        }
+        
+        @Override
+        public void channelInactive(final ChannelHandlerContext ctx) {
+            failAll(new SQLException("MySQL backend connection is closed."));
+        }
+        
+        @Override
+        public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) {
+            log.error("MySQL backend connection error", cause);
+            failAll(cause);
+            ctx.close();
+        }
+        
+        private void failAll(final Throwable cause) {
+            negotiateCallback.tryFailure(cause);
+            CompletableFuture<Object> each;
+            while (null != (each = pendingResponses.poll())) {
+                each.completeExceptionally(cause);
+            }
+        }
+    }
+}
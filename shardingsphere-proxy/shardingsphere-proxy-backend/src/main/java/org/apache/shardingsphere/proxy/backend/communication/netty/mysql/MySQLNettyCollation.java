@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * MySQL collation negotiated by Netty backend connection.
+ * 
+ * <p>The first collation of each character set is its default collation.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+public enum MySQLNettyCollation {
+    
+    UTF8MB4_GENERAL_CI(45, "utf8mb4", "UTF-8"),
+    
+    UTF8MB4_BIN(46, "utf8mb4", "UTF-8"),
+    
+    UTF8MB4_UNICODE_CI(224, "utf8mb4", "UTF-8"),
+    
+    UTF8MB4_0900_AI_CI(255, "utf8mb4", "UTF-8"),
+    
+    UTF8_GENERAL_CI(33, "utf8", "UTF-8"),
+    
+    UTF8_BIN(83, "utf8", "UTF-8"),
+    
+    LATIN1_SWEDISH_CI(8, "latin1", "windows-1252"),
+    
+    LATIN1_BIN(47, "latin1", "windows-1252"),
+    
+    ASCII_GENERAL_CI(11, "ascii", "US-ASCII"),
+    
+    GBK_CHINESE_CI(28, "gbk", "GBK"),
+    
+    GBK_BIN(87, "gbk", "GBK"),
+    
+    GB18030_CHINESE_CI(248, "gb18030", "GB18030"),
+    
+    BIG5_CHINESE_CI(1, "big5", "Big5");
+    
+    private final int id;
+    
+    private final String characterSetName;
+    
+    private final String charsetName;
+    
+    /**
+     * Get Java charset.
+     *
+     * @return Java charset
+     */
+    public Charset getCharset() {
+        return Charset.forName(charsetName);
+    }
+    
+    /**
+     * Find collation by name, such as {@code connectionCollation} of JDBC URL.
+     *
+     * @param collationName collation name
+     * @return found collation
+     */
+    public static Optional<MySQLNettyCollation> findByCollationName(final String collationName) {
+        return Arrays.stream(values()).filter(each -> each.name().equalsIgnoreCase(collationName)).findFirst();
+    }
+    
+    /**
+     * Find default collation by character encoding, such as {@code characterEncoding} of JDBC URL.
+     * 
+     * <p>Both Java charset names and MySQL character set names are accepted, UTF-8 is negotiated as utf8mb4.</p>
+     *
+     * @param characterEncoding character encoding
+     * @return found collation
+     */
+    public static Optional<MySQLNettyCollation> findByCharacterEncoding(final String characterEncoding) {
+        Optional<MySQLNettyCollation> result = findByCharset(characterEncoding);
+        return result.isPresent() ? result : Arrays.stream(values()).filter(each -> each.characterSetName.equalsIgnoreCase(characterEncoding)).findFirst();
+    }
+    
+    private static Optional<MySQLNettyCollation> findByCharset(final String charsetName) {
+        Charset charset;
+        try {
+            charset = Charset.forName(charsetName);
+        } catch (final IllegalCharsetNameException | UnsupportedCharsetException ex) {
+            return Optional.empty();
+        }
+        return Arrays.stream(values()).filter(each -> each.getCharset().equals(charset)).findFirst();
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Configuration of MySQL Netty backend connection.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class MySQLNettyConnectionConfiguration {
+    
+    private final String host;
+    
+    private final int port;
+    
+    private final String username;
+    
+    private final String password;
+    
+    private final String database;
+    
+    private final MySQLNettyCollation collation;
+    
+    private final String sessionVariables;
+    
+    private final boolean allowPublicKeyRetrieval;
+    
+    private final int connectTimeoutMillis;
+    
+    private final long responseTimeoutMillis;
+}
@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import io.netty.channel.EventLoopGroup;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connection pool of MySQL Netty backend connections.
+ * 
+ * <p>Connections are bounded by maximum pool size. Idle connections are validated on borrow and evicted after idle timeout.
+ * Connections released after the pool is closed are closed instead of being kept idle.</p>
+ */
+@Slf4j
+public final class MySQLNettyConnectionPool {
+    
+    private static final long VALIDATION_BYPASS_NANOS = TimeUnit.MILLISECONDS.toNanos(500L);
+    
+    private final EventLoopGroup eventLoopGroup;
+    
+    private final MySQLNettyConnectionConfiguration connectionConfig;
+    
+    private final int maxPoolSize;
+    
+    private final long connectionTimeoutMillis;
+    
+    private final long idleTimeoutNanos;
+    
+    private final Semaphore permits;
+    
+    private final Deque<IdleConnection> idleConnections = new LinkedList<>();
+    
+    @Getter
+    private volatile boolean closed;
+    
+    public MySQLNettyConnectionPool(final EventLoopGroup eventLoopGroup, final MySQLNettyConnectionConfiguration connectionConfig,
+                                    final int maxPoolSize, final long connectionTimeoutMillis, final long idleTimeoutMillis) {
+        this.eventLoopGroup = eventLoopGroup;
+        this.connectionConfig = connectionConfig;
+        this.maxPoolSize = maxPoolSize;
+        this.connectionTimeoutMillis = connectionTimeoutMillis;
+        idleTimeoutNanos = idleTimeoutMillis > 0L ? TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis) : Long.MAX_VALUE;
+        permits = new Semaphore(maxPoolSize, true);
+    }
+    
+    /**
+     * Get connections.
+     * 
+     * <p>Connections are acquired all at once to avoid queries holding part of pool and waiting for each other.</p>
+     *
+     * @param connectionSize size of connections, which is limited by maximum pool size
+     * @return connections
+     * @throws SQLException SQL exception
+     */
+    public List<MySQLNettyBackendConnection> getConnections(final int connectionSize) throws SQLException {
+        if (closed) {
+            throw new SQLException(String.format("Connection pool of MySQL `%s:%s` is closed.", connectionConfig.getHost(), connectionConfig.getPort()));
+        }
+        int actualConnectionSize = Math.min(connectionSize, maxPoolSize);
+        acquirePermits(actualConnectionSize);
+        List<MySQLNettyBackendConnection> result = new ArrayList<>(actualConnectionSize);
+        try {
+            for (int i = 0; i < actualConnectionSize; i++) {
+                result.add(borrowConnection());
+            }
+        } catch (final SQLException ex) {
+            result.forEach(this::releaseConnection);
+            permits.release(actualConnectionSize - result.size());
+            throw ex;
+        }
+        return result;
+    }
+    
+    private void acquirePermits(final int connectionSize) throws SQLException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(connectionSize, connectionTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+        if (!acquired) {
+            throw new SQLException(String.format("Can not get %d connections to MySQL `%s:%s` in %s ms, maximum pool size is %d.",
+                    connectionSize, connectionConfig.getHost(), connectionConfig.getPort(), connectionTimeoutMillis, maxPoolSize));
+        }
+    }
+    
+    private MySQLNettyBackendConnection borrowConnection() throws SQLException {
+        IdleConnection each;
+        while (null != (each = pollIdleConnection())) {
+            if (isValid(each)) {
+                return each.connection;
+            }
+            each.connection.close();
+        }
+        return MySQLNettyBackendConnection.open(eventLoopGroup, connectionConfig);
+    }
+    
+    private synchronized IdleConnection pollIdleConnection() {
+        return idleConnections.pollFirst();
+    }
+    
+    private boolean isValid(final IdleConnection idleConnection) {
+        if (!idleConnection.connection.isReusable()) {
+            return false;
+        }
+        long idleNanos = System.nanoTime() - idleConnection.idleSince;
+        if (idleNanos > idleTimeoutNanos) {
+            return false;
+        }
+        if (idleNanos < VALIDATION_BYPASS_NANOS) {
+            return true;
+        }
+        try {
+            idleConnection.connection.ping();
+            return true;
+        } catch (final SQLException ex) {
+            log.warn("Failed to validate MySQL backend connection, {}", ex.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Release connection.
+     *
+     * @param connection connection to be released
+     */
+    public void releaseConnection(final MySQLNettyBackendConnection connection) {
+        try {
+            if (!connection.isReusable() || !offerIdleConnection(connection)) {
+                connection.close();
+            }
+        } finally {
+            permits.release();
+        }
+    }
+    
+    private synchronized boolean offerIdleConnection(final MySQLNettyBackendConnection connection) {
+        if (closed) {
+            return false;
+        }
+        idleConnections.offerFirst(new IdleConnection(connection, System.nanoTime()));
+        return true;
+    }
+    
+    /**
+     * Evict idle connections which are closed or idle for more than idle timeout.
+     */
+    public synchronized void evictIdleConnections() {
+        long now = System.nanoTime();
+        Iterator<IdleConnection> iterator = idleConnections.iterator();
+        while (iterator.hasNext()) {
+            IdleConnection each = iterator.next();
+            if (!each.connection.isReusable() || now - each.idleSince > idleTimeoutNanos) {
+                iterator.remove();
+                each.connection.close();
+            }
+        }
+    }
+    
+    /**
+     * Close pool and its idle connections.
+     */
+    public synchronized void close() {
+        closed = true;
+        for (IdleConnection each : idleConnections) {
+            each.connection.close();
+        }
+        idleConnections.clear();
+    }
+    
+    /**
+     * Get size of idle connections.
+     *
+     * @return size of idle connections
+     */
+    public synchronized int getIdleConnectionSize() {
+        return idleConnections.size();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class IdleConnection {
+        
+        private final MySQLNettyBackendConnection connection;
+        
+        private final long idleSince;
+    }
+}
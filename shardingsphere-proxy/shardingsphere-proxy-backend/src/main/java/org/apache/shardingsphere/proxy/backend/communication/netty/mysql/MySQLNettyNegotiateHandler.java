@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.concurrent.Promise;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLAuthenticationMethod;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCapabilityFlag;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLAuthMoreDataPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLAuthSwitchRequestPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLAuthSwitchResponsePacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakePacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakeResponse41Packet;
+import org.apache.shardingsphere.scaling.mysql.client.PasswordEncryption;
+import org.apache.shardingsphere.scaling.mysql.client.ServerVersion;
+
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+
+/**
+ * MySQL negotiate handler of Netty backend connection.
+ * 
+ * <p>Collation, default database and public key retrieval follow the JDBC URL of data source.</p>
+ */
+@RequiredArgsConstructor
+public final class MySQLNettyNegotiateHandler extends ChannelInboundHandlerAdapter {
+    
+    private static final int MAX_PACKET_SIZE = 1 << 24;
+    
+    private static final int REQUEST_PUBLIC_KEY = 2;
+    
+    private static final int PERFORM_FULL_AUTHENTICATION = 4;
+    
+    private final MySQLNettyConnectionConfiguration connectionConfig;
+    
+    private final Promise<Object> negotiateCallback;
+    
+    private ServerVersion serverVersion;
+    
+    private byte[] seed;
+    
+    private boolean publicKeyRequested;
+    
+    @Override
+    public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+        if (msg instanceof MySQLHandshakePacket) {
+            handleHandshake(ctx, (MySQLHandshakePacket) msg);
+        } else if (msg instanceof MySQLAuthSwitchRequestPacket) {
+            handleAuthSwitchRequest(ctx, (MySQLAuthSwitchRequestPacket) msg);
+        } else if (msg instanceof MySQLAuthMoreDataPacket) {
+            handleCachingSha2Auth(ctx, (MySQLAuthMoreDataPacket) msg);
+        } else if (msg instanceof MySQLOKPacket) {
+            ctx.channel().pipeline().remove(this);
+            negotiateCallback.setSuccess(serverVersion);
+        } else if (msg instanceof MySQLErrPacket) {
+            MySQLErrPacket errPacket = (MySQLErrPacket) msg;
+            fail(ctx, new SQLException(errPacket.getErrorMessage(), errPacket.getSqlState(), errPacket.getErrorCode()));
+        } else {
+            ctx.fireChannelRead(msg);
+        }
+    }
+    
+    private void handleHandshake(final ChannelHandlerContext ctx, final MySQLHandshakePacket handshake) {
+        serverVersion = new ServerVersion(handshake.getServerVersion());
+        seed = handshake.getAuthPluginData().getAuthenticationPluginData();
+        MySQLHandshakeResponse41Packet result = new MySQLHandshakeResponse41Packet(1, MAX_PACKET_SIZE, connectionConfig.getCollation().getId(), connectionConfig.getUsername());
+        result.setAuthResponse(encryptWithMySQL41());
+        result.setCapabilityFlags(generateClientCapability());
+        if (null != connectionConfig.getDatabase() && !connectionConfig.getDatabase().isEmpty()) {
+            result.setDatabase(connectionConfig.getDatabase());
+        }
+        result.setAuthPluginName(MySQLAuthenticationMethod.SECURE_PASSWORD_AUTHENTICATION);
+        ctx.channel().writeAndFlush(result);
+    }
+    
+    private void handleAuthSwitchRequest(final ChannelHandlerContext ctx, final MySQLAuthSwitchRequestPacket authSwitchRequest) {
+        seed = authSwitchRequest.getAuthPluginData().getAuthenticationPluginData();
+        byte[] authResponse = MySQLAuthenticationMethod.SECURE_PASSWORD_AUTHENTICATION.getMethodName().equals(authSwitchRequest.getAuthPluginName()) ? encryptWithMySQL41() : encryptWithSha2();
+        ctx.channel().writeAndFlush(new MySQLAuthSwitchResponsePacket(authSwitchRequest.getSequenceId() + 1, authResponse));
+    }
+    
+    private void handleCachingSha2Auth(final ChannelHandlerContext ctx, final MySQLAuthMoreDataPacket authMoreData) {
+        // how caching_sha2_password works: https://dev.mysql.com/doc/dev/mysql-server/8.0.11/page_caching_sha2_authentication_exchanges.html#sect_caching_sha2_info
+        if (publicKeyRequested) {
+            ctx.channel().writeAndFlush(new MySQLAuthSwitchResponsePacket(authMoreData.getSequenceId() + 1,
+                    PasswordEncryption.encryptWithRSAPublicKey(connectionConfig.getPassword(), seed,
+                            serverVersion.greaterThanOrEqualTo(8, 0, 5) ? "RSA/ECB/OAEPWithSHA-1AndMGF1Padding" : "RSA/ECB/PKCS1Padding", new String(authMoreData.getPluginData()))));
+            return;
+        }
+        if (PERFORM_FULL_AUTHENTICATION != authMoreData.getPluginData()[0]) {
+            return;
+        }
+        if (!connectionConfig.isAllowPublicKeyRetrieval()) {
+            fail(ctx, new SQLException("Public Key Retrieval is not allowed."));
+            return;
+        }
+        publicKeyRequested = true;
+        ctx.channel().writeAndFlush(new MySQLAuthSwitchResponsePacket(authMoreData.getSequenceId() + 1, new byte[]{REQUEST_PUBLIC_KEY}));
+    }
+    
+    private void fail(final ChannelHandlerContext ctx, final SQLException cause) {
+        negotiateCallback.tryFailure(cause);
+        ctx.channel().close();
+    }
+    
+    private int generateClientCapability() {
+        return MySQLCapabilityFlag.calculateCapabilityFlags(MySQLCapabilityFlag.CLIENT_LONG_PASSWORD, MySQLCapabilityFlag.CLIENT_LONG_FLAG,
+                MySQLCapabilityFlag.CLIENT_PROTOCOL_41, MySQLCapabilityFlag.CLIENT_TRANSACTIONS, MySQLCapabilityFlag.CLIENT_SECURE_CONNECTION, MySQLCapabilityFlag.CLIENT_PLUGIN_AUTH);
+    }
+    
+    @SneakyThrows(NoSuchAlgorithmException.class)
+    private byte[] encryptWithMySQL41() {
+        String password = connectionConfig.getPassword();
+        return null == password || password.isEmpty() ? new byte[0] : PasswordEncryption.encryptWithMySQL41(password.getBytes(), seed);
+    }
+    
+    @SneakyThrows(NoSuchAlgorithmException.class)
+    private byte[] encryptWithSha2() {
+        String password = connectionConfig.getPassword();
+        return null == password || password.isEmpty() ? new byte[0] : PasswordEncryption.encryptWithSha2(password.getBytes(), seed);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToMessageDecoder;
+
+import java.util.List;
+
+/**
+ * MySQL packet aggregator of Netty backend connection.
+ * 
+ * <p>Payload of 16MB or more is split by MySQL into packets of maximum payload length, followed by a shorter packet.
+ * These packets are aggregated into one packet with sequence ID of the first packet.</p>
+ */
+public final class MySQLNettyPacketAggregator extends MessageToMessageDecoder<ByteBuf> {
+    
+    private static final int MAX_PAYLOAD_LENGTH = 0xffffff;
+    
+    private static final int SEQUENCE_LENGTH = 1;
+    
+    private CompositeByteBuf pendingPacket;
+    
+    @Override
+    protected void decode(final ChannelHandlerContext ctx, final ByteBuf in, final List<Object> out) {
+        int payloadLength = in.readableBytes() - SEQUENCE_LENGTH;
+        if (null == pendingPacket) {
+            if (payloadLength < MAX_PAYLOAD_LENGTH) {
+                out.add(in.retain());
+                return;
+            }
+            pendingPacket = ctx.alloc().compositeBuffer(Integer.MAX_VALUE);
+            pendingPacket.addComponent(true, in.retain());
+            return;
+        }
+        pendingPacket.addComponent(true, in.retainedSlice(in.readerIndex() + SEQUENCE_LENGTH, payloadLength));
+        if (payloadLength < MAX_PAYLOAD_LENGTH) {
+            out.add(pendingPacket);
+            pendingPacket = null;
+        }
+    }
+    
+    @Override
+    public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
+        releasePendingPacket();
+        super.channelInactive(ctx);
+    }
+    
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext ctx) throws Exception {
+        releasePendingPacket();
+        super.handlerRemoved(ctx);
+    }
+    
+    private void releasePendingPacket() {
+        if (null != pendingPacket) {
+            pendingPacket.release();
+            pendingPacket = null;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.stream.AbstractStreamQueryResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * MySQL query result based on Netty, which holds rows of text protocol as raw bytes.
+ */
+public final class MySQLNettyQueryResult extends AbstractStreamQueryResult {
+    
+    private static final int NULL = 0xfb;
+    
+    private final List<MySQLColumnDefinition41Packet> columnDefinitions;
+    
+    private final Iterator<byte[]> rows;
+    
+    private final Charset charset;
+    
+    private final int[] valueOffsets;
+    
+    private final int[] valueLengths;
+    
+    private byte[] currentRow;
+    
+    private boolean wasNull;
+    
+    public MySQLNettyQueryResult(final List<MySQLColumnDefinition41Packet> columnDefinitions, final List<byte[]> rows, final Charset charset) {
+        super(new MySQLNettyQueryResultMetaData(columnDefinitions));
+        this.columnDefinitions = columnDefinitions;
+        this.rows = rows.iterator();
+        this.charset = charset;
+        valueOffsets = new int[columnDefinitions.size()];
+        valueLengths = new int[columnDefinitions.size()];
+    }
+    
+    @Override
+    public boolean next() {
+        if (!rows.hasNext()) {
+            currentRow = null;
+            return false;
+        }
+        currentRow = rows.next();
+        int offset = 0;
+        for (int i = 0; i < valueOffsets.length; i++) {
+            int firstByte = currentRow[offset++] & 0xff;
+            if (NULL == firstByte) {
+                valueOffsets[i] = -1;
+                continue;
+            }
+            long length = firstByte;
+            int lengthBytes = 0xfc == firstByte ? 2 : 0xfd == firstByte ? 3 : 0xfe == firstByte ? 8 : 0;
+            if (lengthBytes > 0) {
+                length = 0;
+                for (int j = 0; j < lengthBytes; j++) {
+                    length |= (long) (currentRow[offset++] & 0xff) << (8 * j);
+                }
+            }
+            valueOffsets[i] = offset;
+            valueLengths[i] = (int) length;
+            offset += (int) length;
+        }
+        return true;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        byte[] bytes = getBytes(columnIndex);
+        if (null == bytes) {
+            return null;
+        }
+        MySQLColumnDefinition41Packet columnDefinition = columnDefinitions.get(columnIndex - 1);
+        if (byte[].class == type) {
+            return StandardCharsets.UTF_8.equals(charset) || MySQLNettyQueryResultMetaData.isBinaryCharset(columnDefinition) ? bytes : new String(bytes, charset).getBytes(StandardCharsets.UTF_8);
+        }
+        String text = new String(bytes, charset);
+        try {
+            return convertValue(text, bytes, columnDefinition, type);
+        } catch (final IllegalArgumentException ex) {
+            throw new SQLException(String.format("Can not convert value `%s` to %s", text, type.getName()), ex);
+        }
+    }
+    
+    private byte[] getBytes(final int columnIndex) {
+        int offset = valueOffsets[columnIndex - 1];
+        wasNull = offset < 0;
+        if (wasNull) {
+            return null;
+        }
+        byte[] result = new byte[valueLengths[columnIndex - 1]];
+        System.arraycopy(currentRow, offset, result, 0, result.length);
+        return result;
+    }
+    
+    private Object convertValue(final String text, final byte[] bytes, final MySQLColumnDefinition41Packet columnDefinition, final Class<?> type) {
+        if (String.class == type) {
+            return text;
+        } else if (boolean.class == type || Boolean.class == type) {
+            return "1".equals(text) || Boolean.parseBoolean(text);
+        } else if (byte.class == type) {
+            return Byte.parseByte(text);
+        } else if (short.class == type) {
+            return Short.parseShort(text);
+        } else if (int.class == type) {
+            return Integer.parseInt(text);
+        } else if (long.class == type) {
+            return Long.parseLong(text);
+        } else if (float.class == type) {
+            return Float.parseFloat(text);
+        } else if (double.class == type) {
+            return Double.parseDouble(text);
+        } else if (BigDecimal.class == type) {
+            return new BigDecimal(text);
+        } else if (Date.class == type) {
+            return Date.valueOf(text);
+        } else if (Time.class == type) {
+            return Time.valueOf(text);
+        } else if (Timestamp.class == type) {
+            return Timestamp.valueOf(text);
+        }
+        return convertObjectValue(text, bytes, columnDefinition);
+    }
+    
+    private Object convertObjectValue(final String text, final byte[] bytes, final MySQLColumnDefinition41Packet columnDefinition) {
+        boolean unsigned = 0 != (columnDefinition.getFlags() & MySQLNettyQueryResultMetaData.UNSIGNED_FLAG);
+        switch (columnDefinition.getColumnType()) {
+            case MYSQL_TYPE_TINY:
+            case MYSQL_TYPE_SHORT:
+            case MYSQL_TYPE_INT24:
+                return Integer.parseInt(text);
+            case MYSQL_TYPE_LONG:
+                return unsigned ? (Object) Long.parseLong(text) : (Object) Integer.parseInt(text);
+            case MYSQL_TYPE_LONGLONG:
+                return unsigned ? (Object) new BigInteger(text) : (Object) Long.parseLong(text);
+            case MYSQL_TYPE_FLOAT:
+                return Float.parseFloat(text);
+            case MYSQL_TYPE_DOUBLE:
+                return Double.parseDouble(text);
+            case MYSQL_TYPE_DECIMAL:
+            case MYSQL_TYPE_NEWDECIMAL:
+                return new BigDecimal(text);
+            case MYSQL_TYPE_DATE:
+            case MYSQL_TYPE_NEWDATE:
+                return isZeroDateTime(text) ? text : Date.valueOf(text);
+            case MYSQL_TYPE_TIME:
+                return isValidTime(text) ? Time.valueOf(text) : text;
+            case MYSQL_TYPE_DATETIME:
+            case MYSQL_TYPE_TIMESTAMP:
+                return isZeroDateTime(text) ? text : Timestamp.valueOf(text);
+            case MYSQL_TYPE_BIT:
+                return bytes;
+            case MYSQL_TYPE_TINY_BLOB:
+            case MYSQL_TYPE_MEDIUM_BLOB:
+            case MYSQL_TYPE_LONG_BLOB:
+            case MYSQL_TYPE_BLOB:
+            case MYSQL_TYPE_VAR_STRING:
+            case MYSQL_TYPE_STRING:
+            case MYSQL_TYPE_GEOMETRY:
+                return MySQLNettyQueryResultMetaData.isBinaryCharset(columnDefinition) ? bytes : text;
+            default:
+                return text;
+        }
+    }
+    
+    private boolean isZeroDateTime(final String text) {
+        return text.startsWith("0000-00-00");
+    }
+    
+    private boolean isValidTime(final String text) {
+        return !text.startsWith("-") && text.indexOf(':') == 2 && !text.contains(".");
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) {
+        byte[] bytes = getBytes(columnIndex);
+        return null == bytes ? null : new ByteArrayInputStream(bytes);
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() {
+        currentRow = null;
+    }
+}
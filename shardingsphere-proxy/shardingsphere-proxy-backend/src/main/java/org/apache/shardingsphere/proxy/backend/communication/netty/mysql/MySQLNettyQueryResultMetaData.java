@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * MySQL query result meta data based on Netty.
+ */
+@RequiredArgsConstructor
+public final class MySQLNettyQueryResultMetaData implements QueryResultMetaData {
+    
+    static final int UNSIGNED_FLAG = 0x0020;
+    
+    private static final int NOT_NULL_FLAG = 0x0001;
+    
+    private static final int AUTO_INCREMENT_FLAG = 0x0200;
+    
+    private static final int BINARY_CHARSET = 63;
+    
+    private final List<MySQLColumnDefinition41Packet> columnDefinitions;
+    
+    @Override
+    public int getColumnCount() {
+        return columnDefinitions.size();
+    }
+    
+    @Override
+    public String getTableName(final int columnIndex) {
+        return getColumnDefinition(columnIndex).getTable();
+    }
+    
+    @Override
+    public String getColumnName(final int columnIndex) {
+        return getColumnDefinition(columnIndex).getOrgName();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) {
+        return getColumnDefinition(columnIndex).getName();
+    }
+    
+    @Override
+    public int getColumnType(final int columnIndex) {
+        MySQLColumnDefinition41Packet columnDefinition = getColumnDefinition(columnIndex);
+        switch (columnDefinition.getColumnType()) {
+            case MYSQL_TYPE_TINY:
+                return Types.TINYINT;
+            case MYSQL_TYPE_SHORT:
+                return Types.SMALLINT;
+            case MYSQL_TYPE_INT24:
+            case MYSQL_TYPE_LONG:
+                return Types.INTEGER;
+            case MYSQL_TYPE_LONGLONG:
+                return Types.BIGINT;
+            case MYSQL_TYPE_FLOAT:
+                return Types.REAL;
+            case MYSQL_TYPE_DOUBLE:
+                return Types.DOUBLE;
+            case MYSQL_TYPE_DECIMAL:
+            case MYSQL_TYPE_NEWDECIMAL:
+                return Types.DECIMAL;
+            case MYSQL_TYPE_BIT:
+                return Types.BIT;
+            case MYSQL_TYPE_YEAR:
+            case MYSQL_TYPE_DATE:
+            case MYSQL_TYPE_NEWDATE:
+                return Types.DATE;
+            case MYSQL_TYPE_TIME:
+                return Types.TIME;
+            case MYSQL_TYPE_DATETIME:
+            case MYSQL_TYPE_TIMESTAMP:
+                return Types.TIMESTAMP;
+            case MYSQL_TYPE_STRING:
+            case MYSQL_TYPE_ENUM:
+            case MYSQL_TYPE_SET:
+                return isBinaryCharset(columnDefinition) ? Types.BINARY : Types.CHAR;
+            case MYSQL_TYPE_VAR_STRING:
+            case MYSQL_TYPE_VARCHAR:
+                return isBinaryCharset(columnDefinition) ? Types.VARBINARY : Types.VARCHAR;
+            case MYSQL_TYPE_TINY_BLOB:
+            case MYSQL_TYPE_MEDIUM_BLOB:
+            case MYSQL_TYPE_LONG_BLOB:
+            case MYSQL_TYPE_BLOB:
+                return isBinaryCharset(columnDefinition) ? Types.LONGVARBINARY : Types.LONGVARCHAR;
+            case MySQL_TYPE_JSON:
+                return Types.LONGVARCHAR;
+            case MYSQL_TYPE_NULL:
+                return Types.NULL;
+            default:
+                return Types.BINARY;
+        }
+    }
+    
+    @Override
+    public String getColumnTypeName(final int columnIndex) {
+        return getColumnDefinition(columnIndex).getColumnType().name().substring("MYSQL_TYPE_".length());
+    }
+    
+    @Override
+    public int getColumnLength(final int columnIndex) {
+        return getColumnDefinition(columnIndex).getColumnLength();
+    }
+    
+    @Override
+    public int getDecimals(final int columnIndex) {
+        return getColumnDefinition(columnIndex).getDecimals();
+    }
+    
+    @Override
+    public boolean isSigned(final int columnIndex) {
+        return 0 == (getColumnDefinition(columnIndex).getFlags() & UNSIGNED_FLAG);
+    }
+    
+    @Override
+    public boolean isNotNull(final int columnIndex) {
+        return 0 != (getColumnDefinition(columnIndex).getFlags() & NOT_NULL_FLAG);
+    }
+    
+    @Override
+    public boolean isAutoIncrement(final int columnIndex) {
+        return 0 != (getColumnDefinition(columnIndex).getFlags() & AUTO_INCREMENT_FLAG);
+    }
+    
+    private MySQLColumnDefinition41Packet getColumnDefinition(final int columnIndex) {
+        return columnDefinitions.get(columnIndex - 1);
+    }
+    
+    static boolean isBinaryCharset(final MySQLColumnDefinition41Packet columnDefinition) {
+        return BINARY_CHARSET == columnDefinition.getCharacterSet();
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+import java.nio.charset.Charset;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * MySQL response decoder for text protocol, which aggregates result set packets into {@code MySQLNettyQueryResult}.
+ * 
+ * <p>Row packets are kept as raw bytes and only parsed when values are fetched.
+ * LOCAL INFILE request is answered with an empty file, and its response is replaced by a SQL exception.</p>
+ */
+@RequiredArgsConstructor
+public final class MySQLNettyResponseDecoder extends ByteToMessageDecoder {
+    
+    private static final int LOCAL_INFILE_HEADER = 0xfb;
+    
+    private static final int MAX_EOF_PACKET_LENGTH = 9;
+    
+    private final Charset charset;
+    
+    private List<MySQLColumnDefinition41Packet> columnDefinitions;
+    
+    private int columnCount;
+    
+    private boolean columnDefinitionsFinished;
+    
+    private List<byte[]> rows;
+    
+    private boolean localInfileRejected;
+    
+    @Override
+    protected void decode(final ChannelHandlerContext ctx, final ByteBuf in, final List<Object> out) {
+        MySQLPacketPayload payload = new MySQLPacketPayload(in);
+        int header = in.getByte(in.readerIndex() + 1) & 0xff;
+        if (null == columnDefinitions) {
+            decodeResponsePacket(ctx, payload, header, out);
+        } else if (!columnDefinitionsFinished) {
+            decodeColumnDefinitionPacket(payload, header);
+        } else {
+            decodeRowPacket(payload, header, out);
+        }
+        in.skipBytes(in.readableBytes());
+    }
+    
+    private void decodeResponsePacket(final ChannelHandlerContext ctx, final MySQLPacketPayload payload, final int header, final List<Object> out) {
+        if (localInfileRejected && (MySQLOKPacket.HEADER == header || MySQLErrPacket.HEADER == header)) {
+            localInfileRejected = false;
+            out.add(new SQLException("Unsupported LOCAL INFILE request of MySQL backend."));
+            return;
+        }
+        switch (header) {
+            case MySQLOKPacket.HEADER:
+                out.add(new MySQLOKPacket(payload));
+                return;
+            case MySQLErrPacket.HEADER:
+                out.add(new MySQLErrPacket(payload));
+                return;
+            case LOCAL_INFILE_HEADER:
+                localInfileRejected = true;
+                ctx.writeAndFlush(new MySQLEmptyPacket(payload.readInt1() + 1));
+                return;
+            default:
+                payload.readInt1();
+                columnCount = (int) payload.readIntLenenc();
+                columnDefinitions = new ArrayList<>(columnCount);
+        }
+    }
+    
+    private void decodeColumnDefinitionPacket(final MySQLPacketPayload payload, final int header) {
+        if (columnDefinitions.size() < columnCount) {
+            columnDefinitions.add(new MySQLColumnDefinition41Packet(payload));
+            return;
+        }
+        if (MySQLEofPacket.HEADER == header) {
+            columnDefinitionsFinished = true;
+            rows = new LinkedList<>();
+        }
+    }
+    
+    private void decodeRowPacket(final MySQLPacketPayload payload, final int header, final List<Object> out) {
+        ByteBuf byteBuf = payload.getByteBuf();
+        if (MySQLErrPacket.HEADER == header) {
+            reset();
+            out.add(new MySQLErrPacket(payload));
+            return;
+        }
+        if (MySQLEofPacket.HEADER == header && byteBuf.readableBytes() <= MAX_EOF_PACKET_LENGTH) {
+            out.add(new MySQLNettyQueryResult(columnDefinitions, rows, charset));
+            reset();
+            return;
+        }
+        byte[] row = new byte[byteBuf.readableBytes() - 1];
+        byteBuf.getBytes(byteBuf.readerIndex() + 1, row);
+        rows.add(row);
+    }
+    
+    private void reset() {
+        columnDefinitions = null;
+        columnCount = 0;
+        columnDefinitionsFinished = false;
+        rows = null;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class MySQLEmptyPacket implements MySQLPacket {
+        
+        private final int sequenceId;
+        
+        @Override
+        public void write(final MySQLPacketPayload payload) {
+        }
+    }
+}
@@ -72,7 +72,7 @@ public final class UnicastDatabaseBackendHandler implements DatabaseBackendHandl
     
     @Override
     public Collection<Object> getRowData() throws SQLException {
-        return databaseCommunicationEngine.getQueryResponseRow().getData();
+        return databaseCommunicationEngine.getRowData();
     }
     
     @Override
@@ -17,15 +17,22 @@
 
 package org.apache.shardingsphere.proxy.backend.communication;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.context.manager.ContextManager;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
 import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderResults;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.engine.ResultProcessEngine;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -41,6 +48,7 @@ import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.response.header.query.impl.QueryHeaderBuilder;
+import org.apache.shardingsphere.sharding.merge.ShardingResultMergerEngine;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.junit.Before;
 import org.junit.Test;
@@ -50,10 +58,12 @@ import org.mockito.internal.util.reflection.FieldSetter;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -68,6 +78,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -165,6 +176,59 @@ public final class DatabaseCommunicationEngineTest {
         return result;
     }
     
+    @Test(timeout = 5000L)
+    public void assertMergeQueryResultsInCompletionOrderWithoutWaitingSlowExecutionGroup() throws ReflectiveOperationException, SQLException {
+        ShardingSphereMetaData metaData = ProxyContext.getInstance().getMetaData("schema");
+        when(metaData.getName()).thenReturn("schema");
+        ShardingSphereRuleMetaData ruleMetaData = metaData.getRuleMetaData();
+        doReturn(Collections.singletonMap(mock(ShardingRule.class), new ShardingResultMergerEngine())).when(ruleMetaData).getOrderedServices(ResultProcessEngine.class);
+        Method getQueryResults = DatabaseCommunicationEngine.class.getDeclaredMethod("getQueryResults", Collection.class);
+        getQueryResults.setAccessible(true);
+        Method processExecuteQuery = DatabaseCommunicationEngine.class.getDeclaredMethod("processExecuteQuery", ExecutionContext.class, List.class, QueryResult.class);
+        processExecuteQuery.setAccessible(true);
+        SelectStatementContext selectStatementContext = mockSelectStatementContext();
+        ExecutionContext executionContext = mock(ExecutionContext.class);
+        doReturn(selectStatementContext).when(executionContext).getSqlStatementContext();
+        SettableFuture<Collection<ExecuteResult>> slowFuture = SettableFuture.create();
+        SettableFuture<Collection<ExecuteResult>> fastFuture = SettableFuture.create();
+        fastFuture.set(Collections.singletonList(mockQueryResult(2)));
+        QueryResult firstQueryResult = mockQueryResult(1);
+        CompletionOrderResults<ExecuteResult> executeResults = new CompletionOrderResults<>(
+                Collections.singletonList(firstQueryResult), Arrays.<ListenableFuture<Collection<ExecuteResult>>>asList(slowFuture, fastFuture));
+        DatabaseCommunicationEngine engine =
+                DatabaseCommunicationEngineFactory.getInstance().newTextProtocolInstance(mock(SQLStatementContext.class), "SELECT id FROM t_order", backendConnection);
+        processExecuteQuery.invoke(engine, executionContext, getQueryResults.invoke(engine, executeResults), firstQueryResult);
+        assertTrue(engine.next());
+        assertThat(engine.getRowData().get(0), is((Object) 1));
+        assertTrue(engine.next());
+        assertThat(engine.getRowData().get(0), is((Object) 2));
+        slowFuture.set(Collections.singletonList(mockQueryResult(3)));
+        assertTrue(engine.next());
+        assertThat(engine.getRowData().get(0), is((Object) 3));
+        assertFalse(engine.next());
+    }
+    
+    private QueryResult mockQueryResult(final int value) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        QueryResultMetaData metaData = createQueryResultMetaData();
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(result.getMetaData()).thenReturn(metaData);
+        when(result.next()).thenReturn(true, false);
+        when(result.getValue(1, Object.class)).thenReturn(value);
+        return result;
+    }
+    
+    private SelectStatementContext mockSelectStatementContext() {
+        SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getGroupByContext().getItems()).thenReturn(Collections.emptyList());
+        when(result.getOrderByContext().getItems()).thenReturn(Collections.emptyList());
+        when(result.getProjectionsContext().getAggregationProjections()).thenReturn(Collections.emptyList());
+        when(result.getProjectionsContext().getExpandProjections()).thenReturn(Collections.emptyList());
+        when(result.getProjectionsContext().isDistinctRow()).thenReturn(false);
+        when(result.getPaginationContext().isHasPagination()).thenReturn(false);
+        return result;
+    }
+    
     @Test
     public void assertAddStatementCorrectly() {
         DatabaseCommunicationEngine engine =
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.shardingsphere.infra.context.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.communication.netty.mysql.MySQLNettyConnectionPool;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class NettyBackendDataSourceTest {
+    
+    private final Map<String, DataSource> dataSources = new HashMap<>();
+    
+    @Before
+    public void setUp() {
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(contextManager.getMetaDataContexts().getMetaData("schema").getResource().getDataSources()).thenReturn(dataSources);
+        ProxyContext.getInstance().init(contextManager);
+        dataSources.put("ds", createDataSource());
+    }
+    
+    @After
+    public void tearDown() {
+        NettyBackendDataSource.getInstance().closeConnectionPools("schema");
+    }
+    
+    @Test
+    public void assertGetConnectionPoolWithChangedDataSource() {
+        MySQLNettyConnectionPool expected = getConnectionPool();
+        assertThat(getConnectionPool(), sameInstance(expected));
+        dataSources.put("ds", createDataSource());
+        assertThat(getConnectionPool(), not(sameInstance(expected)));
+        assertTrue(expected.isClosed());
+    }
+    
+    @Test
+    public void assertGetConnectionPoolWithRemovedDataSource() {
+        MySQLNettyConnectionPool expected = getConnectionPool();
+        dataSources.clear();
+        assertFalse(NettyBackendDataSource.getInstance().getConnectionPool("schema", "ds").isPresent());
+        assertTrue(expected.isClosed());
+    }
+    
+    @Test
+    public void assertRenewConnectionPools() {
+        MySQLNettyConnectionPool expected = getConnectionPool();
+        NettyBackendDataSource.getInstance().renewConnectionPools("schema", dataSources);
+        assertFalse(expected.isClosed());
+        NettyBackendDataSource.getInstance().renewConnectionPools("schema", Collections.singletonMap("ds", createDataSource()));
+        assertTrue(expected.isClosed());
+    }
+    
+    @Test
+    public void assertCloseConnectionPools() {
+        MySQLNettyConnectionPool expected = getConnectionPool();
+        NettyBackendDataSource.getInstance().closeConnectionPools("schema");
+        assertTrue(expected.isClosed());
+        assertThat(getConnectionPool(), not(sameInstance(expected)));
+    }
+    
+    private MySQLNettyConnectionPool getConnectionPool() {
+        return NettyBackendDataSource.getInstance().getConnectionPool("schema", "ds").orElseThrow(IllegalStateException::new);
+    }
+    
+    private DataSource createDataSource() {
+        HikariDataSource result = new HikariDataSource();
+        result.setJdbcUrl("jdbc:mysql://127.0.0.1:3306/demo_ds");
+        result.setUsername("root");
+        return result;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.proxy.backend.communication.netty.mysql.fixture.MockMySQLServer;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLNettyBackendConnectionTest {
+    
+    private static EventLoopGroup eventLoopGroup;
+    
+    private MockMySQLServer server;
+    
+    @BeforeClass
+    public static void init() {
+        eventLoopGroup = new NioEventLoopGroup(1);
+    }
+    
+    @AfterClass
+    public static void destroy() {
+        eventLoopGroup.shutdownGracefully();
+    }
+    
+    @Before
+    public void setUp() {
+        server = new MockMySQLServer();
+        server.start();
+    }
+    
+    @After
+    public void tearDown() {
+        server.shutdown();
+    }
+    
+    @Test
+    public void assertOpen() throws SQLException {
+        MySQLNettyBackendConnection actual = MySQLNettyBackendConnection.open(eventLoopGroup, createConnectionConfiguration(server.getPort(), MySQLNettyCollation.GBK_CHINESE_CI));
+        try {
+            assertTrue(actual.isReusable());
+            assertThat(server.getHandshakeResponse().getCharacterSet(), is(MySQLNettyCollation.GBK_CHINESE_CI.getId()));
+            assertThat(server.getHandshakeResponse().getUsername(), is("root"));
+            assertThat(server.getHandshakeResponse().getDatabase(), is("foo_db"));
+        } finally {
+            actual.close();
+        }
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertOpenWithAccessDenied() throws SQLException {
+        server.setAuthenticated(false);
+        MySQLNettyBackendConnection.open(eventLoopGroup, createConnectionConfiguration(server.getPort(), MySQLNettyCollation.UTF8MB4_GENERAL_CI));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertOpenWithoutHandshake() throws SQLException {
+        server.setHandshakeSent(false);
+        MySQLNettyBackendConnection.open(eventLoopGroup, new MySQLNettyConnectionConfiguration(
+                "127.0.0.1", server.getPort(), "root", "root", null, MySQLNettyCollation.UTF8MB4_GENERAL_CI, null, false, 200, 500L));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertOpenWithConnectionRefused() throws SQLException, IOException {
+        int port;
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            port = serverSocket.getLocalPort();
+        }
+        MySQLNettyBackendConnection.open(eventLoopGroup, createConnectionConfiguration(port, MySQLNettyCollation.UTF8MB4_GENERAL_CI));
+    }
+    
+    @Test
+    public void assertQuery() throws SQLException {
+        MySQLNettyBackendConnection actual = MySQLNettyBackendConnection.open(eventLoopGroup, createConnectionConfiguration(server.getPort(), MySQLNettyCollation.UTF8MB4_GENERAL_CI));
+        try {
+            CompletableFuture<Object> response = actual.query("SELECT 1");
+            assertFalse(actual.isReusable());
+            actual.flush();
+            assertThat(actual.await(response), instanceOf(MySQLOKPacket.class));
+            assertTrue(actual.isReusable());
+        } finally {
+            actual.close();
+        }
+    }
+    
+    @Test
+    public void assertAwaitTimeout() throws SQLException {
+        MySQLNettyBackendConnection actual = MySQLNettyBackendConnection.open(eventLoopGroup, createConnectionConfiguration(server.getPort(), MySQLNettyCollation.UTF8MB4_GENERAL_CI));
+        server.setCommandResponded(false);
+        CompletableFuture<Object> response = actual.query("SELECT 1");
+        actual.flush();
+        try {
+            actual.await(response);
+        } catch (final SQLException ex) {
+            assertFalse(actual.isReusable());
+            return;
+        }
+        throw new AssertionError("Await response should be timeout.");
+    }
+    
+    @Test
+    public void assertPing() throws SQLException {
+        MySQLNettyBackendConnection actual = MySQLNettyBackendConnection.open(eventLoopGroup, createConnectionConfiguration(server.getPort(), MySQLNettyCollation.UTF8MB4_GENERAL_CI));
+        try {
+            actual.ping();
+            assertTrue(actual.isReusable());
+        } finally {
+            actual.close();
+        }
+    }
+    
+    private MySQLNettyConnectionConfiguration createConnectionConfiguration(final int port, final MySQLNettyCollation collation) {
+        return new MySQLNettyConnectionConfiguration("127.0.0.1", port, "root", "root", "foo_db", collation, null, false, 5000, 500L);
+    }
+}
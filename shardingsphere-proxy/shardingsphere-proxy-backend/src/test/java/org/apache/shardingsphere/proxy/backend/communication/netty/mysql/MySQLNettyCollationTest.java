@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class MySQLNettyCollationTest {
+    
+    @Test
+    public void assertFindByCollationName() {
+        assertThat(MySQLNettyCollation.findByCollationName("utf8mb4_bin").get(), is(MySQLNettyCollation.UTF8MB4_BIN));
+        assertFalse(MySQLNettyCollation.findByCollationName("foo_ci").isPresent());
+    }
+    
+    @Test
+    public void assertFindByCharacterEncoding() {
+        assertThat(MySQLNettyCollation.findByCharacterEncoding("UTF-8").get(), is(MySQLNettyCollation.UTF8MB4_GENERAL_CI));
+        assertThat(MySQLNettyCollation.findByCharacterEncoding("utf8").get(), is(MySQLNettyCollation.UTF8MB4_GENERAL_CI));
+        assertThat(MySQLNettyCollation.findByCharacterEncoding("utf8mb4").get(), is(MySQLNettyCollation.UTF8MB4_GENERAL_CI));
+        assertThat(MySQLNettyCollation.findByCharacterEncoding("GBK").get(), is(MySQLNettyCollation.GBK_CHINESE_CI));
+        assertThat(MySQLNettyCollation.findByCharacterEncoding("latin1").get(), is(MySQLNettyCollation.LATIN1_SWEDISH_CI));
+        assertFalse(MySQLNettyCollation.findByCharacterEncoding("foo").isPresent());
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import org.apache.shardingsphere.proxy.backend.communication.netty.mysql.fixture.MockMySQLServer;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class MySQLNettyConnectionPoolTest {
+    
+    private static EventLoopGroup eventLoopGroup;
+    
+    private MockMySQLServer server;
+    
+    @BeforeClass
+    public static void init() {
+        eventLoopGroup = new NioEventLoopGroup(1);
+    }
+    
+    @AfterClass
+    public static void destroy() {
+        eventLoopGroup.shutdownGracefully();
+    }
+    
+    @Before
+    public void setUp() {
+        server = new MockMySQLServer();
+        server.start();
+    }
+    
+    @After
+    public void tearDown() {
+        server.shutdown();
+    }
+    
+    @Test
+    public void assertGetConnectionsLimitedByMaxPoolSize() throws SQLException {
+        MySQLNettyConnectionPool connectionPool = createConnectionPool(2, 60000L);
+        List<MySQLNettyBackendConnection> actual = connectionPool.getConnections(3);
+        assertThat(actual.size(), is(2));
+        assertThat(server.getAcceptedConnections().get(), is(2));
+        actual.forEach(connectionPool::releaseConnection);
+        assertThat(connectionPool.getIdleConnectionSize(), is(2));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertGetConnectionsWhenPoolExhausted() throws SQLException {
+        MySQLNettyConnectionPool connectionPool = createConnectionPool(1, 60000L);
+        connectionPool.getConnections(1);
+        connectionPool.getConnections(1);
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertGetConnectionsWithNegotiationFailure() throws SQLException {
+        server.setAuthenticated(false);
+        MySQLNettyConnectionPool connectionPool = createConnectionPool(1, 60000L);
+        try {
+            connectionPool.getConnections(1);
+        } finally {
+            server.setAuthenticated(true);
+            assertThat(connectionPool.getConnections(1).size(), is(1));
+        }
+    }
+    
+    @Test
+    public void assertReuseReleasedConnection() throws SQLException {
+        MySQLNettyConnectionPool connectionPool = createConnectionPool(1, 60000L);
+        MySQLNettyBackendConnection expected = connectionPool.getConnections(1).get(0);
+        connectionPool.releaseConnection(expected);
+        assertThat(connectionPool.getConnections(1).get(0), sameInstance(expected));
+        assertThat(server.getAcceptedConnections().get(), is(1));
+        assertThat(connectionPool.getIdleConnectionSize(), is(0));
+    }
+    
+    @Test
+    public void assertGetConnectionsWithInvalidIdleConnection() throws SQLException, InterruptedException {
+        MySQLNettyConnectionPool connectionPool = createConnectionPool(1, 60000L);
+        MySQLNettyBackendConnection invalidConnection = connectionPool.getConnections(1).get(0);
+        connectionPool.releaseConnection(invalidConnection);
+        server.setCommandResponded(false);
+        Thread.sleep(600L);
+        MySQLNettyBackendConnection actual = connectionPool.getConnections(1).get(0);
+        assertThat(actual, not(sameInstance(invalidConnection)));
+        assertThat(server.getAcceptedConnections().get(), is(2));
+    }
+    
+    @Test
+    public void assertEvictIdleConnections() throws SQLException, InterruptedException {
+        MySQLNettyConnectionPool connectionPool = createConnectionPool(1, 1L);
+        connectionPool.releaseConnection(connectionPool.getConnections(1).get(0));
+        assertThat(connectionPool.getIdleConnectionSize(), is(1));
+        Thread.sleep(10L);
+        connectionPool.evictIdleConnections();
+        assertThat(connectionPool.getIdleConnectionSize(), is(0));
+    }
+    
+    @Test
+    public void assertClose() throws SQLException {
+        MySQLNettyConnectionPool connectionPool = createConnectionPool(2, 60000L);
+        List<MySQLNettyBackendConnection> connections = connectionPool.getConnections(2);
+        connectionPool.releaseConnection(connections.get(0));
+        assertThat(connectionPool.getIdleConnectionSize(), is(1));
+        connectionPool.close();
+        assertThat(connectionPool.getIdleConnectionSize(), is(0));
+        connectionPool.releaseConnection(connections.get(1));
+        assertThat(connectionPool.getIdleConnectionSize(), is(0));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertGetConnectionsAfterClose() throws SQLException {
+        MySQLNettyConnectionPool connectionPool = createConnectionPool(1, 60000L);
+        connectionPool.close();
+        connectionPool.getConnections(1);
+    }
+    
+    private MySQLNettyConnectionPool createConnectionPool(final int maxPoolSize, final long idleTimeoutMillis) {
+        MySQLNettyConnectionConfiguration connectionConfig = new MySQLNettyConnectionConfiguration(
+                "127.0.0.1", server.getPort(), "root", "root", null, MySQLNettyCollation.UTF8MB4_GENERAL_CI, null, false, 1000, 500L);
+        return new MySQLNettyConnectionPool(eventLoopGroup, connectionConfig, maxPoolSize, 100L, idleTimeoutMillis);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLFieldCountPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLNettyPacketAggregatorTest {
+    
+    private static final int MAX_PAYLOAD_LENGTH = 0xffffff;
+    
+    @Test
+    public void assertAggregateSplitPayload() throws SQLException {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLNettyPacketAggregator(), new MySQLNettyResponseDecoder(StandardCharsets.UTF_8));
+        channel.writeInbound(toByteBuf(new MySQLFieldCountPacket(1, 1)));
+        channel.writeInbound(toByteBuf(new MySQLColumnDefinition41Packet(2, "db", "t_order", "t_order", "status", "status", 50, MySQLBinaryColumnType.MYSQL_TYPE_VAR_STRING, 0, false)));
+        channel.writeInbound(toByteBuf(new MySQLEofPacket(3)));
+        char[] value = new char[MAX_PAYLOAD_LENGTH];
+        Arrays.fill(value, 'a');
+        ByteBuf row = toByteBuf(new MySQLTextResultSetRowPacket(4, Collections.singletonList(new String(value))));
+        channel.writeInbound(row.retainedSlice(0, 1 + MAX_PAYLOAD_LENGTH));
+        ByteBuf lastPacket = Unpooled.buffer();
+        lastPacket.writeByte(5);
+        lastPacket.writeBytes(row, 1 + MAX_PAYLOAD_LENGTH, row.readableBytes() - 1 - MAX_PAYLOAD_LENGTH);
+        row.release();
+        channel.writeInbound(lastPacket);
+        channel.writeInbound(toByteBuf(new MySQLEofPacket(6)));
+        QueryResult actual = channel.readInbound();
+        assertTrue(actual.next());
+        assertThat(((String) actual.getValue(1, Object.class)).length(), is(MAX_PAYLOAD_LENGTH));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertAggregatePayloadOfMaxLength() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLNettyPacketAggregator());
+        ByteBuf firstPacket = Unpooled.buffer();
+        firstPacket.writeByte(1);
+        firstPacket.writeZero(MAX_PAYLOAD_LENGTH);
+        channel.writeInbound(firstPacket);
+        ByteBuf emptyPacket = Unpooled.buffer();
+        emptyPacket.writeByte(2);
+        channel.writeInbound(emptyPacket);
+        ByteBuf actual = channel.readInbound();
+        assertThat(actual.readableBytes(), is(1 + MAX_PAYLOAD_LENGTH));
+        assertThat(actual.getByte(0), is((byte) 1));
+        actual.release();
+    }
+    
+    private ByteBuf toByteBuf(final MySQLPacket packet) {
+        ByteBuf result = Unpooled.buffer();
+        result.writeByte(packet.getSequenceId());
+        packet.write(new MySQLPacketPayload(result));
+        return result;
+    }
+}
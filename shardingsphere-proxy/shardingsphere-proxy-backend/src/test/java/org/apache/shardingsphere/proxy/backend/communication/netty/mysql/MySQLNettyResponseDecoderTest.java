@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLFieldCountPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLNettyResponseDecoderTest {
+    
+    private EmbeddedChannel channel;
+    
+    @Before
+    public void setUp() {
+        channel = new EmbeddedChannel(new MySQLNettyResponseDecoder(StandardCharsets.UTF_8));
+    }
+    
+    @Test
+    public void assertDecodeOKPacket() {
+        channel.writeInbound(toByteBuf(new MySQLOKPacket(1, 2L, 3L)));
+        MySQLOKPacket actual = channel.readInbound();
+        assertThat(actual.getAffectedRows(), is(2L));
+        assertThat(actual.getLastInsertId(), is(3L));
+    }
+    
+    @Test
+    public void assertDecodeResultSet() throws SQLException {
+        channel.writeInbound(toByteBuf(new MySQLFieldCountPacket(1, 2)));
+        channel.writeInbound(toByteBuf(new MySQLColumnDefinition41Packet(2, "db", "t_order", "t_order", "order_id", "order_id", 20, MySQLBinaryColumnType.MYSQL_TYPE_LONGLONG, 0, false)));
+        channel.writeInbound(toByteBuf(new MySQLColumnDefinition41Packet(3, "db", "t_order", "t_order", "status", "status", 50, MySQLBinaryColumnType.MYSQL_TYPE_VAR_STRING, 0, false)));
+        channel.writeInbound(toByteBuf(new MySQLEofPacket(4)));
+        channel.writeInbound(toByteBuf(new MySQLTextResultSetRowPacket(5, Arrays.asList(1L, "init"))));
+        channel.writeInbound(toByteBuf(new MySQLTextResultSetRowPacket(6, Arrays.asList(2L, null))));
+        assertNull(channel.readInbound());
+        channel.writeInbound(toByteBuf(new MySQLEofPacket(7)));
+        QueryResult actual = channel.readInbound();
+        assertThat(actual.getMetaData().getColumnCount(), is(2));
+        assertThat(actual.getMetaData().getColumnLabel(1), is("order_id"));
+        assertThat(actual.getMetaData().getColumnType(1), is(Types.BIGINT));
+        assertThat(actual.getMetaData().getColumnType(2), is(Types.VARCHAR));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1L));
+        assertThat(actual.getValue(2, Object.class), is("init"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, byte[].class), is("2".getBytes()));
+        assertNull(actual.getValue(2, Object.class));
+        assertTrue(actual.wasNull());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertDecodeErrorPacketAfterRows() {
+        channel.writeInbound(toByteBuf(new MySQLFieldCountPacket(1, 1)));
+        channel.writeInbound(toByteBuf(new MySQLColumnDefinition41Packet(2, "db", "t_order", "t_order", "order_id", "order_id", 20, MySQLBinaryColumnType.MYSQL_TYPE_LONGLONG, 0, false)));
+        channel.writeInbound(toByteBuf(new MySQLEofPacket(3)));
+        channel.writeInbound(toByteBuf(new MySQLTextResultSetRowPacket(4, Arrays.asList(1L))));
+        channel.writeInbound(toByteBuf(new MySQLErrPacket(5, 1317, "70100", "Query execution was interrupted")));
+        assertThat(channel.readInbound(), instanceOf(MySQLErrPacket.class));
+        channel.writeInbound(toByteBuf(new MySQLOKPacket(1)));
+        assertThat(channel.readInbound(), instanceOf(MySQLOKPacket.class));
+    }
+    
+    @Test
+    public void assertDecodeLocalInfileRequest() {
+        ByteBuf localInfileRequest = Unpooled.buffer();
+        localInfileRequest.writeByte(1);
+        localInfileRequest.writeByte(0xfb);
+        localInfileRequest.writeBytes("/tmp/t_order.csv".getBytes(StandardCharsets.UTF_8));
+        channel.writeInbound(localInfileRequest);
+        assertNull(channel.readInbound());
+        MySQLPacket emptyPacket = channel.readOutbound();
+        assertThat(emptyPacket.getSequenceId(), is(2));
+        channel.writeInbound(toByteBuf(new MySQLOKPacket(3)));
+        assertThat(channel.readInbound(), instanceOf(SQLException.class));
+        channel.writeInbound(toByteBuf(new MySQLOKPacket(1)));
+        assertThat(channel.readInbound(), instanceOf(MySQLOKPacket.class));
+    }
+    
+    private ByteBuf toByteBuf(final MySQLPacket packet) {
+        ByteBuf result = Unpooled.buffer();
+        result.writeByte(packet.getSequenceId());
+        packet.write(new MySQLPacketPayload(result));
+        return result;
+    }
+}
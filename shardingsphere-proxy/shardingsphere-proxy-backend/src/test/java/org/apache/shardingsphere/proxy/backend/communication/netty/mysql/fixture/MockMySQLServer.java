@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql.fixture;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLServerErrorCode;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLAuthPluginData;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakePacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakeResponse41Packet;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Mock MySQL server for unit test, which authenticates any user and answers every command with OK packet.
+ */
+public final class MockMySQLServer {
+    
+    private final EventLoopGroup eventLoopGroup = new NioEventLoopGroup(1);
+    
+    @Getter
+    private final AtomicInteger acceptedConnections = new AtomicInteger();
+    
+    private Channel serverChannel;
+    
+    @Setter
+    private volatile boolean handshakeSent = true;
+    
+    @Setter
+    private volatile boolean authenticated = true;
+    
+    @Setter
+    private volatile boolean commandResponded = true;
+    
+    @Getter
+    private volatile MySQLHandshakeResponse41Packet handshakeResponse;
+    
+    /**
+     * Start mock MySQL server on a random port.
+     */
+    @SneakyThrows(InterruptedException.class)
+    public void start() {
+        serverChannel = new ServerBootstrap().group(eventLoopGroup).channel(NioServerSocketChannel.class).childHandler(new ChannelInitializer<SocketChannel>() {
+            
+            @Override
+            protected void initChannel(final SocketChannel socketChannel) {
+                socketChannel.pipeline().addLast(new PacketCodec(new MySQLPacketCodecEngine())).addLast(new MockMySQLServerHandler());
+            }
+        }).bind("127.0.0.1", 0).sync().channel();
+    }
+    
+    /**
+     * Get port.
+     *
+     * @return port
+     */
+    public int getPort() {
+        return ((InetSocketAddress) serverChannel.localAddress()).getPort();
+    }
+    
+    /**
+     * Shutdown.
+     */
+    public void shutdown() {
+        eventLoopGroup.shutdownGracefully();
+    }
+    
+    private final class MockMySQLServerHandler extends ChannelInboundHandlerAdapter {
+        
+        private boolean handshakeResponded;
+        
+        @Override
+        public void channelActive(final ChannelHandlerContext ctx) {
+            acceptedConnections.incrementAndGet();
+            if (handshakeSent) {
+                ctx.writeAndFlush(new MySQLHandshakePacket(acceptedConnections.get(), new MySQLAuthPluginData()));
+            }
+        }
+        
+        @Override
+        public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+            MySQLPacketPayload payload = new MySQLPacketPayload((ByteBuf) msg);
+            try {
+                if (!handshakeResponded) {
+                    handshakeResponded = true;
+                    handshakeResponse = new MySQLHandshakeResponse41Packet(payload);
+                    ctx.writeAndFlush(authenticated ? new MySQLOKPacket(2) : new MySQLErrPacket(2, MySQLServerErrorCode.ER_ACCESS_DENIED_ERROR, "root", "127.0.0.1", "YES"));
+                } else if (commandResponded) {
+                    ctx.writeAndFlush(new MySQLOKPacket(1));
+                }
+            } finally {
+                payload.close();
+            }
+        }
+    }
+}
@@ -75,6 +75,9 @@ public final class BootstrapInitializer {
                 mode, getDataSourcesMap(proxyConfig.getSchemaDataSources()), proxyConfig.getSchemaRules(), proxyConfig.getGlobalRules(), proxyConfig.getProps(), modeConfig.isOverwrite());
         ProxyContext.getInstance().init(contextManager);
         setDatabaseServerInfo();
+        if ("Cluster".equals(modeConfig.getType())) {
+            NettyBackendDataSourceSubscriber.init();
+        }
         initScaling(yamlConfig, modeConfig);
     }
     
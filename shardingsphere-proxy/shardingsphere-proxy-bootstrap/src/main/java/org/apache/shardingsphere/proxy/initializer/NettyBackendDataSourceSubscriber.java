@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.initializer;
+
+import com.google.common.eventbus.Subscribe;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.governance.core.registry.config.event.datasource.DataSourceChangeCompletedEvent;
+import org.apache.shardingsphere.governance.core.registry.config.event.datasource.DataSourceDeletedEvent;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.proxy.backend.communication.netty.NettyBackendDataSource;
+
+/**
+ * Subscriber which closes connection pools of Netty backend data source when data sources are changed or schema is dropped.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class NettyBackendDataSourceSubscriber {
+    
+    private static final NettyBackendDataSourceSubscriber INSTANCE = new NettyBackendDataSourceSubscriber();
+    
+    /**
+     * Init Netty backend data source subscriber.
+     */
+    public static void init() {
+        ShardingSphereEventBus.getInstance().register(INSTANCE);
+    }
+    
+    /**
+     * Renew connection pools with changed data sources.
+     *
+     * @param event data source change completed event
+     */
+    @Subscribe
+    public void renew(final DataSourceChangeCompletedEvent event) {
+        NettyBackendDataSource.getInstance().renewConnectionPools(event.getSchemaName(), event.getDataSources());
+    }
+    
+    /**
+     * Close connection pools of deleted schema.
+     *
+     * @param event data source deleted event
+     */
+    @Subscribe
+    public void renew(final DataSourceDeletedEvent event) {
+        NettyBackendDataSource.getInstance().closeConnectionPools(event.getSchemaName());
+    }
+}
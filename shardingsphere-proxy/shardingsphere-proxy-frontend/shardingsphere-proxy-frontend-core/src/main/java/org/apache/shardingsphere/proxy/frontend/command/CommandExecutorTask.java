@@ -19,7 +19,8 @@ package org.apache.shardingsphere.proxy.frontend.command;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
-import lombok.RequiredArgsConstructor;
+import io.netty.util.AttributeKey;
+import io.netty.util.ReferenceCountUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacketType;
@@ -31,6 +32,7 @@ import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.Con
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.exception.ExpectedExceptions;
+import org.apache.shardingsphere.proxy.frontend.executor.CommandExecutorSelector;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.readwritesplitting.route.impl.PrimaryVisitedManager;
 
@@ -38,21 +40,51 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * Command executor task.
+ * Command executor task, which executes all command packets read from channel at once in order.
+ * 
+ * <p>Task is suspended instead of blocking executor thread when query data can not be written because channel is unwritable,
+ * and is resumed by {@link #resume()} after channel becomes writable.
+ * Until a suspended task completes, command packets read later are offered to it by {@link #offerMessages(Collection)},
+ * so that no other task waits for the connection held by it on the same executor.</p>
  */
-@RequiredArgsConstructor
 @Slf4j
 public final class CommandExecutorTask implements Runnable {
     
+    public static final AttributeKey<CommandExecutorTask> SUSPENDED_TASK = AttributeKey.valueOf("suspendedCommandExecutorTask");
+    
     private final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine;
     
     private final BackendConnection backendConnection;
     
     private final ChannelHandlerContext context;
     
-    private final Object message;
+    private final Queue<Object> messages;
+    
+    private final AtomicBoolean suspended = new AtomicBoolean();
+    
+    private boolean started;
+    
+    private boolean finished;
+    
+    private boolean registered;
+    
+    private boolean isNeedFlush;
+    
+    private CommandExecutor suspendedCommandExecutor;
+    
+    private QueryDataWriter suspendedQueryDataWriter;
+    
+    public CommandExecutorTask(final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine, final BackendConnection backendConnection,
+                               final ChannelHandlerContext context, final Collection<Object> messages) {
+        this.databaseProtocolFrontendEngine = databaseProtocolFrontendEngine;
+        this.backendConnection = backendConnection;
+        this.context = context;
+        this.messages = new LinkedList<>(messages);
+    }
     
     /**
      * To make sure SkyWalking will be available at the next release of ShardingSphere,
@@ -62,14 +94,96 @@ public final class CommandExecutorTask implements Runnable {
      */
     @Override
     public void run() {
-        boolean isNeedFlush = false;
-        try (PacketPayload payload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message)) {
-            ConnectionStatus connectionStatus = backendConnection.getConnectionStatus();
-            if (!backendConnection.getTransactionStatus().isInConnectionHeldTransaction()) {
-                connectionStatus.waitUntilConnectionRelease();
-                connectionStatus.switchToUsing();
+        try {
+            if (!started) {
+                started = true;
+                ConnectionStatus connectionStatus = backendConnection.getConnectionStatus();
+                if (!backendConnection.getTransactionStatus().isInConnectionHeldTransaction()) {
+                    connectionStatus.waitUntilConnectionRelease();
+                    connectionStatus.switchToUsing();
+                }
+            }
+            if (!executeMessages()) {
+                suspend();
+                return;
             }
-            isNeedFlush = executeCommand(context, payload, backendConnection);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            processException(ex);
+        }
+        complete();
+    }
+    
+    /**
+     * Offer messages read from channel to be executed after current messages.
+     *
+     * @param messages messages
+     * @return offered or not, messages are not offered if task has finished executing messages
+     */
+    public synchronized boolean offerMessages(final Collection<Object> messages) {
+        if (finished) {
+            return false;
+        }
+        this.messages.addAll(messages);
+        return true;
+    }
+    
+    /**
+     * Resume suspended task.
+     */
+    public void resume() {
+        if (suspended.compareAndSet(true, false)) {
+            CommandExecutorSelector.getExecutorService(databaseProtocolFrontendEngine, backendConnection).execute(this);
+        }
+    }
+    
+    /**
+     * Discard suspended task because channel is inactive.
+     */
+    public void discard() {
+        if (!suspended.compareAndSet(true, false)) {
+            return;
+        }
+        releaseMessages();
+        if (null != suspendedCommandExecutor) {
+            closeSuspendedCommandExecutor();
+        }
+    }
+    
+    private boolean executeMessages() {
+        if (null != suspendedQueryDataWriter && !resumeQueryDataWriting()) {
+            return false;
+        }
+        Object message;
+        while (null != (message = pollMessage())) {
+            if (!executeMessage(message)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private synchronized Object pollMessage() {
+        Object result = messages.poll();
+        finished = null == result;
+        return result;
+    }
+    
+    private synchronized boolean hasMessage() {
+        return !messages.isEmpty();
+    }
+    
+    private synchronized void releaseMessages() {
+        finished = true;
+        messages.forEach(ReferenceCountUtil::release);
+        messages.clear();
+    }
+    
+    private boolean executeMessage(final Object message) {
+        boolean completed = true;
+        try (PacketPayload payload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message)) {
+            completed = executeCommand(context, payload, backendConnection);
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
@@ -77,17 +191,13 @@ public final class CommandExecutorTask implements Runnable {
         } finally {
             // TODO optimize SQLStatementSchemaHolder
             SQLStatementSchemaHolder.remove();
-            Collection<SQLException> exceptions = closeExecutionResources();
-            if (isNeedFlush) {
-                context.flush();
-            }
-            if (!backendConnection.getTransactionStatus().isInConnectionHeldTransaction()) {
-                exceptions.addAll(backendConnection.closeDatabaseCommunicationEngines(true));
-                exceptions.addAll(backendConnection.closeConnections(false));
-                backendConnection.getConnectionStatus().switchToReleased();
+            if (completed) {
+                completeMessage();
+            } else {
+                PrimaryVisitedManager.clear();
             }
-            processClosedExceptions(exceptions);
         }
+        return completed;
     }
     
     private boolean executeCommand(final ChannelHandlerContext context, final PacketPayload payload, final BackendConnection backendConnection) throws SQLException {
@@ -95,19 +205,96 @@ public final class CommandExecutorTask implements Runnable {
         CommandPacketType type = commandExecuteEngine.getCommandPacketType(payload);
         CommandPacket commandPacket = commandExecuteEngine.getCommandPacket(payload, type, backendConnection);
         CommandExecutor commandExecutor = commandExecuteEngine.getCommandExecutor(type, commandPacket, backendConnection);
+        boolean completed = true;
         try {
             Collection<DatabasePacket<?>> responsePackets = commandExecutor.execute();
             if (responsePackets.isEmpty()) {
-                return false;
+                return true;
             }
             responsePackets.forEach(context::write);
             if (commandExecutor instanceof QueryCommandExecutor) {
-                return commandExecuteEngine.writeQueryData(context, backendConnection, (QueryCommandExecutor) commandExecutor, responsePackets.size());
+                Optional<QueryDataWriter> queryDataWriter = commandExecuteEngine.getQueryDataWriter(context, backendConnection, (QueryCommandExecutor) commandExecutor, responsePackets.size());
+                if (!queryDataWriter.isPresent()) {
+                    isNeedFlush = commandExecuteEngine.writeQueryData(context, backendConnection, (QueryCommandExecutor) commandExecutor, responsePackets.size()) || isNeedFlush;
+                    return true;
+                }
+                isNeedFlush = true;
+                completed = queryDataWriter.get().write();
+                if (!completed) {
+                    suspendedCommandExecutor = commandExecutor;
+                    suspendedQueryDataWriter = queryDataWriter.get();
+                }
+                return completed;
+            }
+        } finally {
+            if (completed) {
+                commandExecutor.close();
             }
+        }
+        isNeedFlush = databaseProtocolFrontendEngine.getFrontendContext().isFlushForPerCommandPacket() || isNeedFlush;
+        return true;
+    }
+    
+    private boolean resumeQueryDataWriting() {
+        boolean completed = true;
+        try {
+            completed = suspendedQueryDataWriter.write();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            processException(ex);
         } finally {
-            commandExecutor.close();
+            if (completed) {
+                closeSuspendedCommandExecutor();
+                completeMessage();
+            }
+        }
+        return completed;
+    }
+    
+    private void closeSuspendedCommandExecutor() {
+        try {
+            suspendedCommandExecutor.close();
+        } catch (final SQLException ex) {
+            processException(ex);
+        } finally {
+            suspendedCommandExecutor = null;
+            suspendedQueryDataWriter = null;
+        }
+    }
+    
+    private void suspend() {
+        suspended.set(true);
+        if (!registered) {
+            registered = true;
+            context.channel().attr(SUSPENDED_TASK).set(this);
+        }
+        if (context.channel().isWritable() || !context.channel().isActive()) {
+            resume();
+        }
+    }
+    
+    private void completeMessage() {
+        processClosedExceptions(closeExecutionResources());
+        if (hasMessage() && !backendConnection.getTransactionStatus().isInConnectionHeldTransaction()) {
+            processClosedExceptions(closeBackendResources());
+        }
+    }
+    
+    private void complete() {
+        releaseMessages();
+        if (isNeedFlush) {
+            context.flush();
+        }
+        Collection<SQLException> exceptions = new LinkedList<>();
+        if (!backendConnection.getTransactionStatus().isInConnectionHeldTransaction()) {
+            exceptions.addAll(closeBackendResources());
+            backendConnection.getConnectionStatus().switchToReleased();
+        }
+        processClosedExceptions(exceptions);
+        if (registered) {
+            context.channel().attr(SUSPENDED_TASK).compareAndSet(this, null);
         }
-        return databaseProtocolFrontendEngine.getFrontendContext().isFlushForPerCommandPacket();
     }
     
     private void processException(final Exception cause) {
@@ -127,6 +314,13 @@ public final class CommandExecutorTask implements Runnable {
         return result;
     }
     
+    private Collection<SQLException> closeBackendResources() {
+        Collection<SQLException> result = new LinkedList<>();
+        result.addAll(backendConnection.closeDatabaseCommunicationEngines(true));
+        result.addAll(backendConnection.closeConnections(false));
+        return result;
+    }
+    
     private void processClosedExceptions(final Collection<SQLException> exceptions) {
         if (exceptions.isEmpty()) {
             return;
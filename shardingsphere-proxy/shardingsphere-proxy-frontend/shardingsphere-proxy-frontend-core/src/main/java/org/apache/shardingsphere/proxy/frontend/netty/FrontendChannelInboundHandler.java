@@ -20,6 +20,7 @@ package org.apache.shardingsphere.proxy.frontend.netty;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.ReferenceCountUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
@@ -27,12 +28,16 @@ import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationResult;
+import org.apache.shardingsphere.proxy.frontend.command.CommandExecutorTask;
 import org.apache.shardingsphere.proxy.frontend.executor.ConnectionThreadExecutorGroup;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.proxy.frontend.state.ProxyStateContext;
 import org.apache.shardingsphere.readwritesplitting.route.impl.PrimaryVisitedManager;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
+import java.util.LinkedList;
+import java.util.List;
+
 /**
  * Frontend channel inbound handler.
  */
@@ -45,6 +50,8 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     
     private volatile boolean authenticated;
     
+    private List<Object> pendingMessages = new LinkedList<>();
+    
     public FrontendChannelInboundHandler(final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine) {
         this.databaseProtocolFrontendEngine = databaseProtocolFrontendEngine;
         TransactionType transactionType = TransactionType.valueOf(
@@ -65,7 +72,17 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
             authenticated = authenticate(context, (ByteBuf) message);
             return;
         }
-        ProxyStateContext.execute(context, message, databaseProtocolFrontendEngine, backendConnection);
+        pendingMessages.add(message);
+    }
+    
+    @Override
+    public void channelReadComplete(final ChannelHandlerContext context) {
+        if (pendingMessages.isEmpty()) {
+            return;
+        }
+        List<Object> messages = pendingMessages;
+        pendingMessages = new LinkedList<>();
+        ProxyStateContext.execute(context, messages, databaseProtocolFrontendEngine, backendConnection);
     }
     
     private boolean authenticate(final ChannelHandlerContext context, final ByteBuf message) {
@@ -89,10 +106,16 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @Override
     public void channelInactive(final ChannelHandlerContext context) {
         context.fireChannelInactive();
+        CommandExecutorTask suspendedTask = context.channel().attr(CommandExecutorTask.SUSPENDED_TASK).getAndSet(null);
+        if (null != suspendedTask) {
+            suspendedTask.discard();
+        }
         closeAllResources();
     }
     
     private void closeAllResources() {
+        pendingMessages.forEach(ReferenceCountUtil::release);
+        pendingMessages.clear();
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(backendConnection.getConnectionId());
         PrimaryVisitedManager.clear();
         backendConnection.closeDatabaseCommunicationEngines(true);
@@ -103,8 +126,13 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     
     @Override
     public void channelWritabilityChanged(final ChannelHandlerContext context) {
-        if (context.channel().isWritable()) {
-            backendConnection.getResourceLock().doNotify();
+        if (!context.channel().isWritable()) {
+            return;
+        }
+        CommandExecutorTask suspendedTask = context.channel().attr(CommandExecutorTask.SUSPENDED_TASK).get();
+        if (null != suspendedTask) {
+            suspendedTask.resume();
         }
+        backendConnection.getResourceLock().doNotify();
     }
 }
@@ -21,6 +21,8 @@ import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 
+import java.util.Collection;
+
 /**
  * Proxy state.
  */
@@ -30,9 +32,9 @@ public interface ProxyState {
      * Execute command.
      * 
      * @param context channel handler context
-     * @param message message
+     * @param messages messages read from channel in order
      * @param databaseProtocolFrontendEngine database protocol frontend engine
      * @param backendConnection backend connection
      */
-    void execute(ChannelHandlerContext context, Object message, DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine, BackendConnection backendConnection);
+    void execute(ChannelHandlerContext context, Collection<Object> messages, DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine, BackendConnection backendConnection);
 }
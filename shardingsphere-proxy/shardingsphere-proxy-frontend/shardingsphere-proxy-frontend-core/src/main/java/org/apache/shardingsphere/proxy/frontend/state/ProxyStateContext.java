@@ -27,6 +27,7 @@ import org.apache.shardingsphere.proxy.frontend.state.impl.CircuitBreakProxyStat
 import org.apache.shardingsphere.proxy.frontend.state.impl.LockProxyState;
 import org.apache.shardingsphere.proxy.frontend.state.impl.OKProxyState;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -48,12 +49,12 @@ public final class ProxyStateContext {
      * Execute command.
      *
      * @param context channel handler context
-     * @param message message
+     * @param messages messages read from channel in order
      * @param databaseProtocolFrontendEngine database protocol frontend engine
      * @param backendConnection backend connection
      */
-    public static void execute(final ChannelHandlerContext context, final Object message, 
+    public static void execute(final ChannelHandlerContext context, final Collection<Object> messages, 
                                final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine, final BackendConnection backendConnection) {
-        STATES.get(ProxyContext.getInstance().getStateContext().getCurrentState()).execute(context, message, databaseProtocolFrontendEngine, backendConnection);
+        STATES.get(ProxyContext.getInstance().getStateContext().getCurrentState()).execute(context, messages, databaseProtocolFrontendEngine, backendConnection);
     }
 }
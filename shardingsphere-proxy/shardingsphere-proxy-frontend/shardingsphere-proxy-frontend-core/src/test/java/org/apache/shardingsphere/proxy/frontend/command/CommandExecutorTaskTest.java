@@ -18,7 +18,10 @@
 package org.apache.shardingsphere.proxy.frontend.command;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.Attribute;
+import io.netty.util.DefaultAttributeMap;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacketType;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
@@ -37,14 +40,22 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -87,6 +98,12 @@ public final class CommandExecutorTaskTest {
     @Mock
     private FrontendContext frontendContext;
     
+    @Mock
+    private QueryDataWriter queryDataWriter;
+    
+    @Mock
+    private Channel channel;
+    
     @Before
     public void setup() {
         when(backendConnection.closeDatabaseCommunicationEngines(anyBoolean())).thenReturn(Collections.emptyList());
@@ -102,7 +119,7 @@ public final class CommandExecutorTaskTest {
         when(engine.getCodecEngine().createPacketPayload(message)).thenReturn(payload);
         when(backendConnection.closeConnections(false)).thenReturn(Collections.emptyList());
         when(backendConnection.closeFederateExecutor()).thenReturn(Collections.emptyList());
-        CommandExecutorTask actual = new CommandExecutorTask(engine, backendConnection, handlerContext, message);
+        CommandExecutorTask actual = new CommandExecutorTask(engine, backendConnection, handlerContext, Collections.singletonList(message));
         actual.run();
         verify(connectionStatus).waitUntilConnectionRelease();
         verify(connectionStatus).switchToUsing();
@@ -122,7 +139,7 @@ public final class CommandExecutorTaskTest {
         when(engine.getCodecEngine().createPacketPayload(message)).thenReturn(payload);
         when(backendConnection.closeConnections(false)).thenReturn(Collections.emptyList());
         when(backendConnection.closeFederateExecutor()).thenReturn(Collections.emptyList());
-        CommandExecutorTask actual = new CommandExecutorTask(engine, backendConnection, handlerContext, message);
+        CommandExecutorTask actual = new CommandExecutorTask(engine, backendConnection, handlerContext, Collections.singletonList(message));
         actual.run();
         verify(connectionStatus).waitUntilConnectionRelease();
         verify(connectionStatus).switchToUsing();
@@ -146,7 +163,7 @@ public final class CommandExecutorTaskTest {
         when(engine.getCodecEngine().createPacketPayload(message)).thenReturn(payload);
         when(backendConnection.closeConnections(false)).thenReturn(Collections.emptyList());
         when(backendConnection.closeFederateExecutor()).thenReturn(Collections.emptyList());
-        CommandExecutorTask actual = new CommandExecutorTask(engine, backendConnection, handlerContext, message);
+        CommandExecutorTask actual = new CommandExecutorTask(engine, backendConnection, handlerContext, Collections.singletonList(message));
         actual.run();
         verify(connectionStatus).waitUntilConnectionRelease();
         verify(connectionStatus).switchToUsing();
@@ -157,6 +174,113 @@ public final class CommandExecutorTaskTest {
         verify(backendConnection).closeDatabaseCommunicationEngines(true);
     }
     
+    @Test
+    public void assertRunWithMultipleMessages() throws SQLException {
+        when(frontendContext.isFlushForPerCommandPacket()).thenReturn(true);
+        when(engine.getFrontendContext()).thenReturn(frontendContext);
+        when(commandExecutor.execute()).thenReturn(Collections.singletonList(databasePacket));
+        when(engine.getCommandExecuteEngine().getCommandPacket(payload, commandPacketType, backendConnection)).thenReturn(commandPacket);
+        when(engine.getCommandExecuteEngine().getCommandExecutor(commandPacketType, commandPacket, backendConnection)).thenReturn(commandExecutor);
+        when(engine.getCommandExecuteEngine().getCommandPacketType(payload)).thenReturn(commandPacketType);
+        when(backendConnection.getConnectionStatus()).thenReturn(connectionStatus);
+        when(engine.getCodecEngine().createPacketPayload(message)).thenReturn(payload);
+        when(backendConnection.closeConnections(false)).thenReturn(Collections.emptyList());
+        when(backendConnection.closeFederateExecutor()).thenReturn(Collections.emptyList());
+        CommandExecutorTask actual = new CommandExecutorTask(engine, backendConnection, handlerContext, Arrays.asList(message, message));
+        actual.run();
+        verify(connectionStatus).waitUntilConnectionRelease();
+        verify(connectionStatus).switchToUsing();
+        verify(connectionStatus).switchToReleased();
+        verify(handlerContext, times(2)).write(databasePacket);
+        verify(handlerContext).flush();
+        verify(commandExecutor, times(2)).close();
+        verify(backendConnection, times(2)).closeConnections(false);
+    }
+    
+    @Test
+    public void assertRunWithSuspendedQueryDataWriting() throws SQLException {
+        when(queryCommandExecutor.execute()).thenReturn(Collections.singletonList(databasePacket));
+        when(engine.getCommandExecuteEngine().getCommandPacket(payload, commandPacketType, backendConnection)).thenReturn(commandPacket);
+        when(engine.getCommandExecuteEngine().getCommandExecutor(commandPacketType, commandPacket, backendConnection)).thenReturn(queryCommandExecutor);
+        when(engine.getCommandExecuteEngine().getCommandPacketType(payload)).thenReturn(commandPacketType);
+        when(engine.getCommandExecuteEngine().getQueryDataWriter(handlerContext, backendConnection, queryCommandExecutor, 1)).thenReturn(Optional.of(queryDataWriter));
+        when(queryDataWriter.write()).thenReturn(false, true);
+        when(backendConnection.getConnectionStatus()).thenReturn(connectionStatus);
+        when(engine.getCodecEngine().createPacketPayload(message)).thenReturn(payload);
+        when(backendConnection.closeConnections(false)).thenReturn(Collections.emptyList());
+        when(backendConnection.closeFederateExecutor()).thenReturn(Collections.emptyList());
+        when(handlerContext.channel()).thenReturn(channel);
+        Attribute<CommandExecutorTask> suspendedTask = new DefaultAttributeMap().attr(CommandExecutorTask.SUSPENDED_TASK);
+        when(channel.attr(CommandExecutorTask.SUSPENDED_TASK)).thenReturn(suspendedTask);
+        when(channel.isActive()).thenReturn(true);
+        CommandExecutorTask actual = new CommandExecutorTask(engine, backendConnection, handlerContext, Collections.singletonList(message));
+        actual.run();
+        assertThat(suspendedTask.get(), is(actual));
+        verify(queryCommandExecutor, never()).close();
+        verify(connectionStatus, never()).switchToReleased();
+        actual.run();
+        verify(connectionStatus).waitUntilConnectionRelease();
+        verify(connectionStatus).switchToUsing();
+        verify(connectionStatus).switchToReleased();
+        verify(handlerContext).write(databasePacket);
+        verify(handlerContext).flush();
+        verify(queryDataWriter, times(2)).write();
+        verify(queryCommandExecutor).close();
+        verify(backendConnection).closeDatabaseCommunicationEngines(true);
+        assertNull(suspendedTask.get());
+        assertFalse(actual.offerMessages(Collections.singletonList(message)));
+    }
+    
+    @Test
+    public void assertRunWithMessagesOfferedWhenSuspended() throws SQLException {
+        when(queryCommandExecutor.execute()).thenReturn(Collections.singletonList(databasePacket));
+        when(engine.getCommandExecuteEngine().getCommandPacket(payload, commandPacketType, backendConnection)).thenReturn(commandPacket);
+        when(engine.getCommandExecuteEngine().getCommandExecutor(commandPacketType, commandPacket, backendConnection)).thenReturn(queryCommandExecutor);
+        when(engine.getCommandExecuteEngine().getCommandPacketType(payload)).thenReturn(commandPacketType);
+        when(engine.getCommandExecuteEngine().getQueryDataWriter(handlerContext, backendConnection, queryCommandExecutor, 1)).thenReturn(Optional.of(queryDataWriter));
+        when(queryDataWriter.write()).thenReturn(false, true);
+        when(backendConnection.getConnectionStatus()).thenReturn(connectionStatus);
+        when(engine.getCodecEngine().createPacketPayload(message)).thenReturn(payload);
+        when(backendConnection.closeConnections(false)).thenReturn(Collections.emptyList());
+        when(backendConnection.closeFederateExecutor()).thenReturn(Collections.emptyList());
+        when(handlerContext.channel()).thenReturn(channel);
+        Attribute<CommandExecutorTask> suspendedTask = new DefaultAttributeMap().attr(CommandExecutorTask.SUSPENDED_TASK);
+        when(channel.attr(CommandExecutorTask.SUSPENDED_TASK)).thenReturn(suspendedTask);
+        when(channel.isActive()).thenReturn(true);
+        CommandExecutorTask actual = new CommandExecutorTask(engine, backendConnection, handlerContext, Collections.singletonList(message));
+        actual.run();
+        assertTrue(actual.offerMessages(Collections.singletonList(message)));
+        actual.run();
+        verify(connectionStatus).waitUntilConnectionRelease();
+        verify(connectionStatus).switchToReleased();
+        verify(handlerContext, times(2)).write(databasePacket);
+        verify(queryDataWriter, times(3)).write();
+        verify(queryCommandExecutor, times(2)).close();
+        assertNull(suspendedTask.get());
+    }
+    
+    @Test
+    public void assertDiscardSuspendedTask() throws SQLException {
+        when(queryCommandExecutor.execute()).thenReturn(Collections.singletonList(databasePacket));
+        when(engine.getCommandExecuteEngine().getCommandPacket(payload, commandPacketType, backendConnection)).thenReturn(commandPacket);
+        when(engine.getCommandExecuteEngine().getCommandExecutor(commandPacketType, commandPacket, backendConnection)).thenReturn(queryCommandExecutor);
+        when(engine.getCommandExecuteEngine().getCommandPacketType(payload)).thenReturn(commandPacketType);
+        when(engine.getCommandExecuteEngine().getQueryDataWriter(handlerContext, backendConnection, queryCommandExecutor, 1)).thenReturn(Optional.of(queryDataWriter));
+        when(queryDataWriter.write()).thenReturn(false);
+        when(backendConnection.getConnectionStatus()).thenReturn(connectionStatus);
+        when(engine.getCodecEngine().createPacketPayload(message)).thenReturn(payload);
+        when(handlerContext.channel()).thenReturn(channel);
+        when(channel.attr(CommandExecutorTask.SUSPENDED_TASK)).thenReturn(new DefaultAttributeMap().attr(CommandExecutorTask.SUSPENDED_TASK));
+        when(channel.isActive()).thenReturn(true);
+        CommandExecutorTask actual = new CommandExecutorTask(engine, backendConnection, handlerContext, Collections.singletonList(message));
+        actual.run();
+        assertTrue(actual.offerMessages(Collections.singletonList(message)));
+        actual.discard();
+        verify(queryCommandExecutor).close();
+        verify(message).release();
+        assertFalse(actual.offerMessages(Collections.singletonList(message)));
+    }
+    
     @Test
     public void assertRunWithError() {
         RuntimeException mockException = new RuntimeException("mock");
@@ -166,10 +290,10 @@ public final class CommandExecutorTaskTest {
         when(engine.getCommandExecuteEngine().getErrorPacket(mockException, backendConnection)).thenReturn(databasePacket);
         when(engine.getCommandExecuteEngine().getOtherPacket(backendConnection)).thenReturn(Optional.of(databasePacket));
         when(backendConnection.closeConnections(false)).thenReturn(Collections.emptyList());
-        when(backendConnection.closeFederateExecutor()).thenReturn(Collections.emptyList());
-        CommandExecutorTask actual = new CommandExecutorTask(engine, backendConnection, handlerContext, message);
+        CommandExecutorTask actual = new CommandExecutorTask(engine, backendConnection, handlerContext, Collections.singletonList(message));
         actual.run();
         verify(handlerContext, atLeast(2)).writeAndFlush(databasePacket);
         verify(backendConnection).closeDatabaseCommunicationEngines(true);
+        verify(message).release();
     }
 }
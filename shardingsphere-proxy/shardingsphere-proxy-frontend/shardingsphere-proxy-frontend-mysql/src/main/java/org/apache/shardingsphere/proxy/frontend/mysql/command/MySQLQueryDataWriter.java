@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.proxy.frontend.command.QueryDataWriter;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+
+import java.sql.SQLException;
+
+/**
+ * Query data writer for MySQL.
+ */
+@RequiredArgsConstructor
+public final class MySQLQueryDataWriter implements QueryDataWriter {
+    
+    private static final int ROWS_BUFFER_SIZE = 16 * 1024;
+    
+    private static final MySQLPacketCodecEngine CODEC_ENGINE = new MySQLPacketCodecEngine();
+    
+    private final ChannelHandlerContext context;
+    
+    private final QueryCommandExecutor queryCommandExecutor;
+    
+    private final int headerPackagesCount;
+    
+    private final int flushThreshold;
+    
+    private int count;
+    
+    private int currentSequenceId;
+    
+    @Override
+    public boolean write() throws SQLException {
+        ByteBuf rows = null;
+        try {
+            while (context.channel().isWritable() || !context.channel().isActive()) {
+                if (!queryCommandExecutor.next()) {
+                    writeRows(rows);
+                    rows = null;
+                    context.write(new MySQLEofPacket(++currentSequenceId + headerPackagesCount));
+                    return true;
+                }
+                count++;
+                if (null == rows) {
+                    rows = context.alloc().ioBuffer(ROWS_BUFFER_SIZE);
+                }
+                CODEC_ENGINE.encode(context, (MySQLPacket) queryCommandExecutor.getQueryRowPacket(), rows);
+                if (flushThreshold == count) {
+                    writeRows(rows);
+                    rows = null;
+                    context.flush();
+                    count = 0;
+                } else if (rows.readableBytes() >= ROWS_BUFFER_SIZE) {
+                    writeRows(rows);
+                    rows = null;
+                }
+                currentSequenceId++;
+            }
+            writeRows(rows);
+            rows = null;
+            context.flush();
+            return false;
+        } finally {
+            if (null != rows) {
+                rows.release();
+            }
+        }
+    }
+    
+    private void writeRows(final ByteBuf rows) {
+        if (null != rows) {
+            context.write(rows);
+        }
+    }
+}
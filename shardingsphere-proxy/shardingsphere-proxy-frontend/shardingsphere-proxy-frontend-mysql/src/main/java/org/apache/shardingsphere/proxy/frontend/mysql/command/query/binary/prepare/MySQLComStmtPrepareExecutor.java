@@ -66,7 +66,7 @@ public final class MySQLComStmtPrepareExecutor implements CommandExecutor {
         }
         int parameterCount = sqlStatement.getParameterCount();
         int projectionCount = getProjectionCount(sqlStatement);
-        int statementId = PREPARED_STATEMENT_REGISTRY.register(packet.getSql(), parameterCount);
+        int statementId = PREPARED_STATEMENT_REGISTRY.register(backendConnection.getConnectionId(), packet.getSql(), parameterCount);
         return createPackets(statementId, projectionCount, parameterCount);
     }
     
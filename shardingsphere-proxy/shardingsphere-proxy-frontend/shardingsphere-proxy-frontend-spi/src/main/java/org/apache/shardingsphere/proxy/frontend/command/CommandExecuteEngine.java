@@ -92,4 +92,17 @@ public interface CommandExecuteEngine {
      * @throws SQLException SQL exception
      */
     boolean writeQueryData(ChannelHandlerContext context, BackendConnection backendConnection, QueryCommandExecutor queryCommandExecutor, int headerPackagesCount) throws SQLException;
+    
+    /**
+     * Get query data writer, which suspends writing instead of blocking when channel is unwritable.
+     *
+     * @param context channel handler context
+     * @param backendConnection backend connection
+     * @param queryCommandExecutor query command executor
+     * @param headerPackagesCount count of header packages
+     * @return query data writer, empty means query data should be written by {@link #writeQueryData}
+     */
+    default Optional<QueryDataWriter> getQueryDataWriter(ChannelHandlerContext context, BackendConnection backendConnection, QueryCommandExecutor queryCommandExecutor, int headerPackagesCount) {
+        return Optional.empty();
+    }
 }
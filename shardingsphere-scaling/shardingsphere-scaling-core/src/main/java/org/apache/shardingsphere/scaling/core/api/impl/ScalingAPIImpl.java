@@ -29,6 +29,7 @@ import org.apache.shardingsphere.scaling.core.config.JobConfiguration;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
 import org.apache.shardingsphere.scaling.core.job.ScalingJob;
 import org.apache.shardingsphere.scaling.core.job.check.EnvironmentCheckerFactory;
+import org.apache.shardingsphere.scaling.core.job.check.consistency.DataCheckResult;
 import org.apache.shardingsphere.scaling.core.job.check.consistency.DataConsistencyCheckResult;
 import org.apache.shardingsphere.scaling.core.job.check.consistency.DataConsistencyChecker;
 import org.apache.shardingsphere.scaling.core.job.environment.ScalingEnvironmentManager;
@@ -128,8 +129,13 @@ public final class ScalingAPIImpl implements ScalingAPI {
         DataConsistencyChecker dataConsistencyChecker = EnvironmentCheckerFactory.newInstance(new JobContext(getJobConfig(jobId)));
         Map<String, DataConsistencyCheckResult> result = dataConsistencyChecker.countCheck();
         if (result.values().stream().allMatch(DataConsistencyCheckResult::isCountValid)) {
-            Map<String, Boolean> dataCheckResult = dataConsistencyChecker.dataCheck();
-            result.forEach((key, value) -> value.setDataValid(dataCheckResult.getOrDefault(key, false)));
+            Map<String, DataCheckResult> dataCheckResult = dataConsistencyChecker.dataCheck();
+            result.forEach((key, value) -> {
+                if (dataCheckResult.containsKey(key)) {
+                    value.setDataValid(dataCheckResult.get(key).isDataValid());
+                    value.setInconsistentPrimaryKeys(dataCheckResult.get(key).getInconsistentPrimaryKeys());
+                }
+            });
         }
         log.info("Scaling job {} data consistency checker result {}", jobId, result);
         return result;
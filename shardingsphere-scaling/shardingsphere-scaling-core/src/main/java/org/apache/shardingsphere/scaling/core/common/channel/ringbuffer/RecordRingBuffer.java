@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.common.channel.ringbuffer;
+
+import org.apache.shardingsphere.scaling.core.common.record.Record;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single producer single consumer record ring buffer.
+ * 
+ * <p>
+ * Slot is written by producer, fetched and acknowledged by consumer, then released after acknowledged records are reported.
+ * All indexes increase monotonically, and each of them is written by only one thread.
+ * </p>
+ */
+public final class RecordRingBuffer {
+    
+    private final Record[] records;
+    
+    private final long[] sequences;
+    
+    private final int mask;
+    
+    private final boolean autoAcknowledge;
+    
+    private final AtomicLong publishedIndex = new AtomicLong();
+    
+    private final AtomicLong acknowledgedIndex = new AtomicLong();
+    
+    private final AtomicLong releasedIndex = new AtomicLong();
+    
+    private long fetchedIndex;
+    
+    public RecordRingBuffer(final int capacity, final boolean autoAcknowledge) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        records = new Record[size];
+        sequences = new long[size];
+        mask = size - 1;
+        this.autoAcknowledge = autoAcknowledge;
+    }
+    
+    /**
+     * Offer record, only called by producer.
+     *
+     * @param record record
+     * @param sequence sequence of record in channel
+     * @return offered or not, false if ring buffer is full
+     */
+    public boolean offer(final Record record, final long sequence) {
+        long index = publishedIndex.get();
+        if (index - releasedIndex.get() >= records.length) {
+            return false;
+        }
+        int slot = (int) index & mask;
+        records[slot] = record;
+        sequences[slot] = sequence;
+        publishedIndex.lazySet(index + 1);
+        return true;
+    }
+    
+    /**
+     * Get published but not fetched record count, only called by consumer.
+     *
+     * @return available record count
+     */
+    public int available() {
+        return (int) (publishedIndex.get() - fetchedIndex);
+    }
+    
+    /**
+     * Fetch records, only called by consumer.
+     *
+     * @param result records to add to
+     * @param maxSize max size of fetched records
+     */
+    public void fetch(final List<Record> result, final int maxSize) {
+        long endIndex = Math.min(publishedIndex.get(), fetchedIndex + maxSize);
+        for (long i = fetchedIndex; i < endIndex; i++) {
+            result.add(records[(int) i & mask]);
+        }
+        fetchedIndex = endIndex;
+    }
+    
+    /**
+     * Acknowledge all fetched records, only called by consumer.
+     */
+    public void ack() {
+        acknowledgedIndex.lazySet(fetchedIndex);
+    }
+    
+    /**
+     * Get minimum sequence of published but not acknowledged records.
+     *
+     * @return minimum sequence, {@code Long.MAX_VALUE} if all published records are acknowledged
+     */
+    public long getMinUnacknowledgedSequence() {
+        if (autoAcknowledge) {
+            return Long.MAX_VALUE;
+        }
+        long index = acknowledgedIndex.get();
+        return index < publishedIndex.get() ? sequences[(int) index & mask] : Long.MAX_VALUE;
+    }
+    
+    /**
+     * Get sequence of the earliest acknowledged but not released record, only called by releaser.
+     *
+     * @return sequence, {@code Long.MAX_VALUE} if there is no releasable record
+     */
+    public long peekReleasableSequence() {
+        long index = releasedIndex.get();
+        long endIndex = autoAcknowledge ? publishedIndex.get() : acknowledgedIndex.get();
+        return index < endIndex ? sequences[(int) index & mask] : Long.MAX_VALUE;
+    }
+    
+    /**
+     * Release the earliest acknowledged record, only called by releaser.
+     *
+     * @return released record
+     */
+    public Record release() {
+        long index = releasedIndex.get();
+        int slot = (int) index & mask;
+        Record result = records[slot];
+        records[slot] = null;
+        releasedIndex.lazySet(index + 1);
+        return result;
+    }
+}
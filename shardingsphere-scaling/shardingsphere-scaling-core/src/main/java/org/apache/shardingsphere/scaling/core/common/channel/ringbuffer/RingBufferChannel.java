@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.common.channel.ringbuffer;
+
+import org.apache.shardingsphere.scaling.core.common.channel.AckCallback;
+import org.apache.shardingsphere.scaling.core.common.channel.Channel;
+import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
+import org.apache.shardingsphere.scaling.core.common.record.FinishedRecord;
+import org.apache.shardingsphere.scaling.core.common.record.PlaceholderRecord;
+import org.apache.shardingsphere.scaling.core.common.record.Record;
+import org.apache.shardingsphere.scaling.core.config.ScalingContext;
+import org.apache.shardingsphere.scaling.core.util.ThreadUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Ring buffer channel.
+ * 
+ * <p>
+ * Records are dispatched to one single producer single consumer ring buffer per consumer thread, placeholder records are acknowledged automatically.
+ * Every record has a sequence, acknowledged records are reported in sequence order up to the minimum unacknowledged sequence of all ring buffers.
+ * </p>
+ */
+public final class RingBufferChannel implements Channel {
+    
+    private static final long PARK_NANOS = 100_000L;
+    
+    private final RecordRingBuffer[] ringBuffers;
+    
+    private final RecordRingBuffer autoAcknowledgeRingBuffer;
+    
+    private final RecordRingBuffer[] allRingBuffers;
+    
+    private final AckCallback ackCallback;
+    
+    private final AtomicLong publishedSequence = new AtomicLong();
+    
+    private final AtomicInteger assignedCount = new AtomicInteger();
+    
+    private final ThreadLocal<RecordRingBuffer> assignedRingBuffer = ThreadLocal.withInitial(this::assignRingBuffer);
+    
+    private final ReentrantLock releaseLock = new ReentrantLock();
+    
+    private volatile boolean closed;
+    
+    public RingBufferChannel(final int channelNumber, final AckCallback ackCallback) {
+        this(channelNumber, ScalingContext.getInstance().getServerConfig().getBlockQueueSize(), ackCallback);
+    }
+    
+    public RingBufferChannel(final int channelNumber, final int capacity, final AckCallback ackCallback) {
+        ringBuffers = new RecordRingBuffer[channelNumber];
+        allRingBuffers = new RecordRingBuffer[channelNumber + 1];
+        for (int i = 0; i < channelNumber; i++) {
+            ringBuffers[i] = new RecordRingBuffer(capacity, false);
+            allRingBuffers[i] = ringBuffers[i];
+        }
+        autoAcknowledgeRingBuffer = new RecordRingBuffer(capacity, true);
+        allRingBuffers[channelNumber] = autoAcknowledgeRingBuffer;
+        this.ackCallback = ackCallback;
+    }
+    
+    @Override
+    public void pushRecord(final Record record) throws InterruptedException {
+        if (FinishedRecord.class.equals(record.getClass())) {
+            for (RecordRingBuffer each : ringBuffers) {
+                pushRecord(each, record);
+            }
+        } else if (DataRecord.class.equals(record.getClass())) {
+            pushRecord(ringBuffers[Math.abs(record.hashCode() % ringBuffers.length)], record);
+        } else if (PlaceholderRecord.class.equals(record.getClass())) {
+            pushRecord(autoAcknowledgeRingBuffer, record);
+        } else {
+            throw new UnsupportedOperationException(String.format("Not support record type %s", record.getClass().getName()));
+        }
+    }
+    
+    private void pushRecord(final RecordRingBuffer ringBuffer, final Record record) throws InterruptedException {
+        long sequence = publishedSequence.get();
+        while (!ringBuffer.offer(record, sequence)) {
+            if (closed) {
+                return;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            releaseAcknowledgedRecords();
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+        publishedSequence.lazySet(sequence + 1);
+    }
+    
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final int timeout) {
+        RecordRingBuffer ringBuffer = assignedRingBuffer.get();
+        long start = System.currentTimeMillis();
+        while (batchSize > ringBuffer.available() && timeout * 1000L > System.currentTimeMillis() - start) {
+            ThreadUtil.sleep(10L);
+        }
+        List<Record> result = new ArrayList<>(Math.min(batchSize, ringBuffer.available()));
+        ringBuffer.fetch(result, batchSize);
+        return result;
+    }
+    
+    @Override
+    public void ack() {
+        assignedRingBuffer.get().ack();
+        releaseAcknowledgedRecords();
+    }
+    
+    private RecordRingBuffer assignRingBuffer() {
+        int index = assignedCount.getAndIncrement();
+        if (index >= ringBuffers.length) {
+            throw new IllegalStateException(String.format("All %d ring buffers have been assigned", ringBuffers.length));
+        }
+        return ringBuffers[index];
+    }
+    
+    private void releaseAcknowledgedRecords() {
+        if (!releaseLock.tryLock()) {
+            return;
+        }
+        try {
+            releaseAcknowledgedRecords0();
+        } finally {
+            releaseLock.unlock();
+        }
+    }
+    
+    private void releaseAcknowledgedRecords0() {
+        List<Record> records = releaseRecordsBefore(getWatermark());
+        if (!records.isEmpty()) {
+            ackCallback.onAck(records);
+        }
+    }
+    
+    private long getWatermark() {
+        long result = publishedSequence.get();
+        for (RecordRingBuffer each : ringBuffers) {
+            result = Math.min(result, each.getMinUnacknowledgedSequence());
+        }
+        return result;
+    }
+    
+    private List<Record> releaseRecordsBefore(final long watermark) {
+        List<Record> result = new ArrayList<>();
+        while (true) {
+            RecordRingBuffer next = null;
+            long nextSequence = watermark;
+            for (RecordRingBuffer each : allRingBuffers) {
+                long sequence = each.peekReleasableSequence();
+                if (sequence < nextSequence) {
+                    nextSequence = sequence;
+                    next = each;
+                }
+            }
+            if (null == next) {
+                return result;
+            }
+            result.add(next.release());
+        }
+    }
+    
+    @Override
+    public void close() {
+        closed = true;
+        releaseLock.lock();
+        try {
+            releaseAcknowledgedRecords0();
+        } finally {
+            releaseLock.unlock();
+        }
+    }
+}
@@ -78,4 +78,25 @@ public final class RecordUtil {
         }
         return result;
     }
+    
+    /**
+     * Estimate size of column values in data record.
+     *
+     * @param dataRecord data record
+     * @return estimated size in bytes
+     */
+    public static long estimateSize(final DataRecord dataRecord) {
+        long result = 0;
+        for (Column each : dataRecord.getColumns()) {
+            Object value = each.getValue();
+            if (value instanceof CharSequence) {
+                result += ((CharSequence) value).length();
+            } else if (value instanceof byte[]) {
+                result += ((byte[]) value).length;
+            } else if (null != value) {
+                result += Long.BYTES;
+            }
+        }
+        return result;
+    }
 }
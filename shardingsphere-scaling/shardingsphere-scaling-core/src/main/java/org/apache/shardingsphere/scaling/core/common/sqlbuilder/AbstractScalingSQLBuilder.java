@@ -25,6 +25,7 @@ import org.apache.shardingsphere.scaling.core.common.record.Column;
 import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -74,6 +75,21 @@ public abstract class AbstractScalingSQLBuilder implements ScalingSQLBuilder {
     
     @Override
     public String buildInsertSQL(final DataRecord dataRecord) {
+        return getInsertSQL(dataRecord);
+    }
+    
+    @Override
+    public String buildBatchInsertSQL(final DataRecord dataRecord, final int rowCount) {
+        String insertSQL = getInsertSQL(dataRecord);
+        String rowHolder = String.format("(%s)", String.join(",", Collections.nCopies(dataRecord.getColumnCount(), "?")));
+        StringBuilder result = new StringBuilder(insertSQL.length() + rowHolder.length() * rowCount).append(insertSQL);
+        for (int i = 1; i < rowCount; i++) {
+            result.append(',').append(rowHolder);
+        }
+        return result.toString();
+    }
+    
+    private String getInsertSQL(final DataRecord dataRecord) {
         String sqlCacheKey = INSERT_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName();
         if (!sqlCacheMap.containsKey(sqlCacheKey)) {
             sqlCacheMap.put(sqlCacheKey, buildInsertSQLInternal(dataRecord.getTableName(), dataRecord.getColumns()));
@@ -154,6 +170,21 @@ public abstract class AbstractScalingSQLBuilder implements ScalingSQLBuilder {
     
     @Override
     public String buildSplitByPrimaryKeyRangeSQL(final String tableName, final String primaryKey) {
-        return String.format("SELECT MAX(%s) FROM (SELECT %s FROM %s WHERE %s>=? limit ?) t", quote(primaryKey), quote(primaryKey), quote(tableName), quote(primaryKey));
+        return String.format("SELECT MAX(%s) FROM (SELECT %s FROM %s WHERE %s>=? ORDER BY %s LIMIT ?) t",
+                quote(primaryKey), quote(primaryKey), quote(tableName), quote(primaryKey), quote(primaryKey));
+    }
+    
+    @Override
+    public String buildSplitByOrderablePrimaryKeyRangeSQL(final String tableName, final String primaryKey, final boolean firstQuery) {
+        return String.format("SELECT %s FROM %s%s ORDER BY %s LIMIT 1 OFFSET ?", quote(primaryKey), quote(tableName), buildBeginWhereSQL(primaryKey, firstQuery), quote(primaryKey));
+    }
+    
+    @Override
+    public String buildSelectLastOrderablePrimaryKeySQL(final String tableName, final String primaryKey, final boolean firstQuery) {
+        return String.format("SELECT %s FROM %s%s ORDER BY %s DESC LIMIT 1", quote(primaryKey), quote(tableName), buildBeginWhereSQL(primaryKey, firstQuery), quote(primaryKey));
+    }
+    
+    private String buildBeginWhereSQL(final String primaryKey, final boolean firstQuery) {
+        return firstQuery ? "" : String.format(" WHERE %s>?", quote(primaryKey));
     }
 }
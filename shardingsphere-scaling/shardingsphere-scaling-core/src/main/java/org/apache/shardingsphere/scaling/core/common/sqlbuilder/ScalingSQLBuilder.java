@@ -35,6 +35,15 @@ public interface ScalingSQLBuilder {
      */
     String buildInsertSQL(DataRecord dataRecord);
     
+    /**
+     * Build batch insert SQL, which inserts multiple rows in one statement.
+     *
+     * @param dataRecord data record
+     * @param rowCount row count
+     * @return batch insert SQL
+     */
+    String buildBatchInsertSQL(DataRecord dataRecord, int rowCount);
+    
     /**
      * Build update SQL.
      *
@@ -85,4 +94,24 @@ public interface ScalingSQLBuilder {
      * @return split SQL
      */
     String buildSplitByPrimaryKeyRangeSQL(String tableName, String primaryKey);
+    
+    /**
+     * Build split by orderable primary key range SQL, which selects the primary key at given offset after begin value.
+     *
+     * @param tableName table name
+     * @param primaryKey primary key
+     * @param firstQuery whether is first query, which has no begin value
+     * @return split SQL
+     */
+    String buildSplitByOrderablePrimaryKeyRangeSQL(String tableName, String primaryKey, boolean firstQuery);
+    
+    /**
+     * Build select last orderable primary key SQL, which selects the greatest primary key after begin value.
+     *
+     * @param tableName table name
+     * @param primaryKey primary key
+     * @param firstQuery whether is first query, which has no begin value
+     * @return select last primary key SQL
+     */
+    String buildSelectLastOrderablePrimaryKeySQL(String tableName, String primaryKey, boolean firstQuery);
 }
@@ -43,6 +43,10 @@ public final class HandleConfiguration {
     
     private int shardingSize = 1000 * 10000;
     
+    private int dataCheckChunkSize = 10000;
+    
+    private int dataCheckMaxQPS = 100;
+    
     private boolean running = true;
     
     private String databaseType;
@@ -31,10 +31,12 @@ import org.apache.shardingsphere.scaling.core.common.record.Column;
 import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.common.record.FinishedRecord;
 import org.apache.shardingsphere.scaling.core.common.record.Record;
+import org.apache.shardingsphere.scaling.core.common.record.RecordUtil;
 import org.apache.shardingsphere.scaling.core.config.InventoryDumperConfiguration;
 import org.apache.shardingsphere.scaling.core.config.datasource.StandardJDBCDataSourceConfiguration;
 import org.apache.shardingsphere.scaling.core.executor.AbstractScalingExecutor;
 import org.apache.shardingsphere.scaling.core.job.position.FinishedPosition;
+import org.apache.shardingsphere.scaling.core.job.position.OrderablePrimaryKeyPosition;
 import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
 import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
 import org.apache.shardingsphere.scaling.core.job.position.ScalingPosition;
@@ -44,6 +46,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.Objects;
 
 /**
  * Abstract JDBC dumper implement.
@@ -83,18 +86,13 @@ public abstract class AbstractInventoryDumper extends AbstractScalingExecutor im
     
     private void dump() {
         try (Connection conn = dataSourceManager.getDataSource(inventoryDumperConfig.getDataSourceConfig()).getConnection()) {
-            String sql = String.format("SELECT * FROM %s %s", inventoryDumperConfig.getTableName(), getWhereCondition(inventoryDumperConfig.getPrimaryKey(), inventoryDumperConfig.getPosition()));
-            PreparedStatement ps = createPreparedStatement(conn, sql);
-            ResultSet rs = ps.executeQuery();
-            ResultSetMetaData metaData = rs.getMetaData();
-            while (isRunning() && rs.next()) {
-                DataRecord record = new DataRecord(newPosition(rs), metaData.getColumnCount());
-                record.setType(ScalingConstant.INSERT);
-                record.setTableName(inventoryDumperConfig.getTableNameMap().get(inventoryDumperConfig.getTableName()));
-                for (int i = 1; i <= metaData.getColumnCount(); i++) {
-                    record.addColumn(new Column(metaData.getColumnName(i), readValue(rs, i), true, tableMetaData.isPrimaryKey(i - 1)));
-                }
-                pushRecord(record);
+            ScalingPosition<?> position = inventoryDumperConfig.getPosition();
+            if (null != inventoryDumperConfig.getPrimaryKey() && position instanceof PrimaryKeyPosition) {
+                dumpByPrimaryKey(conn, (PrimaryKeyPosition) position);
+            } else if (null != inventoryDumperConfig.getPrimaryKey() && position instanceof OrderablePrimaryKeyPosition) {
+                dumpByOrderablePrimaryKey(conn, (OrderablePrimaryKeyPosition) position);
+            } else {
+                dumpAll(conn);
             }
             pushRecord(new FinishedRecord(new FinishedPosition()));
         } catch (final SQLException ex) {
@@ -106,19 +104,111 @@ public abstract class AbstractInventoryDumper extends AbstractScalingExecutor im
         }
     }
     
-    private String getWhereCondition(final String primaryKey, final ScalingPosition<?> position) {
-        if (null == primaryKey || null == position) {
-            return "";
+    private void dumpAll(final Connection conn) throws SQLException {
+        try (PreparedStatement ps = createPreparedStatement(conn, String.format("SELECT * FROM %s", inventoryDumperConfig.getTableName()));
+             ResultSet rs = ps.executeQuery()) {
+            ResultSetMetaData metaData = rs.getMetaData();
+            while (isRunning() && rs.next()) {
+                pushRecord(createDataRecord(rs, metaData, new PlaceholderPosition()));
+            }
         }
-        PrimaryKeyPosition primaryKeyPosition = (PrimaryKeyPosition) position;
-        return String.format("WHERE %s BETWEEN %d AND %d", primaryKey, primaryKeyPosition.getBeginValue(), primaryKeyPosition.getEndValue());
     }
     
-    private ScalingPosition<?> newPosition(final ResultSet rs) throws SQLException {
-        if (null == inventoryDumperConfig.getPrimaryKey()) {
-            return new PlaceholderPosition();
+    private void dumpByPrimaryKey(final Connection conn, final PrimaryKeyPosition position) throws SQLException {
+        String primaryKey = inventoryDumperConfig.getPrimaryKey();
+        boolean paging = !isCompositePrimaryKey();
+        String sql = String.format("SELECT * FROM %s WHERE %s >= ? AND %s <= ? ORDER BY %s%s", inventoryDumperConfig.getTableName(), primaryKey, primaryKey, primaryKey, paging ? " LIMIT ?" : "");
+        InventoryChunkSizeCalculator chunkSizeCalculator = new InventoryChunkSizeCalculator();
+        long beginValue = position.getBeginValue();
+        try (PreparedStatement ps = createPreparedStatement(conn, sql)) {
+            while (isRunning()) {
+                int chunkSize = chunkSizeCalculator.getChunkSize();
+                ps.setLong(1, beginValue);
+                ps.setLong(2, position.getEndValue());
+                if (paging) {
+                    ps.setInt(3, chunkSize);
+                }
+                long startNanos = System.nanoTime();
+                int rows = 0;
+                long bytes = 0;
+                try (ResultSet rs = ps.executeQuery()) {
+                    ResultSetMetaData metaData = rs.getMetaData();
+                    while (isRunning() && rs.next()) {
+                        long primaryKeyValue = rs.getLong(primaryKey);
+                        DataRecord record = createDataRecord(rs, metaData, new PrimaryKeyPosition(primaryKeyValue, position.getEndValue()));
+                        rows++;
+                        bytes += RecordUtil.estimateSize(record);
+                        beginValue = primaryKeyValue + 1;
+                        pushRecord(record);
+                    }
+                }
+                if (!paging || rows < chunkSize) {
+                    return;
+                }
+                chunkSizeCalculator.update(rows, bytes, System.nanoTime() - startNanos);
+            }
+        }
+    }
+    
+    private void dumpByOrderablePrimaryKey(final Connection conn, final OrderablePrimaryKeyPosition position) throws SQLException {
+        String primaryKey = inventoryDumperConfig.getPrimaryKey();
+        boolean paging = !isCompositePrimaryKey();
+        InventoryChunkSizeCalculator chunkSizeCalculator = new InventoryChunkSizeCalculator();
+        Object beginValue = position.getBeginValue();
+        Object resumeValue = beginValue;
+        Object currentValue = beginValue;
+        while (isRunning() && null != position.getEndValue()) {
+            int chunkSize = chunkSizeCalculator.getChunkSize();
+            String sql = String.format("SELECT * FROM %s WHERE %s%s <= ? ORDER BY %s%s",
+                    inventoryDumperConfig.getTableName(), null == beginValue ? "" : primaryKey + " > ? AND ", primaryKey, primaryKey, paging ? " LIMIT ?" : "");
+            long startNanos = System.nanoTime();
+            int rows = 0;
+            long bytes = 0;
+            try (PreparedStatement ps = createPreparedStatement(conn, sql)) {
+                int parameterIndex = 1;
+                if (null != beginValue) {
+                    ps.setObject(parameterIndex++, beginValue);
+                }
+                ps.setObject(parameterIndex++, position.getEndValue());
+                if (paging) {
+                    ps.setInt(parameterIndex, chunkSize);
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    ResultSetMetaData metaData = rs.getMetaData();
+                    while (isRunning() && rs.next()) {
+                        Object primaryKeyValue = rs.getObject(primaryKey);
+                        if (!paging && !Objects.deepEquals(currentValue, primaryKeyValue)) {
+                            resumeValue = currentValue;
+                            currentValue = primaryKeyValue;
+                        }
+                        DataRecord record = createDataRecord(rs, metaData, new OrderablePrimaryKeyPosition(paging ? primaryKeyValue : resumeValue, position.getEndValue()));
+                        rows++;
+                        bytes += RecordUtil.estimateSize(record);
+                        beginValue = primaryKeyValue;
+                        pushRecord(record);
+                    }
+                }
+            }
+            if (!paging || rows < chunkSize) {
+                return;
+            }
+            chunkSizeCalculator.update(rows, bytes, System.nanoTime() - startNanos);
+        }
+    }
+    
+    // Ranges of composite primary key are split on the leading column, which is not unique, so each range is dumped by one streaming query and resumes from the previous leading value.
+    private boolean isCompositePrimaryKey() {
+        return tableMetaData.getPrimaryKeyColumns().size() > 1;
+    }
+    
+    private DataRecord createDataRecord(final ResultSet rs, final ResultSetMetaData metaData, final ScalingPosition<?> position) throws SQLException {
+        DataRecord result = new DataRecord(position, metaData.getColumnCount());
+        result.setType(ScalingConstant.INSERT);
+        result.setTableName(inventoryDumperConfig.getTableNameMap().get(inventoryDumperConfig.getTableName()));
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            result.addColumn(new Column(metaData.getColumnName(i), readValue(rs, i), true, tableMetaData.isPrimaryKey(i - 1)));
         }
-        return new PrimaryKeyPosition(rs.getLong(inventoryDumperConfig.getPrimaryKey()), ((PrimaryKeyPosition) inventoryDumperConfig.getPosition()).getEndValue());
+        return result;
     }
     
     protected abstract PreparedStatement createPreparedStatement(Connection connection, String sql) throws SQLException;
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.executor.dumper;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chunk size calculator of inventory dumper, which tunes rows of next chunk by observed rows per second and bytes per row.
+ */
+public final class InventoryChunkSizeCalculator {
+    
+    private static final int INITIAL_CHUNK_SIZE = 1000;
+    
+    private static final int MIN_CHUNK_SIZE = 100;
+    
+    private static final int MAX_CHUNK_SIZE = 100000;
+    
+    private static final long TARGET_CHUNK_NANOS = TimeUnit.SECONDS.toNanos(1);
+    
+    private static final long TARGET_CHUNK_BYTES = 16 * 1024 * 1024;
+    
+    @Getter
+    private int chunkSize = INITIAL_CHUNK_SIZE;
+    
+    /**
+     * Update chunk size by statistics of last chunk.
+     *
+     * @param rows rows of last chunk
+     * @param bytes estimated bytes of last chunk
+     * @param elapsedNanos elapsed nanoseconds of last chunk
+     */
+    public void update(final int rows, final long bytes, final long elapsedNanos) {
+        if (rows <= 0 || elapsedNanos <= 0) {
+            return;
+        }
+        long result = Math.min(rows * TARGET_CHUNK_NANOS / elapsedNanos, chunkSize * 2L);
+        if (bytes > 0) {
+            result = Math.min(result, rows * TARGET_CHUNK_BYTES / bytes);
+        }
+        chunkSize = (int) Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, result));
+    }
+}
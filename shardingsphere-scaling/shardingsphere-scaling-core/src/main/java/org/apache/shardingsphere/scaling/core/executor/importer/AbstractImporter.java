@@ -52,6 +52,10 @@ public abstract class AbstractImporter extends AbstractScalingExecutor implement
     
     private static final DataRecordMerger MERGER = new DataRecordMerger();
     
+    private static final int BATCH_INSERT_MAX_PARAMETERS = 32767;
+    
+    private static final long BATCH_INSERT_MAX_BYTES = 1024 * 1024;
+    
     private final ImporterConfiguration importerConfig;
     
     private final DataSourceManager dataSourceManager;
@@ -155,16 +159,39 @@ public abstract class AbstractImporter extends AbstractScalingExecutor implement
     }
     
     private void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
-        String insertSql = scalingSqlBuilder.buildInsertSQL(dataRecords.get(0));
+        int fromIndex = 0;
+        while (fromIndex < dataRecords.size()) {
+            int toIndex = getBatchInsertEndIndex(dataRecords, fromIndex);
+            executeMultiRowInsert(connection, dataRecords.subList(fromIndex, toIndex));
+            fromIndex = toIndex;
+        }
+    }
+    
+    private int getBatchInsertEndIndex(final List<DataRecord> dataRecords, final int fromIndex) {
+        int maxRowCount = Math.max(1, BATCH_INSERT_MAX_PARAMETERS / dataRecords.get(fromIndex).getColumnCount());
+        long bytes = RecordUtil.estimateSize(dataRecords.get(fromIndex));
+        int result = fromIndex + 1;
+        while (result < dataRecords.size() && result - fromIndex < maxRowCount) {
+            bytes += RecordUtil.estimateSize(dataRecords.get(result));
+            if (bytes > BATCH_INSERT_MAX_BYTES) {
+                break;
+            }
+            result++;
+        }
+        return result;
+    }
+    
+    private void executeMultiRowInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        String insertSql = scalingSqlBuilder.buildBatchInsertSQL(dataRecords.get(0), dataRecords.size());
         try (PreparedStatement ps = connection.prepareStatement(insertSql)) {
             ps.setQueryTimeout(30);
+            int parameterIndex = 1;
             for (DataRecord each : dataRecords) {
                 for (int i = 0; i < each.getColumnCount(); i++) {
-                    ps.setObject(i + 1, each.getColumn(i).getValue());
+                    ps.setObject(parameterIndex++, each.getColumn(i).getValue());
                 }
-                ps.addBatch();
             }
-            ps.executeBatch();
+            ps.executeUpdate();
         }
     }
     
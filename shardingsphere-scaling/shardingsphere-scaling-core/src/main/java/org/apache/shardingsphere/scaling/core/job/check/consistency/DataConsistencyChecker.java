@@ -34,7 +34,7 @@ public interface DataConsistencyChecker {
     /**
      * Check each table data is valid.
      *
-     * @return data is valid or not
+     * @return data check result
      */
-    Map<String, Boolean> dataCheck();
+    Map<String, DataCheckResult> dataCheck();
 }
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.job.position;
+
+import com.google.common.base.Preconditions;
+import com.google.common.io.BaseEncoding;
+import com.google.common.primitives.UnsignedBytes;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * Use orderable primary key, such as string, binary, uuid, decimal or temporal key, as position.
+ * 
+ * <p>Begin value is exclusive and null means unbounded, end value is inclusive and null means empty range.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class OrderablePrimaryKeyPosition implements ScalingPosition<OrderablePrimaryKeyPosition> {
+    
+    private static final String PREFIX = "o,";
+    
+    private final Object beginValue;
+    
+    private final Object endValue;
+    
+    /**
+     * Judge whether string data is orderable primary key position.
+     *
+     * @param data string data
+     * @return is orderable primary key position or not
+     */
+    public static boolean isOrderablePrimaryKeyPosition(final String data) {
+        return data.startsWith(PREFIX);
+    }
+    
+    /**
+     * Judge whether primary key value can be kept in orderable primary key position.
+     *
+     * @param value primary key value
+     * @return supported or not
+     */
+    public static boolean isSupportedValue(final Object value) {
+        return value instanceof String || value instanceof byte[] || value instanceof UUID || value instanceof BigDecimal
+                || value instanceof Timestamp || value instanceof Date || value instanceof LocalDateTime || value instanceof LocalDate;
+    }
+    
+    /**
+     * Init by string data.
+     *
+     * @param data string data
+     * @return orderable primary key position
+     */
+    public static OrderablePrimaryKeyPosition init(final String data) {
+        Preconditions.checkArgument(isOrderablePrimaryKeyPosition(data), "Unknown orderable primary key position: " + data);
+        int lengthEndIndex = data.indexOf(',', PREFIX.length());
+        Preconditions.checkArgument(lengthEndIndex > 0, "Unknown orderable primary key position: " + data);
+        int beginLength = Integer.parseInt(data.substring(PREFIX.length(), lengthEndIndex));
+        String values = data.substring(lengthEndIndex + 1);
+        return new OrderablePrimaryKeyPosition(decode(values.substring(0, beginLength)), decode(values.substring(beginLength)));
+    }
+    
+    private static String encode(final Object value) {
+        if (null == value) {
+            return "n";
+        }
+        if (value instanceof String) {
+            return "s" + value;
+        }
+        if (value instanceof byte[]) {
+            return "b" + BaseEncoding.base16().encode((byte[]) value);
+        }
+        if (value instanceof UUID) {
+            return "u" + value;
+        }
+        if (value instanceof BigDecimal) {
+            return "d" + value;
+        }
+        if (value instanceof Timestamp) {
+            Timestamp timestamp = (Timestamp) value;
+            return "t" + timestamp.getTime() + "." + timestamp.getNanos();
+        }
+        if (value instanceof Date) {
+            return "a" + value;
+        }
+        if (value instanceof LocalDateTime) {
+            return "T" + value;
+        }
+        if (value instanceof LocalDate) {
+            return "A" + value;
+        }
+        throw new UnsupportedOperationException(String.format("Unsupported orderable primary key value type: %s", value.getClass().getName()));
+    }
+    
+    private static Object decode(final String data) {
+        Preconditions.checkArgument(!data.isEmpty(), "Unknown orderable primary key value: " + data);
+        String value = data.substring(1);
+        switch (data.charAt(0)) {
+            case 'n':
+                return null;
+            case 's':
+                return value;
+            case 'b':
+                return BaseEncoding.base16().decode(value);
+            case 'u':
+                return UUID.fromString(value);
+            case 'd':
+                return new BigDecimal(value);
+            case 't':
+                return decodeTimestamp(value);
+            case 'a':
+                return Date.valueOf(value);
+            case 'T':
+                return LocalDateTime.parse(value);
+            case 'A':
+                return LocalDate.parse(value);
+            default:
+                throw new IllegalArgumentException("Unknown orderable primary key value: " + data);
+        }
+    }
+    
+    private static Timestamp decodeTimestamp(final String value) {
+        int nanosIndex = value.indexOf('.');
+        Preconditions.checkArgument(nanosIndex > 0, "Unknown orderable primary key value: t" + value);
+        Timestamp result = new Timestamp(Long.parseLong(value.substring(0, nanosIndex)));
+        result.setNanos(Integer.parseInt(value.substring(nanosIndex + 1)));
+        return result;
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareValue(final Object value1, final Object value2) {
+        if (value1 instanceof byte[] && value2 instanceof byte[]) {
+            return UnsignedBytes.lexicographicalComparator().compare((byte[]) value1, (byte[]) value2);
+        }
+        if (value1 instanceof UUID && value2 instanceof UUID) {
+            return value1.toString().compareTo(value2.toString());
+        }
+        return ((Comparable) value1).compareTo(value2);
+    }
+    
+    @Override
+    public int compareTo(final OrderablePrimaryKeyPosition position) {
+        if (null == position) {
+            return 1;
+        }
+        return Comparator.nullsFirst(OrderablePrimaryKeyPosition::compareValue).compare(beginValue, position.beginValue);
+    }
+    
+    @Override
+    public String toString() {
+        String begin = encode(beginValue);
+        return String.format("%s%d,%s%s", PREFIX, begin.length(), begin, encode(endValue));
+    }
+}
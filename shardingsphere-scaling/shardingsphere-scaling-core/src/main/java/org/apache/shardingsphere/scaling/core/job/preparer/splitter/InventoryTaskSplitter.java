@@ -22,11 +22,13 @@ import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManager;
 import org.apache.shardingsphere.scaling.core.common.datasource.MetaDataManager;
 import org.apache.shardingsphere.scaling.core.common.exception.PrepareFailedException;
+import org.apache.shardingsphere.scaling.core.common.sqlbuilder.ScalingSQLBuilder;
 import org.apache.shardingsphere.scaling.core.common.sqlbuilder.ScalingSQLBuilderFactory;
 import org.apache.shardingsphere.scaling.core.config.DumperConfiguration;
 import org.apache.shardingsphere.scaling.core.config.InventoryDumperConfiguration;
 import org.apache.shardingsphere.scaling.core.config.TaskConfiguration;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
+import org.apache.shardingsphere.scaling.core.job.position.OrderablePrimaryKeyPosition;
 import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
 import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
 import org.apache.shardingsphere.scaling.core.job.position.ScalingPosition;
@@ -110,7 +112,7 @@ public final class InventoryTaskSplitter {
         if (null != jobContext.getInitProgress()) {
             Collection<ScalingPosition<?>> result = jobContext.getInitProgress().getInventoryPosition(dumperConfig.getTableName()).values();
             result.stream().findFirst().ifPresent(position -> {
-                if (position instanceof PrimaryKeyPosition) {
+                if (position instanceof PrimaryKeyPosition || position instanceof OrderablePrimaryKeyPosition) {
                     String primaryKey = metaDataManager.getTableMetaData(dumperConfig.getTableName()).getPrimaryKeyColumns().get(0);
                     dumperConfig.setPrimaryKey(primaryKey);
                 }
@@ -118,9 +120,12 @@ public final class InventoryTaskSplitter {
             return result;
         }
         if (isSpiltByPrimaryKeyRange(metaDataManager, dumperConfig.getTableName())) {
-            String primaryKey = metaDataManager.getTableMetaData(dumperConfig.getTableName()).getPrimaryKeyColumns().get(0);
+            TableMetaData tableMetaData = metaDataManager.getTableMetaData(dumperConfig.getTableName());
+            // composite primary key is split on its leading column
+            String primaryKey = tableMetaData.getPrimaryKeyColumns().get(0);
             dumperConfig.setPrimaryKey(primaryKey);
-            return getPositionByPrimaryKeyRange(jobContext, dataSource, dumperConfig);
+            return isNotIntegerPrimary(tableMetaData.getColumnMetaData(tableMetaData.findColumnIndex(primaryKey)).getDataType())
+                    ? getPositionByOrderablePrimaryKeyRange(jobContext, dataSource, dumperConfig) : getPositionByPrimaryKeyRange(jobContext, dataSource, dumperConfig);
         }
         return Collections.singletonList(new PlaceholderPosition());
     }
@@ -136,13 +141,10 @@ public final class InventoryTaskSplitter {
             log.warn("Can't split range for table {}, reason: no primary key", tableName);
             return false;
         }
-        if (primaryKeys.size() > 1) {
-            log.warn("Can't split range for table {}, reason: primary key is union primary", tableName);
-            return false;
-        }
         int index = tableMetaData.findColumnIndex(primaryKeys.get(0));
-        if (isNotIntegerPrimary(tableMetaData.getColumnMetaData(index).getDataType())) {
-            log.warn("Can't split range for table {}, reason: primary key is not integer number", tableName);
+        int dataType = tableMetaData.getColumnMetaData(index).getDataType();
+        if (isNotIntegerPrimary(dataType) && !isOrderablePrimary(dataType)) {
+            log.warn("Can't split range for table {}, reason: primary key is neither integer number nor orderable type", tableName);
             return false;
         }
         return true;
@@ -152,6 +154,27 @@ public final class InventoryTaskSplitter {
         return Types.INTEGER != columnType && Types.BIGINT != columnType && Types.SMALLINT != columnType && Types.TINYINT != columnType;
     }
     
+    private boolean isOrderablePrimary(final int columnType) {
+        switch (columnType) {
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.OTHER:
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+            case Types.DATE:
+            case Types.TIMESTAMP:
+                return true;
+            default:
+                return false;
+        }
+    }
+    
     private Collection<ScalingPosition<?>> getPositionByPrimaryKeyRange(final JobContext jobContext, final DataSource dataSource, final InventoryDumperConfiguration dumperConfig) {
         Collection<ScalingPosition<?>> result = new ArrayList<>();
         String sql = ScalingSQLBuilderFactory.newInstance(jobContext.getJobConfig().getHandleConfig().getDatabaseType())
@@ -181,4 +204,54 @@ public final class InventoryTaskSplitter {
         }
         return result;
     }
+    
+    private Collection<ScalingPosition<?>> getPositionByOrderablePrimaryKeyRange(final JobContext jobContext, final DataSource dataSource, final InventoryDumperConfiguration dumperConfig) {
+        Collection<ScalingPosition<?>> result = new ArrayList<>();
+        ScalingSQLBuilder sqlBuilder = ScalingSQLBuilderFactory.newInstance(jobContext.getJobConfig().getHandleConfig().getDatabaseType());
+        String tableName = dumperConfig.getTableName();
+        String primaryKey = dumperConfig.getPrimaryKey();
+        int shardingSize = jobContext.getJobConfig().getHandleConfig().getShardingSize();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement firstSplitPs = connection.prepareStatement(sqlBuilder.buildSplitByOrderablePrimaryKeyRangeSQL(tableName, primaryKey, true));
+             PreparedStatement splitPs = connection.prepareStatement(sqlBuilder.buildSplitByOrderablePrimaryKeyRangeSQL(tableName, primaryKey, false));
+             PreparedStatement firstLastPs = connection.prepareStatement(sqlBuilder.buildSelectLastOrderablePrimaryKeySQL(tableName, primaryKey, true));
+             PreparedStatement lastPs = connection.prepareStatement(sqlBuilder.buildSelectLastOrderablePrimaryKeySQL(tableName, primaryKey, false))) {
+            Object beginValue = null;
+            while (true) {
+                Object endValue = getSplitEndValue(null == beginValue ? firstSplitPs : splitPs, beginValue, shardingSize - 1);
+                if (null == endValue) {
+                    endValue = getSplitEndValue(null == beginValue ? firstLastPs : lastPs, beginValue, -1);
+                }
+                if (null == endValue) {
+                    break;
+                }
+                if (!OrderablePrimaryKeyPosition.isSupportedValue(endValue)) {
+                    log.warn("Can't split range for table {}, reason: primary key value type {} is not supported", tableName, endValue.getClass().getName());
+                    return Collections.singletonList(new PlaceholderPosition());
+                }
+                result.add(new OrderablePrimaryKeyPosition(beginValue, endValue));
+                beginValue = endValue;
+            }
+            // fix empty table missing inventory task
+            if (0 == result.size()) {
+                result.add(new OrderablePrimaryKeyPosition(null, null));
+            }
+        } catch (final SQLException ex) {
+            throw new PrepareFailedException(String.format("Split task for table %s by primary key %s error", tableName, primaryKey), ex);
+        }
+        return result;
+    }
+    
+    private Object getSplitEndValue(final PreparedStatement ps, final Object beginValue, final int offset) throws SQLException {
+        int parameterIndex = 1;
+        if (null != beginValue) {
+            ps.setObject(parameterIndex++, beginValue);
+        }
+        if (offset >= 0) {
+            ps.setInt(parameterIndex, offset);
+        }
+        try (ResultSet rs = ps.executeQuery()) {
+            return rs.next() ? rs.getObject(1) : null;
+        }
+    }
 }
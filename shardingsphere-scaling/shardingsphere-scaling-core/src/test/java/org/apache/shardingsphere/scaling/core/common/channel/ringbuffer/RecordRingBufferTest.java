@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.common.channel.ringbuffer;
+
+import org.apache.shardingsphere.scaling.core.common.record.PlaceholderRecord;
+import org.apache.shardingsphere.scaling.core.common.record.Record;
+import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RecordRingBufferTest {
+    
+    @Test
+    public void assertOfferUntilReleased() {
+        RecordRingBuffer ringBuffer = new RecordRingBuffer(2, false);
+        assertTrue(ringBuffer.offer(new PlaceholderRecord(new PlaceholderPosition()), 0));
+        assertTrue(ringBuffer.offer(new PlaceholderRecord(new PlaceholderPosition()), 1));
+        assertFalse(ringBuffer.offer(new PlaceholderRecord(new PlaceholderPosition()), 2));
+        List<Record> records = new ArrayList<>();
+        ringBuffer.fetch(records, 1);
+        assertThat(records.size(), is(1));
+        assertThat(ringBuffer.available(), is(1));
+        assertThat(ringBuffer.peekReleasableSequence(), is(Long.MAX_VALUE));
+        assertThat(ringBuffer.getMinUnacknowledgedSequence(), is(0L));
+        ringBuffer.ack();
+        assertThat(ringBuffer.getMinUnacknowledgedSequence(), is(1L));
+        assertThat(ringBuffer.peekReleasableSequence(), is(0L));
+        assertThat(ringBuffer.release(), is(records.get(0)));
+        assertTrue(ringBuffer.offer(new PlaceholderRecord(new PlaceholderPosition()), 2));
+    }
+    
+    @Test
+    public void assertAutoAcknowledge() {
+        RecordRingBuffer ringBuffer = new RecordRingBuffer(4, true);
+        ringBuffer.offer(new PlaceholderRecord(new PlaceholderPosition()), 5);
+        assertThat(ringBuffer.getMinUnacknowledgedSequence(), is(Long.MAX_VALUE));
+        assertThat(ringBuffer.peekReleasableSequence(), is(5L));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.common.channel.ringbuffer;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.scaling.core.common.channel.AckCallback;
+import org.apache.shardingsphere.scaling.core.common.record.Column;
+import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
+import org.apache.shardingsphere.scaling.core.common.record.FinishedRecord;
+import org.apache.shardingsphere.scaling.core.common.record.PlaceholderRecord;
+import org.apache.shardingsphere.scaling.core.common.record.Record;
+import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
+import org.apache.shardingsphere.scaling.core.job.position.ScalingPosition;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RingBufferChannelTest {
+    
+    @Test
+    public void assertAckCallbackResultSortable() {
+        Record[] records = new Record[10000];
+        for (int i = 1; i <= records.length; i++) {
+            if (0 == i % 3) {
+                records[i - 1] = new PlaceholderRecord(new IntPosition(i));
+            } else {
+                DataRecord dataRecord = new DataRecord(new IntPosition(i), 1);
+                dataRecord.addColumn(new Column("id", i, true, true));
+                records[i - 1] = dataRecord;
+            }
+        }
+        AtomicInteger lastId = new AtomicInteger();
+        AtomicInteger ackCount = new AtomicInteger();
+        execute(ackRecords -> {
+            for (Record each : ackRecords) {
+                int currentId = ((IntPosition) each.getPosition()).getId();
+                assertTrue(currentId > lastId.get());
+                lastId.set(currentId);
+            }
+            ackCount.addAndGet(ackRecords.size());
+        }, records.length - records.length / 3, records);
+        assertThat(ackCount.get(), is(records.length));
+    }
+    
+    @Test
+    public void assertBroadcastFinishedRecord() {
+        AtomicInteger ackCount = new AtomicInteger();
+        execute(records -> ackCount.addAndGet(records.size()), 2, new FinishedRecord(new PlaceholderPosition()));
+        assertThat(ackCount.get(), is(2));
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void execute(final AckCallback ackCallback, final int count, final Record... records) {
+        CountDownLatch countDownLatch = new CountDownLatch(count);
+        RingBufferChannel channel = new RingBufferChannel(2, 128, ackCallback);
+        fetchWithMultiThreading(channel, countDownLatch);
+        for (Record each : records) {
+            channel.pushRecord(each);
+        }
+        countDownLatch.await();
+        channel.close();
+    }
+    
+    private void fetchWithMultiThreading(final RingBufferChannel channel, final CountDownLatch countDownLatch) {
+        for (int i = 0; i < 2; i++) {
+            Thread thread = new Thread(() -> {
+                while (countDownLatch.getCount() > 0) {
+                    List<Record> records = channel.fetchRecords(100, 0);
+                    channel.ack();
+                    records.forEach(each -> countDownLatch.countDown());
+                }
+            });
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class IntPosition implements ScalingPosition<IntPosition> {
+        
+        private final int id;
+        
+        @Override
+        public int compareTo(final IntPosition position) {
+            return id - position.id;
+        }
+    }
+}
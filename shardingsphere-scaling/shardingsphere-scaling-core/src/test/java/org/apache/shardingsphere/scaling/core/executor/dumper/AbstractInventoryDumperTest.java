@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.executor.dumper;
+
+import org.apache.shardingsphere.scaling.core.common.channel.Channel;
+import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManager;
+import org.apache.shardingsphere.scaling.core.common.record.Record;
+import org.apache.shardingsphere.scaling.core.config.DumperConfiguration;
+import org.apache.shardingsphere.scaling.core.config.InventoryDumperConfiguration;
+import org.apache.shardingsphere.scaling.core.fixture.FixtureInventoryDumper;
+import org.apache.shardingsphere.scaling.core.job.JobContext;
+import org.apache.shardingsphere.scaling.core.job.position.FinishedPosition;
+import org.apache.shardingsphere.scaling.core.job.position.OrderablePrimaryKeyPosition;
+import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
+import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
+import org.apache.shardingsphere.scaling.core.util.ResourceUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public final class AbstractInventoryDumperTest {
+    
+    private final DataSourceManager dataSourceManager = new DataSourceManager();
+    
+    private DumperConfiguration dumperConfig;
+    
+    @Before
+    public void setUp() throws SQLException {
+        dumperConfig = new JobContext(ResourceUtil.mockJobConfig()).getTaskConfigs().iterator().next().getDumperConfig();
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (id INT PRIMARY KEY, user_id VARCHAR(12))");
+        }
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO t_order (id, user_id) VALUES (?, ?)")) {
+            for (int i = 1; i <= 2500; i++) {
+                preparedStatement.setInt(1, i);
+                preparedStatement.setString(2, "user_" + i);
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        }
+    }
+    
+    @After
+    public void tearDown() {
+        dataSourceManager.close();
+    }
+    
+    @Test
+    public void assertDumpByPrimaryKeyInChunks() throws InterruptedException {
+        InventoryDumperConfiguration inventoryDumperConfig = new InventoryDumperConfiguration(dumperConfig);
+        inventoryDumperConfig.setTableName("t_order");
+        inventoryDumperConfig.setPrimaryKey("id");
+        inventoryDumperConfig.setPosition(new PrimaryKeyPosition(1001, 2400));
+        List<Record> actual = dump(inventoryDumperConfig);
+        assertThat(actual.size(), is(1402));
+        assertThat(actual.get(0).getPosition().toString(), is("1001,2400"));
+        assertThat(actual.get(1399).getPosition().toString(), is("2400,2400"));
+        assertThat(actual.get(1400).getPosition(), instanceOf(FinishedPosition.class));
+        assertThat(actual.get(1401).getPosition(), instanceOf(PlaceholderPosition.class));
+    }
+    
+    @Test
+    public void assertDumpByOrderablePrimaryKeyInChunks() throws SQLException, InterruptedException {
+        try (Connection connection = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig()).getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order_item");
+            statement.execute("CREATE TABLE t_order_item (id VARCHAR(12) PRIMARY KEY, order_id INT)");
+            statement.execute("INSERT INTO t_order_item (id, order_id) SELECT CONCAT('key_', LPAD(id, 4, '0')), id FROM t_order");
+        }
+        InventoryDumperConfiguration inventoryDumperConfig = new InventoryDumperConfiguration(dumperConfig);
+        inventoryDumperConfig.setTableName("t_order_item");
+        inventoryDumperConfig.setPrimaryKey("id");
+        inventoryDumperConfig.setPosition(new OrderablePrimaryKeyPosition(null, "key_1500"));
+        List<Record> actual = dump(inventoryDumperConfig);
+        assertThat(actual.size(), is(1502));
+        assertThat(actual.get(0).getPosition().toString(), is("o,9,skey_0001skey_1500"));
+        assertThat(actual.get(1499).getPosition().toString(), is("o,9,skey_1500skey_1500"));
+        assertThat(actual.get(1500).getPosition(), instanceOf(FinishedPosition.class));
+    }
+    
+    @Test
+    public void assertDumpByUnionOrderablePrimaryKey() throws SQLException, InterruptedException {
+        try (Connection connection = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig()).getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order_item");
+            statement.execute("CREATE TABLE t_order_item (order_id VARCHAR(12), item_id INT, PRIMARY KEY (order_id, item_id))");
+            statement.execute("INSERT INTO t_order_item (order_id, item_id) SELECT CONCAT('key_', LPAD(id, 4, '0')), id FROM t_order");
+            statement.execute("INSERT INTO t_order_item (order_id, item_id) SELECT CONCAT('key_', LPAD(id, 4, '0')), id + 10000 FROM t_order");
+        }
+        InventoryDumperConfiguration inventoryDumperConfig = new InventoryDumperConfiguration(dumperConfig);
+        inventoryDumperConfig.setTableName("t_order_item");
+        inventoryDumperConfig.setPrimaryKey("order_id");
+        inventoryDumperConfig.setPosition(new OrderablePrimaryKeyPosition(null, "key_1500"));
+        List<Record> actual = dump(inventoryDumperConfig);
+        assertThat(actual.size(), is(3002));
+        assertThat(actual.get(0).getPosition().toString(), is("o,1,nskey_1500"));
+        assertThat(actual.get(1).getPosition().toString(), is("o,1,nskey_1500"));
+        assertThat(actual.get(2).getPosition().toString(), is("o,9,skey_0001skey_1500"));
+        assertThat(actual.get(2999).getPosition().toString(), is("o,9,skey_1499skey_1500"));
+        assertThat(actual.get(3000).getPosition(), instanceOf(FinishedPosition.class));
+    }
+    
+    @Test
+    public void assertDumpByOrderablePrimaryKeyWithEmptyRange() throws InterruptedException {
+        InventoryDumperConfiguration inventoryDumperConfig = new InventoryDumperConfiguration(dumperConfig);
+        inventoryDumperConfig.setTableName("t_order");
+        inventoryDumperConfig.setPrimaryKey("id");
+        inventoryDumperConfig.setPosition(new OrderablePrimaryKeyPosition(null, null));
+        List<Record> actual = dump(inventoryDumperConfig);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getPosition(), instanceOf(FinishedPosition.class));
+    }
+    
+    @Test
+    public void assertDumpWithoutPrimaryKey() throws InterruptedException {
+        InventoryDumperConfiguration inventoryDumperConfig = new InventoryDumperConfiguration(dumperConfig);
+        inventoryDumperConfig.setTableName("t_order");
+        List<Record> actual = dump(inventoryDumperConfig);
+        assertThat(actual.size(), is(2502));
+        assertThat(actual.get(0).getPosition(), instanceOf(PlaceholderPosition.class));
+    }
+    
+    private List<Record> dump(final InventoryDumperConfiguration inventoryDumperConfig) throws InterruptedException {
+        FixtureInventoryDumper dumper = new FixtureInventoryDumper(inventoryDumperConfig, dataSourceManager);
+        Channel channel = mock(Channel.class);
+        dumper.setChannel(channel);
+        dumper.start();
+        ArgumentCaptor<Record> recordCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(channel, atLeastOnce()).pushRecord(recordCaptor.capture());
+        return recordCaptor.getAllValues();
+    }
+}
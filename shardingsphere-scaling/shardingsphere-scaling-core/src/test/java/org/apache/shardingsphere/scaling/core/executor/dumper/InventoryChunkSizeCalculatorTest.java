@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.executor.dumper;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class InventoryChunkSizeCalculatorTest {
+    
+    @Test
+    public void assertUpdateWithFastChunk() {
+        InventoryChunkSizeCalculator actual = new InventoryChunkSizeCalculator();
+        actual.update(1000, 1000L, TimeUnit.MILLISECONDS.toNanos(10));
+        assertThat(actual.getChunkSize(), is(2000));
+    }
+    
+    @Test
+    public void assertUpdateWithSlowChunk() {
+        InventoryChunkSizeCalculator actual = new InventoryChunkSizeCalculator();
+        actual.update(1000, 1000L, TimeUnit.SECONDS.toNanos(2));
+        assertThat(actual.getChunkSize(), is(500));
+    }
+    
+    @Test
+    public void assertUpdateWithWideRows() {
+        InventoryChunkSizeCalculator actual = new InventoryChunkSizeCalculator();
+        actual.update(1000, 1000L * 64 * 1024, TimeUnit.MILLISECONDS.toNanos(10));
+        assertThat(actual.getChunkSize(), is(256));
+    }
+    
+    @Test
+    public void assertUpdateWithMinChunkSize() {
+        InventoryChunkSizeCalculator actual = new InventoryChunkSizeCalculator();
+        actual.update(1000, 1000L, TimeUnit.SECONDS.toNanos(100));
+        assertThat(actual.getChunkSize(), is(100));
+    }
+}
@@ -46,8 +46,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -58,6 +61,8 @@ public final class AbstractImporterTest {
     
     private static final String INSERT_SQL = "INSERT INTO test_table (id,user,status) VALUES(?,?,?)";
     
+    private static final String BATCH_INSERT_SQL = "INSERT INTO test_table (id,user,status) VALUES(?,?,?),(?,?,?)";
+    
     private static final String DELETE_SQL = "DELETE FROM test_table WHERE id = ? and user = ?";
     
     private static final String UPDATE_SQL = "UPDATE test_table SET user = ?,status = ? WHERE id = ? and user = ?";
@@ -102,14 +107,29 @@ public final class AbstractImporterTest {
     @Test
     public void assertWriteInsertDataRecord() throws SQLException {
         DataRecord insertRecord = getDataRecord("INSERT");
-        when(scalingSqlBuilder.buildInsertSQL(insertRecord)).thenReturn(INSERT_SQL);
+        when(scalingSqlBuilder.buildBatchInsertSQL(insertRecord, 1)).thenReturn(INSERT_SQL);
         when(connection.prepareStatement(INSERT_SQL)).thenReturn(preparedStatement);
         when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(mockRecords(insertRecord));
         jdbcImporter.run();
         verify(preparedStatement).setObject(1, 1);
         verify(preparedStatement).setObject(2, 10);
         verify(preparedStatement).setObject(3, "INSERT");
-        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeUpdate();
+    }
+    
+    @Test
+    public void assertWriteMultipleInsertDataRecords() throws SQLException {
+        DataRecord insertRecord1 = getDataRecord("INSERT");
+        DataRecord insertRecord2 = getDataRecord("INSERT", 2);
+        when(scalingSqlBuilder.buildBatchInsertSQL(any(DataRecord.class), eq(2))).thenReturn(BATCH_INSERT_SQL);
+        when(connection.prepareStatement(BATCH_INSERT_SQL)).thenReturn(preparedStatement);
+        List<Record> records = mockRecords(insertRecord1);
+        records.add(1, insertRecord2);
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(records);
+        jdbcImporter.run();
+        verify(preparedStatement, times(2)).setObject(anyInt(), eq(10));
+        verify(preparedStatement, times(2)).setObject(anyInt(), eq("INSERT"));
+        verify(preparedStatement).executeUpdate();
     }
     
     @Test
@@ -176,10 +196,14 @@ public final class AbstractImporterTest {
     }
     
     private DataRecord getDataRecord(final String recordType) {
+        return getDataRecord(recordType, 1);
+    }
+    
+    private DataRecord getDataRecord(final String recordType, final int id) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 3);
         result.setTableName(TABLE_NAME);
         result.setType(recordType);
-        result.addColumn(new Column("id", 1, false, true));
+        result.addColumn(new Column("id", id, false, true));
         result.addColumn(new Column("user", 10, true, false));
         result.addColumn(new Column("status", recordType, true, false));
         return result;
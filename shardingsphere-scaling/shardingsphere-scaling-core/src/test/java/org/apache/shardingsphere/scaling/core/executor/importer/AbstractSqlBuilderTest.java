@@ -41,6 +41,12 @@ public final class AbstractSqlBuilderTest {
         assertThat(actual, is("INSERT INTO `t1`(`id`,`sc`,`c1`,`c2`,`c3`) VALUES(?,?,?,?,?)"));
     }
     
+    @Test
+    public void assertBuildBatchInsertSQL() {
+        String actual = scalingSQLBuilder.buildBatchInsertSQL(mockDataRecord("t1"), 2);
+        assertThat(actual, is("INSERT INTO `t1`(`id`,`sc`,`c1`,`c2`,`c3`) VALUES(?,?,?,?,?),(?,?,?,?,?)"));
+    }
+    
     @Test
     public void assertBuildUpdateSQLWithPrimaryKey() {
         String actual = scalingSQLBuilder.buildUpdateSQL(mockDataRecord("t2"), RecordUtil.extractPrimaryColumns(mockDataRecord("t2")));
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.scaling.core.fixture;
 import org.apache.shardingsphere.scaling.core.common.sqlbuilder.ScalingSQLBuilder;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
 import org.apache.shardingsphere.scaling.core.job.check.consistency.AbstractDataConsistencyChecker;
+import org.apache.shardingsphere.scaling.core.job.check.consistency.DataCheckResult;
 
 import java.util.Collections;
 import java.util.HashMap;
@@ -32,7 +33,7 @@ public final class FixtureDataConsistencyChecker extends AbstractDataConsistency
     }
     
     @Override
-    public Map<String, Boolean> dataCheck() {
+    public Map<String, DataCheckResult> dataCheck() {
         return Collections.emptyMap();
     }
     
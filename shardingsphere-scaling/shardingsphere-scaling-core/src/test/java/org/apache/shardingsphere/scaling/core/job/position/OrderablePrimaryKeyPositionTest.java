@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.job.position;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class OrderablePrimaryKeyPositionTest {
+    
+    @Test
+    public void assertCompareTo() {
+        OrderablePrimaryKeyPosition position1 = new OrderablePrimaryKeyPosition(null, "abc");
+        OrderablePrimaryKeyPosition position2 = new OrderablePrimaryKeyPosition("abc", "xyz");
+        assertThat(position1.compareTo(null), is(1));
+        assertTrue(position1.compareTo(position2) < 0);
+    }
+    
+    @Test
+    public void assertCompareToWithUnsignedBytes() {
+        OrderablePrimaryKeyPosition position1 = new OrderablePrimaryKeyPosition(new byte[]{0x7f}, null);
+        OrderablePrimaryKeyPosition position2 = new OrderablePrimaryKeyPosition(new byte[]{(byte) 0x80}, null);
+        assertTrue(position1.compareTo(position2) < 0);
+    }
+    
+    @Test
+    public void assertCompareToWithUUID() {
+        OrderablePrimaryKeyPosition position1 = new OrderablePrimaryKeyPosition(UUID.fromString("7fffffff-0000-0000-0000-000000000000"), null);
+        OrderablePrimaryKeyPosition position2 = new OrderablePrimaryKeyPosition(UUID.fromString("80000000-0000-0000-0000-000000000000"), null);
+        assertTrue(position1.compareTo(position2) < 0);
+    }
+    
+    @Test
+    public void assertInit() {
+        OrderablePrimaryKeyPosition position = OrderablePrimaryKeyPosition.init("o,5,sa,bcsxy,z");
+        assertThat(position.getBeginValue(), is("a,bc"));
+        assertThat(position.getEndValue(), is("xy,z"));
+    }
+    
+    @Test
+    public void assertInitWithoutBeginValue() {
+        OrderablePrimaryKeyPosition position = OrderablePrimaryKeyPosition.init("o,1,nsxyz");
+        assertThat(position.getBeginValue(), nullValue());
+        assertThat(position.getEndValue(), is("xyz"));
+    }
+    
+    @Test
+    public void assertInitWithTypedValues() {
+        UUID uuid = UUID.randomUUID();
+        Timestamp timestamp = Timestamp.valueOf("2021-01-02 03:04:05.123456");
+        assertThat(OrderablePrimaryKeyPosition.init(new OrderablePrimaryKeyPosition(new byte[]{0x01, (byte) 0xff}, uuid).toString()).getBeginValue(), is(new byte[]{0x01, (byte) 0xff}));
+        assertThat(OrderablePrimaryKeyPosition.init(new OrderablePrimaryKeyPosition(new byte[]{0x01}, uuid).toString()).getEndValue(), is(uuid));
+        assertThat(OrderablePrimaryKeyPosition.init(new OrderablePrimaryKeyPosition(new BigDecimal("1.50"), timestamp).toString()).getBeginValue(), is(new BigDecimal("1.50")));
+        assertThat(OrderablePrimaryKeyPosition.init(new OrderablePrimaryKeyPosition(new BigDecimal("1.50"), timestamp).toString()).getEndValue(), is(timestamp));
+    }
+    
+    @Test
+    public void assertIsOrderablePrimaryKeyPosition() {
+        assertTrue(OrderablePrimaryKeyPosition.isOrderablePrimaryKeyPosition("o,1,nsxyz"));
+        assertFalse(OrderablePrimaryKeyPosition.isOrderablePrimaryKeyPosition("1,100"));
+    }
+    
+    @Test
+    public void assertIsSupportedValue() {
+        assertTrue(OrderablePrimaryKeyPosition.isSupportedValue("abc"));
+        assertTrue(OrderablePrimaryKeyPosition.isSupportedValue(new byte[]{0x01}));
+        assertTrue(OrderablePrimaryKeyPosition.isSupportedValue(UUID.randomUUID()));
+        assertFalse(OrderablePrimaryKeyPosition.isSupportedValue(new Object()));
+    }
+    
+    @Test
+    public void assertToString() {
+        assertThat(new OrderablePrimaryKeyPosition("a,bc", "xy,z").toString(), is("o,5,sa,bcsxy,z"));
+        assertThat(new OrderablePrimaryKeyPosition(null, "xyz").toString(), is("o,1,nsxyz"));
+    }
+    
+    @Test
+    public void assertToStringWithTimestamp() {
+        Timestamp timestamp = new Timestamp(1609556645123L);
+        timestamp.setNanos(123456789);
+        assertThat(new OrderablePrimaryKeyPosition(null, timestamp).toString(), is("o,1,nt1609556645123.123456789"));
+        assertThat(OrderablePrimaryKeyPosition.init("o,1,nt1609556645123.123456789").getEndValue(), is(timestamp));
+    }
+}
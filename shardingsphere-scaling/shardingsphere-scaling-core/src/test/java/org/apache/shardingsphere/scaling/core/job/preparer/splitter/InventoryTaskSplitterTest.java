@@ -21,6 +21,7 @@ import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManage
 import org.apache.shardingsphere.scaling.core.config.DumperConfiguration;
 import org.apache.shardingsphere.scaling.core.config.TaskConfiguration;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
+import org.apache.shardingsphere.scaling.core.job.position.OrderablePrimaryKeyPosition;
 import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
 import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryTask;
 import org.apache.shardingsphere.scaling.core.util.ResourceUtil;
@@ -36,6 +37,7 @@ import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
 public final class InventoryTaskSplitterTest {
@@ -85,12 +87,64 @@ public final class InventoryTaskSplitterTest {
         assertThat(actual.size(), is(1));
     }
     
+    @Test
+    public void assertSplitInventoryDataWithStringPrimary() throws SQLException {
+        taskConfig.getHandleConfig().setShardingSize(10);
+        initStringPrimaryEnvironment(taskConfig.getDumperConfig());
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobContext, taskConfig, dataSourceManager);
+        assertNotNull(actual);
+        assertThat(actual.size(), is(10));
+        assertNull(((OrderablePrimaryKeyPosition) actual.get(0).getProgress().getPosition()).getBeginValue());
+        assertThat(((OrderablePrimaryKeyPosition) actual.get(0).getProgress().getPosition()).getEndValue(), is("key_010"));
+        assertThat(((OrderablePrimaryKeyPosition) actual.get(9).getProgress().getPosition()).getBeginValue(), is("key_090"));
+        assertThat(((OrderablePrimaryKeyPosition) actual.get(9).getProgress().getPosition()).getEndValue(), is("key_100"));
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithStringPrimaryAndPartialLastRange() throws SQLException {
+        taskConfig.getHandleConfig().setShardingSize(30);
+        initStringPrimaryEnvironment(taskConfig.getDumperConfig());
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobContext, taskConfig, dataSourceManager);
+        assertThat(actual.size(), is(4));
+        assertThat(((OrderablePrimaryKeyPosition) actual.get(3).getProgress().getPosition()).getBeginValue(), is("key_090"));
+        assertThat(((OrderablePrimaryKeyPosition) actual.get(3).getProgress().getPosition()).getEndValue(), is("key_100"));
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithStringPrimaryAndEmptyTable() throws SQLException {
+        taskConfig.getHandleConfig().setShardingSize(10);
+        initStringPrimaryEnvironment(taskConfig.getDumperConfig());
+        try (Connection connection = dataSourceManager.getDataSource(taskConfig.getDumperConfig().getDataSourceConfig()).getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM t_order");
+        }
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobContext, taskConfig, dataSourceManager);
+        assertThat(actual.size(), is(1));
+        assertNull(((OrderablePrimaryKeyPosition) actual.get(0).getProgress().getPosition()).getEndValue());
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithBinaryPrimary() throws SQLException {
+        taskConfig.getHandleConfig().setShardingSize(10);
+        initBinaryPrimaryEnvironment(taskConfig.getDumperConfig());
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobContext, taskConfig, dataSourceManager);
+        assertThat(actual.size(), is(10));
+        assertNull(((OrderablePrimaryKeyPosition) actual.get(0).getProgress().getPosition()).getBeginValue());
+        assertThat(((OrderablePrimaryKeyPosition) actual.get(0).getProgress().getPosition()).getEndValue(), is(new byte[]{0, 0, 0, 10}));
+        assertThat(((OrderablePrimaryKeyPosition) actual.get(9).getProgress().getPosition()).getEndValue(), is(new byte[]{0, 0, 0, 100}));
+    }
+    
     @Test
     public void assertSplitInventoryDataWithUnionPrimary() throws SQLException {
+        taskConfig.getHandleConfig().setShardingSize(10);
         initUnionPrimaryEnvironment(taskConfig.getDumperConfig());
         List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobContext, taskConfig, dataSourceManager);
         assertNotNull(actual);
-        assertThat(actual.size(), is(1));
+        assertThat(actual.size(), is(4));
+        assertThat(((PrimaryKeyPosition) actual.get(0).getProgress().getPosition()).getBeginValue(), is(0L));
+        assertThat(((PrimaryKeyPosition) actual.get(0).getProgress().getPosition()).getEndValue(), is(5L));
+        assertThat(((PrimaryKeyPosition) actual.get(3).getProgress().getPosition()).getBeginValue(), is(16L));
+        assertThat(((PrimaryKeyPosition) actual.get(3).getProgress().getPosition()).getEndValue(), is(20L));
     }
     
     @Test
@@ -137,13 +191,39 @@ public final class InventoryTaskSplitterTest {
         }
     }
     
+    private void initStringPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (id VARCHAR(12) PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = 100; i >= 1; i--) {
+                statement.execute(String.format("INSERT INTO t_order (id, user_id) VALUES ('key_%03d', 'x')", i));
+            }
+        }
+    }
+    
+    private void initBinaryPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (id BINARY(4) PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = 100; i >= 1; i--) {
+                statement.execute(String.format("INSERT INTO t_order (id, user_id) VALUES (X'%08x', 'x')", i));
+            }
+        }
+    }
+    
     private void initUnionPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
         try (Connection connection = dataSource.getConnection();
              Statement statement = connection.createStatement()) {
             statement.execute("DROP TABLE IF EXISTS t_order");
             statement.execute("CREATE TABLE t_order (id INT, user_id VARCHAR(12), PRIMARY KEY (id, user_id))");
-            statement.execute("INSERT INTO t_order (id, user_id) VALUES (1, 'xxx'), (999, 'yyy')");
+            for (int i = 1; i <= 20; i++) {
+                statement.execute(String.format("INSERT INTO t_order (id, user_id) VALUES (%d, 'xxx'), (%d, 'yyy')", i, i));
+            }
         }
     }
     
@@ -21,8 +21,11 @@ import org.apache.shardingsphere.scaling.core.common.record.Column;
 import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.common.sqlbuilder.AbstractScalingSQLBuilder;
 
+import java.util.Collection;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * MySQL SQL builder.
@@ -48,6 +51,11 @@ public final class MySQLScalingSQLBuilder extends AbstractScalingSQLBuilder {
         return super.buildInsertSQL(dataRecord) + buildDuplicateUpdateSQL(dataRecord);
     }
     
+    @Override
+    public String buildBatchInsertSQL(final DataRecord dataRecord, final int rowCount) {
+        return super.buildBatchInsertSQL(dataRecord, rowCount) + buildDuplicateUpdateSQL(dataRecord);
+    }
+    
     private String buildDuplicateUpdateSQL(final DataRecord dataRecord) {
         StringBuilder result = new StringBuilder(" ON DUPLICATE KEY UPDATE ");
         for (int i = 0; i < dataRecord.getColumnCount(); i++) {
@@ -68,13 +76,56 @@ public final class MySQLScalingSQLBuilder extends AbstractScalingSQLBuilder {
     }
     
     /**
-     * Build select sum crc32 SQL.
+     * Build data check chunk boundary SQL.
      *
-     * @param tableName table Name
-     * @param column column
-     * @return select sum crc32 SQL
+     * @param tableName table name
+     * @param primaryKey primary key
+     * @param firstQuery whether is first query, which has no begin value
+     * @return data check chunk boundary SQL
      */
-    public String buildSumCrc32SQL(final String tableName, final String column) {
-        return String.format("SELECT SUM(CRC32(%s)) from %s", quote(column), quote(tableName));
+    public String buildDataCheckChunkBoundarySQL(final String tableName, final String primaryKey, final boolean firstQuery) {
+        return String.format("SELECT MAX(%s) FROM (SELECT %s FROM %s%s ORDER BY %s LIMIT ?) t",
+                quote(primaryKey), quote(primaryKey), quote(tableName), buildChunkCondition(primaryKey, !firstQuery, false), quote(primaryKey));
+    }
+    
+    /**
+     * Build data check chunk checksum SQL.
+     *
+     * @param tableName table name
+     * @param primaryKey primary key, null if table has no single primary key
+     * @param columns columns
+     * @param hasBeginValue whether chunk has exclusive begin value
+     * @param hasEndValue whether chunk has inclusive end value
+     * @return data check chunk checksum SQL
+     */
+    public String buildDataCheckChunkChecksumSQL(final String tableName, final String primaryKey, final Collection<String> columns, final boolean hasBeginValue, final boolean hasEndValue) {
+        return String.format("SELECT COUNT(*),%s FROM %s%s", columns.stream().map(each -> String.format("SUM(CRC32(%s))", quote(each))).collect(Collectors.joining(",")),
+                quote(tableName), buildChunkCondition(primaryKey, hasBeginValue, hasEndValue));
+    }
+    
+    /**
+     * Build data check row checksum SQL.
+     *
+     * @param tableName table name
+     * @param primaryKey primary key
+     * @param columns columns
+     * @param hasBeginValue whether chunk has exclusive begin value
+     * @param hasEndValue whether chunk has inclusive end value
+     * @return data check row checksum SQL
+     */
+    public String buildDataCheckRowChecksumSQL(final String tableName, final String primaryKey, final Collection<String> columns, final boolean hasBeginValue, final boolean hasEndValue) {
+        return String.format("SELECT %s,%s FROM %s%s ORDER BY %s", quote(primaryKey), columns.stream().map(each -> String.format("CRC32(%s)", quote(each))).collect(Collectors.joining(",")),
+                quote(tableName), buildChunkCondition(primaryKey, hasBeginValue, hasEndValue), quote(primaryKey));
+    }
+    
+    private String buildChunkCondition(final String primaryKey, final boolean hasBeginValue, final boolean hasEndValue) {
+        Collection<String> conditions = new LinkedList<>();
+        if (hasBeginValue) {
+            conditions.add(String.format("%s>?", quote(primaryKey)));
+        }
+        if (hasEndValue) {
+            conditions.add(String.format("%s<=?", quote(primaryKey)));
+        }
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
     }
 }
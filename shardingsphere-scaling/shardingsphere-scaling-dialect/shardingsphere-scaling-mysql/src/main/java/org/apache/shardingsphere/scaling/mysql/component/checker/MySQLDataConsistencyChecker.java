@@ -17,25 +17,25 @@
 
 package org.apache.shardingsphere.scaling.mysql.component.checker;
 
+import com.google.common.util.concurrent.RateLimiter;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceWrapper;
 import org.apache.shardingsphere.scaling.core.common.exception.DataCheckFailException;
+import org.apache.shardingsphere.scaling.core.config.HandleConfiguration;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
 import org.apache.shardingsphere.scaling.core.job.check.consistency.AbstractDataConsistencyChecker;
+import org.apache.shardingsphere.scaling.core.job.check.consistency.DataCheckResult;
 import org.apache.shardingsphere.scaling.mysql.component.MySQLScalingSQLBuilder;
 
-import javax.sql.DataSource;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 /**
@@ -48,52 +48,30 @@ public final class MySQLDataConsistencyChecker extends AbstractDataConsistencyCh
     }
     
     @Override
-    public Map<String, Boolean> dataCheck() {
-        return distinctByValue(getJobContext().getTaskConfigs()
+    public Map<String, DataCheckResult> dataCheck() {
+        Map<String, String> tableNameMap = distinctByValue(getJobContext().getTaskConfigs()
                 .stream().flatMap(each -> each.getDumperConfig().getTableNameMap().entrySet().stream())
-                .collect(Collectors.toMap(Entry::getKey, Entry::getValue, (oldValue, currentValue) -> oldValue, LinkedHashMap::new)))
-                .entrySet().stream().collect(Collectors.toMap(Entry::getValue, entry -> dataValid(entry.getKey(), entry.getValue()), (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
-    }
-    
-    private Map<String, String> distinctByValue(final Map<String, String> tableNameMap) {
-        Set<String> distinctSet = new HashSet<>();
-        return tableNameMap.entrySet().stream().filter(entry -> distinctSet.add(entry.getValue()))
-                .collect(Collectors.toMap(Entry::getKey, Entry::getValue, (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
-    }
-    
-    private boolean dataValid(final String actualTableName, final String logicTableName) {
+                .collect(Collectors.toMap(Entry::getKey, Entry::getValue, (oldValue, currentValue) -> oldValue, LinkedHashMap::new)));
+        HandleConfiguration handleConfig = getJobContext().getJobConfig().getHandleConfig();
+        ExecutorService executorService = Executors.newFixedThreadPool(handleConfig.getConcurrency(), ExecutorThreadFactoryBuilder.build("scaling-data-check-%d"));
         try (DataSourceWrapper sourceDataSource = getSourceDataSource();
              DataSourceWrapper targetDataSource = getTargetDataSource()) {
-            return getColumns(actualTableName).stream().allMatch(each -> sumCrc32(sourceDataSource, logicTableName, each) == sumCrc32(targetDataSource, logicTableName, each));
+            MySQLTableDataChecker tableDataChecker = new MySQLTableDataChecker(sourceDataSource, targetDataSource, getSQLBuilder(),
+                    executorService, handleConfig.getConcurrency(), RateLimiter.create(handleConfig.getDataCheckMaxQPS()), handleConfig.getDataCheckChunkSize());
+            Map<String, DataCheckResult> result = new LinkedHashMap<>();
+            tableNameMap.forEach((key, value) -> result.put(value, tableDataChecker.check(key, value)));
+            return result;
         } catch (final SQLException ex) {
-            throw new DataCheckFailException(String.format("table %s data check failed.", logicTableName), ex);
+            throw new DataCheckFailException("data check failed.", ex);
+        } finally {
+            executorService.shutdownNow();
         }
     }
     
-    private List<String> getColumns(final String tableName) {
-        List<String> result = new ArrayList<>();
-        try (DataSourceWrapper sourceDataSource = getSourceDataSource();
-             Connection connection = sourceDataSource.getConnection();
-             ResultSet resultSet = connection.getMetaData().getColumns(connection.getCatalog(), null, tableName, "%")) {
-            while (resultSet.next()) {
-                result.add(resultSet.getString(4));
-            }
-        } catch (final SQLException ex) {
-            throw new DataCheckFailException("get columns failed.", ex);
-        }
-        return result;
-    }
-    
-    private long sumCrc32(final DataSource dataSource, final String tableName, final String column) {
-        String sql = getSQLBuilder().buildSumCrc32SQL(tableName, column);
-        try (Connection connection = dataSource.getConnection();
-             PreparedStatement preparedStatement = connection.prepareStatement(sql);
-             ResultSet resultSet = preparedStatement.executeQuery()) {
-            resultSet.next();
-            return resultSet.getLong(1);
-        } catch (final SQLException ex) {
-            throw new DataCheckFailException(String.format("execute %s failed.", sql), ex);
-        }
+    private Map<String, String> distinctByValue(final Map<String, String> tableNameMap) {
+        Set<String> distinctSet = new HashSet<>();
+        return tableNameMap.entrySet().stream().filter(entry -> distinctSet.add(entry.getValue()))
+                .collect(Collectors.toMap(Entry::getKey, Entry::getValue, (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
     }
     
     @Override
@@ -0,0 +1,259 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.mysql.component.checker;
+
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.scaling.core.common.exception.DataCheckFailException;
+import org.apache.shardingsphere.scaling.core.job.check.consistency.DataCheckResult;
+import org.apache.shardingsphere.scaling.mysql.component.MySQLScalingSQLBuilder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * MySQL table data checker.
+ * 
+ * <p>
+ * Table is cut into primary key chunks by source data, chunks are checked in parallel by comparing CRC32 checksums of source and target,
+ * and rows of inconsistent chunks are compared one by one to find inconsistent primary keys.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class MySQLTableDataChecker {
+    
+    private static final int MAX_INCONSISTENT_PRIMARY_KEYS = 1000;
+    
+    private final DataSource sourceDataSource;
+    
+    private final DataSource targetDataSource;
+    
+    private final MySQLScalingSQLBuilder sqlBuilder;
+    
+    private final ExecutorService executorService;
+    
+    private final int concurrency;
+    
+    private final RateLimiter rateLimiter;
+    
+    private final int chunkSize;
+    
+    /**
+     * Check table data.
+     *
+     * @param actualTableName actual table name in source data source
+     * @param logicTableName logic table name
+     * @return data check result
+     */
+    public DataCheckResult check(final String actualTableName, final String logicTableName) {
+        List<String> columns = getColumns(actualTableName);
+        String primaryKey = getPrimaryKey(actualTableName).orElse(null);
+        TableChecker tableChecker = new TableChecker(logicTableName, primaryKey, columns);
+        if (null == primaryKey) {
+            return new DataCheckResult(!tableChecker.checkChunk(null, null).isPresent(), Collections.emptyList());
+        }
+        return tableChecker.checkByChunks();
+    }
+    
+    private List<String> getColumns(final String tableName) {
+        List<String> result = new ArrayList<>();
+        try (Connection connection = sourceDataSource.getConnection();
+             ResultSet resultSet = connection.getMetaData().getColumns(connection.getCatalog(), null, tableName, "%")) {
+            while (resultSet.next()) {
+                result.add(resultSet.getString(4));
+            }
+        } catch (final SQLException ex) {
+            throw new DataCheckFailException("get columns failed.", ex);
+        }
+        return result;
+    }
+    
+    private Optional<String> getPrimaryKey(final String tableName) {
+        List<String> result = new ArrayList<>();
+        try (Connection connection = sourceDataSource.getConnection();
+             ResultSet resultSet = connection.getMetaData().getPrimaryKeys(connection.getCatalog(), null, tableName)) {
+            while (resultSet.next()) {
+                result.add(resultSet.getString(4));
+            }
+        } catch (final SQLException ex) {
+            throw new DataCheckFailException("get primary keys failed.", ex);
+        }
+        return 1 == result.size() ? Optional.of(result.get(0)) : Optional.empty();
+    }
+    
+    @RequiredArgsConstructor
+    private final class TableChecker {
+        
+        private final String tableName;
+        
+        private final String primaryKey;
+        
+        private final List<String> columns;
+        
+        private final Collection<String> inconsistentPrimaryKeys = new LinkedList<>();
+        
+        private boolean dataValid = true;
+        
+        private DataCheckResult checkByChunks() {
+            Deque<Future<Optional<Collection<String>>>> futures = new LinkedList<>();
+            Object beginValue = null;
+            do {
+                Object endValue = getChunkEndValue(beginValue);
+                Object chunkBeginValue = beginValue;
+                futures.add(executorService.submit(() -> checkChunk(chunkBeginValue, endValue)));
+                while (futures.size() > concurrency) {
+                    collect(futures.poll());
+                }
+                beginValue = endValue;
+            } while (null != beginValue);
+            while (!futures.isEmpty()) {
+                collect(futures.poll());
+            }
+            return new DataCheckResult(dataValid, inconsistentPrimaryKeys);
+        }
+        
+        private Object getChunkEndValue(final Object beginValue) {
+            String sql = sqlBuilder.buildDataCheckChunkBoundarySQL(tableName, primaryKey, null == beginValue);
+            rateLimiter.acquire();
+            try (Connection connection = sourceDataSource.getConnection();
+                 PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+                int parameterIndex = 1;
+                if (null != beginValue) {
+                    preparedStatement.setObject(parameterIndex++, beginValue);
+                }
+                preparedStatement.setInt(parameterIndex, chunkSize);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    return resultSet.next() ? resultSet.getObject(1) : null;
+                }
+            } catch (final SQLException ex) {
+                throw new DataCheckFailException(String.format("execute %s failed.", sql), ex);
+            }
+        }
+        
+        private void collect(final Future<Optional<Collection<String>>> future) {
+            Optional<Collection<String>> chunkInconsistentPrimaryKeys;
+            try {
+                chunkInconsistentPrimaryKeys = future.get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new DataCheckFailException(String.format("table %s data check interrupted.", tableName), ex);
+            } catch (final ExecutionException ex) {
+                throw new DataCheckFailException(String.format("table %s data check failed.", tableName), ex.getCause());
+            }
+            if (!chunkInconsistentPrimaryKeys.isPresent()) {
+                return;
+            }
+            dataValid = false;
+            for (String each : chunkInconsistentPrimaryKeys.get()) {
+                if (inconsistentPrimaryKeys.size() >= MAX_INCONSISTENT_PRIMARY_KEYS) {
+                    return;
+                }
+                inconsistentPrimaryKeys.add(each);
+            }
+        }
+        
+        private Optional<Collection<String>> checkChunk(final Object beginValue, final Object endValue) {
+            String sql = sqlBuilder.buildDataCheckChunkChecksumSQL(tableName, primaryKey, columns, null != beginValue, null != endValue);
+            if (Arrays.equals(getChunkChecksum(sourceDataSource, sql, beginValue, endValue), getChunkChecksum(targetDataSource, sql, beginValue, endValue))) {
+                return Optional.empty();
+            }
+            return Optional.of(null == primaryKey ? Collections.emptyList() : getInconsistentPrimaryKeys(beginValue, endValue));
+        }
+        
+        private long[] getChunkChecksum(final DataSource dataSource, final String sql, final Object beginValue, final Object endValue) {
+            rateLimiter.acquire();
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement preparedStatement = prepareChunkStatement(connection, sql, beginValue, endValue);
+                 ResultSet resultSet = preparedStatement.executeQuery()) {
+                long[] result = new long[columns.size() + 1];
+                if (resultSet.next()) {
+                    for (int i = 0; i < result.length; i++) {
+                        result[i] = resultSet.getLong(i + 1);
+                    }
+                }
+                return result;
+            } catch (final SQLException ex) {
+                throw new DataCheckFailException(String.format("execute %s failed.", sql), ex);
+            }
+        }
+        
+        private Collection<String> getInconsistentPrimaryKeys(final Object beginValue, final Object endValue) {
+            String sql = sqlBuilder.buildDataCheckRowChecksumSQL(tableName, primaryKey, columns, null != beginValue, null != endValue);
+            Map<String, List<Long>> sourceRowChecksums = getRowChecksums(sourceDataSource, sql, beginValue, endValue);
+            Map<String, List<Long>> targetRowChecksums = getRowChecksums(targetDataSource, sql, beginValue, endValue);
+            Collection<String> result = new LinkedList<>();
+            for (Entry<String, List<Long>> entry : sourceRowChecksums.entrySet()) {
+                if (!Objects.equals(entry.getValue(), targetRowChecksums.remove(entry.getKey()))) {
+                    result.add(entry.getKey());
+                }
+            }
+            result.addAll(targetRowChecksums.keySet());
+            return result;
+        }
+        
+        private Map<String, List<Long>> getRowChecksums(final DataSource dataSource, final String sql, final Object beginValue, final Object endValue) {
+            rateLimiter.acquire();
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement preparedStatement = prepareChunkStatement(connection, sql, beginValue, endValue);
+                 ResultSet resultSet = preparedStatement.executeQuery()) {
+                Map<String, List<Long>> result = new LinkedHashMap<>();
+                while (resultSet.next()) {
+                    List<Long> checksums = new ArrayList<>(columns.size());
+                    for (int i = 2; i <= columns.size() + 1; i++) {
+                        long checksum = resultSet.getLong(i);
+                        checksums.add(resultSet.wasNull() ? null : checksum);
+                    }
+                    result.put(resultSet.getString(1), checksums);
+                }
+                return result;
+            } catch (final SQLException ex) {
+                throw new DataCheckFailException(String.format("execute %s failed.", sql), ex);
+            }
+        }
+        
+        private PreparedStatement prepareChunkStatement(final Connection connection, final String sql, final Object beginValue, final Object endValue) throws SQLException {
+            PreparedStatement result = connection.prepareStatement(sql);
+            int parameterIndex = 1;
+            if (null != beginValue) {
+                result.setObject(parameterIndex++, beginValue);
+            }
+            if (null != endValue) {
+                result.setObject(parameterIndex, endValue);
+            }
+            return result;
+        }
+    }
+}
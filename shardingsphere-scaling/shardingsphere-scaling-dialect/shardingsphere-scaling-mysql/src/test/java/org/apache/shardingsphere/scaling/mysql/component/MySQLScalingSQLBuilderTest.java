@@ -23,6 +23,7 @@ import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Set;
 
@@ -46,9 +47,33 @@ public final class MySQLScalingSQLBuilderTest {
     }
     
     @Test
-    public void assertBuildSumCrc32SQL() {
-        String actual = sqlBuilder.buildSumCrc32SQL("t2", "id");
-        assertThat(actual, is("SELECT SUM(CRC32(`id`)) from `t2`"));
+    public void assertBuildBatchInsertSQL() {
+        String actual = sqlBuilder.buildBatchInsertSQL(mockDataRecord("t2"), 2);
+        assertThat(actual, is("INSERT INTO `t2`(`id`,`sc`,`c1`,`c2`,`c3`) VALUES(?,?,?,?,?),(?,?,?,?,?) ON DUPLICATE KEY UPDATE `c1`=VALUES(`c1`),`c2`=VALUES(`c2`),`c3`=VALUES(`c3`)"));
+    }
+    
+    @Test
+    public void assertBuildDataCheckChunkBoundarySQL() {
+        assertThat(sqlBuilder.buildDataCheckChunkBoundarySQL("t2", "id", true), is("SELECT MAX(`id`) FROM (SELECT `id` FROM `t2` ORDER BY `id` LIMIT ?) t"));
+        assertThat(sqlBuilder.buildDataCheckChunkBoundarySQL("t2", "id", false), is("SELECT MAX(`id`) FROM (SELECT `id` FROM `t2` WHERE `id`>? ORDER BY `id` LIMIT ?) t"));
+    }
+    
+    @Test
+    public void assertBuildDataCheckChunkChecksumSQL() {
+        String actual = sqlBuilder.buildDataCheckChunkChecksumSQL("t2", "id", Arrays.asList("id", "c1"), true, true);
+        assertThat(actual, is("SELECT COUNT(*),SUM(CRC32(`id`)),SUM(CRC32(`c1`)) FROM `t2` WHERE `id`>? AND `id`<=?"));
+    }
+    
+    @Test
+    public void assertBuildDataCheckChunkChecksumSQLWithoutRange() {
+        String actual = sqlBuilder.buildDataCheckChunkChecksumSQL("t2", null, Arrays.asList("id", "c1"), false, false);
+        assertThat(actual, is("SELECT COUNT(*),SUM(CRC32(`id`)),SUM(CRC32(`c1`)) FROM `t2`"));
+    }
+    
+    @Test
+    public void assertBuildDataCheckRowChecksumSQL() {
+        String actual = sqlBuilder.buildDataCheckRowChecksumSQL("t2", "id", Arrays.asList("id", "c1"), false, true);
+        assertThat(actual, is("SELECT `id`,CRC32(`id`),CRC32(`c1`) FROM `t2` WHERE `id`<=? ORDER BY `id`"));
     }
     
     private DataRecord mockDataRecord(final String tableName) {
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.mysql.component.checker;
+
+import com.google.common.util.concurrent.RateLimiter;
+import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManager;
+import org.apache.shardingsphere.scaling.core.config.datasource.StandardJDBCDataSourceConfiguration;
+import org.apache.shardingsphere.scaling.core.job.check.consistency.DataCheckResult;
+import org.apache.shardingsphere.scaling.mysql.component.MySQLScalingSQLBuilder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLTableDataCheckerTest {
+    
+    private final DataSourceManager dataSourceManager = new DataSourceManager();
+    
+    private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+    
+    private DataSource sourceDataSource;
+    
+    private DataSource targetDataSource;
+    
+    private MySQLTableDataChecker tableDataChecker;
+    
+    @Before
+    public void setUp() throws SQLException {
+        sourceDataSource = createDataSource("check_source");
+        targetDataSource = createDataSource("check_target");
+        tableDataChecker = new MySQLTableDataChecker(sourceDataSource, targetDataSource, new MySQLScalingSQLBuilder(new HashMap<>()), executorService, 2, RateLimiter.create(10000), 10);
+    }
+    
+    private DataSource createDataSource(final String databaseName) throws SQLException {
+        DataSource result = dataSourceManager.getDataSource(
+                new StandardJDBCDataSourceConfiguration(String.format("jdbc:h2:mem:%s;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL", databaseName), "root", "root"));
+        try (Connection connection = result.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(String.format("CREATE ALIAS IF NOT EXISTS CRC32 FOR \"%s.crc32\"", MySQLTableDataCheckerTest.class.getName()));
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id INT PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = 1; i <= 25; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (%d, 'user_%d')", i, i));
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * CRC32 function for H2.
+     *
+     * @param value value
+     * @return CRC32 checksum
+     */
+    public static Long crc32(final String value) {
+        if (null == value) {
+            return null;
+        }
+        CRC32 result = new CRC32();
+        result.update(value.getBytes());
+        return result.getValue();
+    }
+    
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+        dataSourceManager.close();
+    }
+    
+    @Test
+    public void assertCheckConsistentData() {
+        DataCheckResult actual = tableDataChecker.check("t_order", "t_order");
+        assertTrue(actual.isDataValid());
+        assertTrue(actual.getInconsistentPrimaryKeys().isEmpty());
+    }
+    
+    @Test
+    public void assertCheckInconsistentData() throws SQLException {
+        try (Connection connection = targetDataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("UPDATE t_order SET user_id = 'changed' WHERE order_id = 7");
+            statement.execute("DELETE FROM t_order WHERE order_id = 12");
+            statement.execute("INSERT INTO t_order (order_id, user_id) VALUES (30, 'user_30')");
+        }
+        DataCheckResult actual = tableDataChecker.check("t_order", "t_order");
+        assertFalse(actual.isDataValid());
+        assertThat(actual.getInconsistentPrimaryKeys(), is(Arrays.asList("7", "12", "30")));
+    }
+}
@@ -49,6 +49,11 @@ public final class PostgreSQLScalingSQLBuilder extends AbstractScalingSQLBuilder
         return super.buildInsertSQL(dataRecord) + buildConflictSQL(dataRecord);
     }
     
+    @Override
+    public String buildBatchInsertSQL(final DataRecord dataRecord, final int rowCount) {
+        return super.buildBatchInsertSQL(dataRecord, rowCount) + buildConflictSQL(dataRecord);
+    }
+    
     private String buildConflictSQL(final DataRecord dataRecord) {
         StringBuilder result = new StringBuilder(" ON CONFLICT (");
         for (Column each : RecordUtil.extractPrimaryColumns(dataRecord)) {
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.scaling.postgresql.component.checker;
 import org.apache.shardingsphere.scaling.core.common.sqlbuilder.ScalingSQLBuilder;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
 import org.apache.shardingsphere.scaling.core.job.check.consistency.AbstractDataConsistencyChecker;
+import org.apache.shardingsphere.scaling.core.job.check.consistency.DataCheckResult;
 import org.apache.shardingsphere.scaling.postgresql.component.PostgreSQLScalingSQLBuilder;
 
 import java.util.Collections;
@@ -36,7 +37,7 @@ public final class PostgreSQLDataConsistencyChecker extends AbstractDataConsiste
     }
     
     @Override
-    public Map<String, Boolean> dataCheck() {
+    public Map<String, DataCheckResult> dataCheck() {
         return Collections.emptyMap();
     }
     
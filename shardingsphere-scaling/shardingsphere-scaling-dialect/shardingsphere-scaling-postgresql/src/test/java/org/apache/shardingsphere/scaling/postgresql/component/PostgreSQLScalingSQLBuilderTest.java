@@ -36,6 +36,12 @@ public final class PostgreSQLScalingSQLBuilderTest {
         assertThat(actual, is("INSERT INTO \"t_order\"(\"id\",\"name\") VALUES(?,?) ON CONFLICT (id) DO NOTHING"));
     }
     
+    @Test
+    public void assertBuildBatchInsertSQL() {
+        String actual = new PostgreSQLScalingSQLBuilder(Collections.emptyMap()).buildBatchInsertSQL(mockDataRecord(), 3);
+        assertThat(actual, is("INSERT INTO \"t_order\"(\"id\",\"name\") VALUES(?,?),(?,?),(?,?) ON CONFLICT (id) DO NOTHING"));
+    }
+    
     private DataRecord mockDataRecord() {
         DataRecord result = new DataRecord(new WalPosition(LogSequenceNumber.valueOf(100L)), 2);
         result.setTableName("t_order");
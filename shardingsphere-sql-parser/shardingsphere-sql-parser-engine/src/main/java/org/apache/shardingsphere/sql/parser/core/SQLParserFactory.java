@@ -51,6 +51,29 @@ public final class SQLParserFactory {
         return createSQLParser(createTokenStream(sql, lexerClass), parserClass);
     }
     
+    /**
+     * New instance of SQL parser.
+     *
+     * @param tokenStream token stream
+     * @param parserClass parser class
+     * @return SQL parser
+     */
+    public static SQLParser newInstance(final TokenStream tokenStream, final Class<? extends SQLParser> parserClass) {
+        return createSQLParser(tokenStream, parserClass);
+    }
+    
+    /**
+     * New instance of SQL lexer.
+     *
+     * @param sql SQL
+     * @param lexerClass lexer class
+     * @return SQL lexer
+     */
+    @SneakyThrows(ReflectiveOperationException.class)
+    public static Lexer newLexer(final String sql, final Class<? extends SQLLexer> lexerClass) {
+        return (Lexer) lexerClass.getConstructor(CharStream.class).newInstance(getSQLCharStream(sql));
+    }
+    
     @SneakyThrows(ReflectiveOperationException.class)
     private static SQLParser createSQLParser(final TokenStream tokenStream, final Class<? extends SQLParser> parserClass) {
         SQLParser result = parserClass.getConstructor(TokenStream.class).newInstance(tokenStream);
@@ -58,10 +81,8 @@ public final class SQLParserFactory {
         return result;
     }
     
-    @SneakyThrows(ReflectiveOperationException.class)
     private static TokenStream createTokenStream(final String sql, final Class<? extends SQLLexer> lexerClass) {
-        Lexer lexer = (Lexer) lexerClass.getConstructor(CharStream.class).newInstance(getSQLCharStream(sql));
-        return new CommonTokenStream(lexer);
+        return new CommonTokenStream(newLexer(sql, lexerClass));
     }
     
     private static CharStream getSQLCharStream(final String sql) {
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sql.parser.core.database.parser;
 
 import lombok.RequiredArgsConstructor;
 import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.TokenStream;
 import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ErrorNode;
@@ -44,16 +45,30 @@ public final class SQLParserExecutor {
      * @return parse tree
      */
     public ParseTree parse(final String sql) {
-        ParseASTNode result = twoPhaseParse(sql);
+        DatabaseTypedSQLParserFacade sqlParserFacade = DatabaseTypedSQLParserFacadeRegistry.getFacade(databaseType);
+        return parse(SQLParserFactory.newInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass()), sql);
+    }
+    
+    /**
+     * Parse lexed SQL.
+     * 
+     * @param tokenStream token stream of lexed SQL
+     * @param sql SQL to be parsed
+     * @return parse tree
+     */
+    public ParseTree parse(final TokenStream tokenStream, final String sql) {
+        return parse(SQLParserFactory.newInstance(tokenStream, DatabaseTypedSQLParserFacadeRegistry.getFacade(databaseType).getParserClass()), sql);
+    }
+    
+    private ParseTree parse(final SQLParser sqlParser, final String sql) {
+        ParseASTNode result = twoPhaseParse(sqlParser);
         if (result.getRootNode() instanceof ErrorNode) {
             throw new SQLParsingException("Unsupported SQL of `%s`", sql);
         }
         return result.getRootNode();
     }
     
-    private ParseASTNode twoPhaseParse(final String sql) {
-        DatabaseTypedSQLParserFacade sqlParserFacade = DatabaseTypedSQLParserFacadeRegistry.getFacade(databaseType);
-        SQLParser sqlParser = SQLParserFactory.newInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass());
+    private ParseASTNode twoPhaseParse(final SQLParser sqlParser) {
         try {
             ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.SLL);
             return (ParseASTNode) sqlParser.parse();
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.template;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.List;
+
+/**
+ * Parse tree template.
+ * 
+ * <p>Parse tree template is not thread safe, the tokens of parse tree will be rebound to the SQL which is bound at last.</p>
+ */
+@RequiredArgsConstructor
+public final class ParseTreeTemplate {
+    
+    private final List<RebindableToken> tokens;
+    
+    @Getter
+    private final ParseTree parseTree;
+    
+    /**
+     * Bind lexed SQL to parse tree template.
+     * 
+     * @param lexedSQL lexed SQL
+     * @return bound or not
+     */
+    public boolean bind(final LexedSQL lexedSQL) {
+        List<RebindableToken> actualTokens = lexedSQL.getTokens();
+        if (tokens == actualTokens) {
+            return true;
+        }
+        if (tokens.size() != actualTokens.size()) {
+            return false;
+        }
+        for (int i = 0; i < tokens.size(); i++) {
+            if (tokens.get(i).getType() != actualTokens.get(i).getType()) {
+                return false;
+            }
+        }
+        for (int i = 0; i < tokens.size(); i++) {
+            tokens.get(i).rebind(actualTokens.get(i));
+        }
+        return true;
+    }
+}
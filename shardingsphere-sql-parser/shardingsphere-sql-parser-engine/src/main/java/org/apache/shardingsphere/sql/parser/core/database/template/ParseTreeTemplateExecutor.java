@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.template;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
+import org.apache.shardingsphere.sql.parser.core.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.core.database.parser.DatabaseTypedSQLParserFacadeRegistry;
+import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parse tree template executor.
+ */
+public final class ParseTreeTemplateExecutor {
+    
+    private static final Collection<String> LITERAL_TOKEN_NAMES = new HashSet<>(Arrays.asList(
+            "STRING_", "SINGLE_QUOTED_TEXT", "NCHAR_TEXT", "NUMBER_", "INTEGER_", "INT_NUM_", "FLOAT_NUM_", "DECIMAL_NUM_", "HEX_DIGIT_", "BIT_NUM_"));
+    
+    private static final String LITERAL_PLACEHOLDER = "?";
+    
+    private static final Map<Class<? extends SQLLexer>, Collection<Integer>> LITERAL_TOKEN_TYPES = new ConcurrentHashMap<>();
+    
+    private final String databaseType;
+    
+    private final SQLParserExecutor sqlParserExecutor;
+    
+    public ParseTreeTemplateExecutor(final String databaseType) {
+        this.databaseType = databaseType;
+        sqlParserExecutor = new SQLParserExecutor(databaseType);
+    }
+    
+    /**
+     * Lex SQL and replace literals with placeholders.
+     * 
+     * @param sql SQL to be lexed
+     * @return lexed SQL
+     */
+    public LexedSQL lex(final String sql) {
+        Class<? extends SQLLexer> lexerClass = DatabaseTypedSQLParserFacadeRegistry.getFacade(databaseType).getLexerClass();
+        Lexer lexer = SQLParserFactory.newLexer(sql, lexerClass);
+        lexer.setTokenFactory(RebindableTokenFactory.INSTANCE);
+        Collection<Integer> literalTokenTypes = LITERAL_TOKEN_TYPES.computeIfAbsent(lexerClass, key -> getLiteralTokenTypes(lexer.getVocabulary()));
+        List<RebindableToken> tokens = new ArrayList<>();
+        StringBuilder parameterizedSQL = new StringBuilder(sql.length());
+        Token token = lexer.nextToken();
+        while (Token.EOF != token.getType()) {
+            tokens.add((RebindableToken) token);
+            parameterizedSQL.append(literalTokenTypes.contains(token.getType()) ? LITERAL_PLACEHOLDER + token.getType() : token.getText()).append(' ');
+            token = lexer.nextToken();
+        }
+        tokens.add((RebindableToken) token);
+        return new LexedSQL(sql, parameterizedSQL.toString(), tokens);
+    }
+    
+    private Collection<Integer> getLiteralTokenTypes(final Vocabulary vocabulary) {
+        Collection<Integer> result = new HashSet<>();
+        for (int i = 0; i <= vocabulary.getMaxTokenType(); i++) {
+            if (LITERAL_TOKEN_NAMES.contains(vocabulary.getSymbolicName(i))) {
+                result.add(i);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Parse lexed SQL to parse tree template.
+     * 
+     * @param lexedSQL lexed SQL
+     * @return parse tree template
+     */
+    public ParseTreeTemplate parse(final LexedSQL lexedSQL) {
+        return new ParseTreeTemplate(lexedSQL.getTokens(), sqlParserExecutor.parse(new CommonTokenStream(new ListTokenSource(lexedSQL.getTokens())), lexedSQL.getSql()));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.template;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.Pair;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class ParseTreeTemplateTest {
+    
+    @Test
+    public void assertBind() {
+        List<RebindableToken> templateTokens = createTokens("id = 1", 1, 2, 3);
+        ParseTreeTemplate template = new ParseTreeTemplate(templateTokens, mock(ParseTree.class));
+        assertTrue(template.bind(new LexedSQL("id = 100", "id = ?3", createTokens("id = 100", 1, 2, 3))));
+        assertThat(templateTokens.get(2).getText(), is("100"));
+        assertThat(templateTokens.get(2).getStartIndex(), is(5));
+        assertThat(templateTokens.get(2).getStopIndex(), is(7));
+    }
+    
+    @Test
+    public void assertBindWithDifferentTokenTypes() {
+        List<RebindableToken> templateTokens = createTokens("id = 1", 1, 2, 3);
+        ParseTreeTemplate template = new ParseTreeTemplate(templateTokens, mock(ParseTree.class));
+        assertFalse(template.bind(new LexedSQL("id = 'a'", "id = ?4", createTokens("id = 'a'", 1, 2, 4))));
+        assertThat(templateTokens.get(2).getText(), is("1"));
+    }
+    
+    private List<RebindableToken> createTokens(final String sql, final int... types) {
+        CharStream charStream = CharStreams.fromString(sql);
+        String[] texts = sql.split(" ");
+        RebindableToken[] result = new RebindableToken[types.length];
+        int startIndex = 0;
+        for (int i = 0; i < types.length; i++) {
+            int stopIndex = startIndex + texts[i].length() - 1;
+            result[i] = RebindableTokenFactory.INSTANCE.create(new Pair<>(null, charStream), types[i], null, Token.DEFAULT_CHANNEL, startIndex, stopIndex, 1, startIndex);
+            startIndex = stopIndex + 2;
+        }
+        return Arrays.asList(result);
+    }
+}